@@ -0,0 +1,33 @@
+package com.dooring.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 링크 발급 시 shortCode 인코딩 (순번 → 7자리 base62)
+ * 단일 스레드 / 동시 발급(4스레드) 비교 — 공유 상태 경합이 없는지 확인용
+ */
+@State(Scope.Benchmark)
+public class ShortCodeGeneratorBenchmark {
+
+    private final ShortCodeGenerator generator = new ShortCodeGenerator();
+
+    /** 스레드별 순번 (블록 하나를 스레드가 소진하는 상황과 같음) */
+    @State(Scope.Thread)
+    public static class Sequence {
+        long next;
+    }
+
+    @Benchmark
+    public String generate(Sequence sequence) {
+        return generator.generate(sequence.next++);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String generateConcurrently(Sequence sequence) {
+        return generator.generate(sequence.next++);
+    }
+}
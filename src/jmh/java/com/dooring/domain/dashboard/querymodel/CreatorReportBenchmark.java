@@ -0,0 +1,87 @@
+package com.dooring.domain.dashboard.querymodel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 크리에이터 대시보드 응답 조립 (쿼리 결과 행 → LinkPerformance → CreatorReport + 파생 지표)
+ * 행 매핑은 CreatorReportQueryAdapter와 동일한 캐스팅
+ */
+@State(Scope.Benchmark)
+public class CreatorReportBenchmark {
+
+    @Param({"10", "1000"})
+    public int linkCount;
+
+    private Object[] summaryRow;
+    private List<Object[]> linkRows;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42); // 고정 시드 — 실행마다 같은 데이터
+        linkRows = new ArrayList<>(linkCount);
+        long totalClicks = 0;
+        long totalConversions = 0;
+        for (int i = 0; i < linkCount; i++) {
+            long clicks = random.nextLong(10_000);
+            long conversions = clicks == 0 ? 0 : random.nextLong(clicks / 20 + 1);
+            totalClicks += clicks;
+            totalConversions += conversions;
+            linkRows.add(new Object[]{
+                    (long) i, "code" + i, "상품 " + i, clicks, conversions,
+                    BigDecimal.valueOf(conversions * 3000)
+            });
+        }
+        summaryRow = new Object[]{
+                1L, "벤치크리에이터", (long) linkCount, totalClicks, totalConversions,
+                new BigDecimal("120000"), new BigDecimal("450000"), new BigDecimal("900000")
+        };
+    }
+
+    @Benchmark
+    public void assembleReport(Blackhole blackhole) {
+        List<LinkPerformance> linkPerformances = linkRows.stream()
+                .map(row -> new LinkPerformance(
+                        ((Number) row[0]).longValue(),
+                        (String) row[1],
+                        (String) row[2],
+                        ((Number) row[3]).longValue(),
+                        ((Number) row[4]).longValue(),
+                        (BigDecimal) row[5]
+                ))
+                .toList();
+
+        CreatorReport report = new CreatorReport(
+                ((Number) summaryRow[0]).longValue(),
+                (String) summaryRow[1],
+                ((Number) summaryRow[2]).longValue(),
+                ((Number) summaryRow[3]).longValue(),
+                ((Number) summaryRow[4]).longValue(),
+                (BigDecimal) summaryRow[5],
+                (BigDecimal) summaryRow[6],
+                (BigDecimal) summaryRow[7],
+                linkPerformances
+        );
+
+        blackhole.consume(report.getTotalCommission());
+        blackhole.consume(report.getConversionRate());
+        blackhole.consume(report.getRevenuePerClick());
+        blackhole.consume(report.getRevenuePerConversion());
+        blackhole.consume(report.getAverageClicksPerLink());
+        blackhole.consume(report.getAverageConversionsPerLink());
+        for (LinkPerformance performance : report.getLinkPerformances()) {
+            blackhole.consume(performance.getConversionRate());
+            blackhole.consume(performance.getRevenuePerClick());
+            blackhole.consume(performance.getRevenuePerConversion());
+        }
+    }
+}
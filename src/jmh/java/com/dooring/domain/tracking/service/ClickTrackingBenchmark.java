@@ -0,0 +1,104 @@
+package com.dooring.domain.tracking.service;
+
+import com.dooring.common.util.TimeOrderedClickTokenGenerator;
+import com.dooring.domain.catalog.entity.Campaign;
+import com.dooring.domain.catalog.entity.Product;
+import com.dooring.domain.catalog.service.CampaignService;
+import com.dooring.domain.catalog.service.ProductService;
+import com.dooring.domain.tracking.dto.ClickLog;
+import com.dooring.domain.tracking.dto.ClickRecordResult;
+import com.dooring.domain.tracking.entity.Link;
+import com.dooring.domain.tracking.port.ClickLogWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 리다이렉트 경로: ClickTrackingService.recordClick
+ *
+ * - ShortCodeResolver는 실제 구현 (첫 호출만 stand-in 서비스에서 적재, 이후 캐시 적중)
+ * - ClickLogWriter는 메모리 stand-in → 요청 스레드가 부담하는 비용만 측정
+ *   (write-behind 모드에서 요청 스레드가 하는 일과 같은 범위)
+ */
+@State(Scope.Benchmark)
+public class ClickTrackingBenchmark {
+
+    private static final String SHORT_CODE = "bench001";
+
+    private ClickTrackingService clickTrackingService;
+    private final CountingClickLogWriter clickLogWriter = new CountingClickLogWriter();
+
+    @Setup
+    public void setUp() {
+        Link link = mock(Link.class);
+        when(link.getId()).thenReturn(1L);
+        when(link.getProductId()).thenReturn(10L);
+
+        Product product = mock(Product.class);
+        when(product.getId()).thenReturn(10L);
+        when(product.getProductUrl()).thenReturn("https://example.com/product/10");
+
+        Campaign campaign = mock(Campaign.class);
+        when(campaign.getId()).thenReturn(100L);
+        when(campaign.getCommissionAmount()).thenReturn(new BigDecimal("3000"));
+        when(campaign.getCommissionRate()).thenReturn(new BigDecimal("0.05"));
+        when(campaign.getStartsAt()).thenReturn(LocalDateTime.now().minusDays(1));
+        when(campaign.getEndsAt()).thenReturn(LocalDateTime.now().plusDays(90));
+
+        LinkService linkService = mock(LinkService.class);
+        when(linkService.findEntityByShortCode(SHORT_CODE)).thenReturn(link);
+        ProductService productService = mock(ProductService.class);
+        when(productService.findEntityById(10L)).thenReturn(product);
+        CampaignService campaignService = mock(CampaignService.class);
+        when(campaignService.findEnabledByProductOptional(10L)).thenReturn(Optional.of(campaign));
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ShortCodeResolver shortCodeResolver = new ShortCodeResolver(
+                linkService, productService, campaignService, meterRegistry, 100_000, Duration.ofMinutes(5));
+        clickTrackingService = new ClickTrackingService(
+                shortCodeResolver, clickLogWriter, new TimeOrderedClickTokenGenerator(),
+                // 같은 IP·UA로 반복 호출 → 필터를 켜면 첫 호출 외엔 전부 중복 처리되므로 끔 (필터 비용은 DuplicateClickFilterBenchmark)
+                new DuplicateClickFilter(false, Duration.ofSeconds(30), 100_000),
+                meterRegistry);
+
+        // 캐시 적재 (측정 구간에서는 항상 적중)
+        clickTrackingService.recordClick(SHORT_CODE, "127.0.0.1", "JMH/1.37");
+    }
+
+    @Benchmark
+    public ClickRecordResult recordClick() {
+        return clickTrackingService.recordClick(SHORT_CODE, "127.0.0.1", "JMH/1.37");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ClickRecordResult recordClickConcurrently() {
+        return clickTrackingService.recordClick(SHORT_CODE, "127.0.0.1", "JMH/1.37");
+    }
+
+    /**
+     * 클릭 로그를 보관하지 않고 건수만 세는 writer (장시간 측정에도 힙 일정)
+     */
+    static class CountingClickLogWriter implements ClickLogWriter {
+
+        private final LongAdder appended = new LongAdder();
+
+        @Override
+        public void append(ClickLog clickLog) {
+            appended.increment();
+        }
+    }
+}
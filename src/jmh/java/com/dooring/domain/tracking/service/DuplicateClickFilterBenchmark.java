@@ -0,0 +1,51 @@
+package com.dooring.domain.tracking.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 리다이렉트마다 실행되는 연타 클릭 판정 (DuplicateClickFilter.findRecentToken → 처음 클릭이면 remember)
+ *
+ * 키는 매 호출 무작위 — 캐시 조회 1회 + 처음 클릭이면 remember의 캐시 적재 (max-size를 넘으면 축출 비용 포함)
+ */
+@State(Scope.Benchmark)
+public class DuplicateClickFilterBenchmark {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (iPhone; CPU iPhone OS 17_0 like Mac OS X)";
+    private static final String TOKEN = "0192d4e5-7b3a-7c1e-9f00-000000000000";
+
+    private DuplicateClickFilter filter;
+
+    @Setup
+    public void setUp() {
+        filter = new DuplicateClickFilter(true, Duration.ofSeconds(30), 100_000);
+    }
+
+    @Benchmark
+    public String findRecentToken() {
+        return check();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String findRecentTokenConcurrently() {
+        return check();
+    }
+
+    private String check() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long linkId = random.nextLong(1, 10_000);
+        String ip = "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(256);
+        String token = filter.findRecentToken(linkId, ip, USER_AGENT);
+        if (token == null) {
+            filter.remember(linkId, ip, USER_AGENT, TOKEN);
+        }
+        return token;
+    }
+}
@@ -0,0 +1,57 @@
+package com.dooring.domain.tracking.service;
+
+import com.dooring.domain.tracking.dto.AttributionSessionRef;
+import com.dooring.domain.tracking.dto.ClickLog;
+import com.dooring.domain.tracking.port.AttributionSessionStore;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크용 세션 저장소 stand-in (메모리 Map)
+ * 저장소 왕복 비용을 빼고 서비스 코드 자체의 비용만 측정
+ */
+class InMemoryAttributionSessionStore implements AttributionSessionStore {
+
+    private final Map<String, Entry> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private record Entry(long sessionId, LocalDateTime expiresAt) {
+    }
+
+    @Override
+    public void saveAll(List<ClickLog> clickLogs) {
+        for (ClickLog clickLog : clickLogs) {
+            sessions.put(clickLog.clickToken(), new Entry(sequence.incrementAndGet(), clickLog.expiresAt()));
+        }
+    }
+
+    @Override
+    public Optional<AttributionSessionRef> findValid(String sessionToken, LocalDateTime now) {
+        Entry entry = sessions.get(sessionToken);
+        if (entry == null || !entry.expiresAt().isAfter(now)) {
+            return Optional.empty();
+        }
+        return Optional.of(new AttributionSessionRef(sessionToken, entry.sessionId()));
+    }
+
+    @Override
+    public Map<String, AttributionSessionRef> findAllValid(Collection<String> sessionTokens, LocalDateTime now) {
+        Map<String, AttributionSessionRef> valid = new HashMap<>();
+        for (String sessionToken : sessionTokens) {
+            findValid(sessionToken, now).ifPresent(ref -> valid.put(sessionToken, ref));
+        }
+        return valid;
+    }
+
+    @Override
+    public boolean usesSessionTable() {
+        return false;
+    }
+}
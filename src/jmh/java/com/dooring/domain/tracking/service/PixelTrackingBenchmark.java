@@ -0,0 +1,84 @@
+package com.dooring.domain.tracking.service;
+
+import com.dooring.domain.tracking.dto.ClickLog;
+import com.dooring.domain.tracking.repository.PixelEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 픽셀 수신 경로: PixelTrackingService.recordPixelEvent
+ *
+ * - pixel_events는 메모리 Set stand-in (INSERT ... ON CONFLICT DO NOTHING 의미만 재현)
+ * - 세션 저장소는 InMemoryAttributionSessionStore
+ * - scenario
+ *   - attributed : 유효한 세션 토큰 + 신규 주문
+ *   - orphan     : 세션 토큰 없음 + 신규 주문
+ *   - duplicate  : 이미 처리된 주문 재전송
+ */
+@State(Scope.Benchmark)
+public class PixelTrackingBenchmark {
+
+    private static final long STORE_ID = 1L;
+    private static final String SESSION_TOKEN = "bench-session-token";
+
+    @Param({"attributed", "orphan", "duplicate"})
+    public String scenario;
+
+    private PixelTrackingService pixelTrackingService;
+    private final AtomicLong orderSequence = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        InMemoryAttributionSessionStore sessionStore = new InMemoryAttributionSessionStore();
+        LocalDateTime now = LocalDateTime.now();
+        sessionStore.saveAll(List.of(new ClickLog(
+                1L, 100L, null, null, SESSION_TOKEN, "127.0.0.1", "JMH/1.37", now, now.plusHours(24))));
+
+        pixelTrackingService = new PixelTrackingService(
+                inMemoryPixelEventRepository(), sessionStore, new SimpleMeterRegistry());
+        pixelTrackingService.recordPixelEvent(STORE_ID, "ORDER-DUPLICATE", null);
+    }
+
+    @Benchmark
+    public boolean recordPixelEvent() {
+        return switch (scenario) {
+            case "attributed" -> pixelTrackingService.recordPixelEvent(
+                    STORE_ID, "ORDER-" + orderSequence.incrementAndGet(), SESSION_TOKEN);
+            case "orphan" -> pixelTrackingService.recordPixelEvent(
+                    STORE_ID, "ORDER-" + orderSequence.incrementAndGet(), null);
+            default -> pixelTrackingService.recordPixelEvent(STORE_ID, "ORDER-DUPLICATE", SESSION_TOKEN);
+        };
+    }
+
+    /**
+     * insertIgnoringDuplicate만 구현한 PixelEventRepository stand-in
+     * 신규 주문 키는 보관하지 않고 번호만 확인 (장시간 측정에도 힙 일정)
+     */
+    private static PixelEventRepository inMemoryPixelEventRepository() {
+        Set<String> recordedOrders = ConcurrentHashMap.newKeySet();
+        return (PixelEventRepository) Proxy.newProxyInstance(
+                PixelEventRepository.class.getClassLoader(),
+                new Class<?>[]{PixelEventRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("insertIgnoringDuplicate")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    String externalOrderId = (String) args[1];
+                    if (externalOrderId.equals("ORDER-DUPLICATE")) {
+                        return recordedOrders.add(externalOrderId) ? 1 : 0;
+                    }
+                    return 1;
+                });
+    }
+}
@@ -0,0 +1,61 @@
+package com.dooring.infrastructure.security;
+
+import com.dooring.domain.identity.entity.UserStatus;
+import com.dooring.domain.identity.entity.UserType;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 인증 요청마다 실행되는 JwtAuthenticationFilter (AT 검증 + Principal 생성)
+ *
+ * - authenticate : 같은 AT 반복 요청 (검증 캐시 적중)
+ * - parseToken   : 캐시 없이 서명 검증 + 파싱 (토큰당 첫 요청 비용)
+ */
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+
+    /** application-local.yml 과 같은 로컬 개발용 키 */
+    private static final String SECRET = "ZG9vcmluZ1BhcnRuZXJzU2VjcmV0S2V5Rm9ySndrVG9rZW5BdXRoZW50aWNhdGlvbjIwMjY=";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationFilter filter;
+    private String accessToken;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private final FilterChain chain = (req, res) -> { };
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(
+                SECRET, 3_600_000L, 1_209_600_000L, 50_000L, new SimpleMeterRegistry());
+
+        filter = new JwtAuthenticationFilter(jwtTokenProvider);
+
+        accessToken = jwtTokenProvider.generateAccessToken(1L, UserType.CREATOR, UserStatus.ACTIVE);
+        request = new MockHttpServletRequest("GET", "/api/creator/links");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws Exception {
+        filter.doFilter(request, response, chain);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    @Benchmark
+    public Claims parseToken() {
+        return jwtTokenProvider.parseToken(accessToken);
+    }
+}
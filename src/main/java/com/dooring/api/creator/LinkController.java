@@ -1,8 +1,10 @@
 package com.dooring.api.creator;
 
 import com.dooring.common.dto.ApiResponse;
+import com.dooring.common.dto.CursorResponse;
 import com.dooring.domain.tracking.dto.CreateLinkRequest;
 import com.dooring.domain.tracking.dto.LinkResponse;
+import com.dooring.domain.tracking.dto.LinkSort;
 import com.dooring.domain.tracking.service.LinkService;
 import com.dooring.infrastructure.security.CreatorPrincipal;
 import jakarta.validation.Valid;
@@ -37,4 +39,15 @@ public class LinkController {
     ) {
         return ApiResponse.ok(linkService.getMyLinks(principal.getId()));
     }
+
+    /** 내 링크 목록 키셋 페이지 조회 (cursor = 이전 응답의 nextCursor) */
+    @GetMapping("/links/page")
+    public ApiResponse<CursorResponse<LinkResponse>> getMyLinkPage(
+            @AuthenticationPrincipal CreatorPrincipal principal,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "NEWEST") LinkSort sort
+    ) {
+        return ApiResponse.ok(linkService.getMyLinkPage(principal.getId(), cursor, size, sort));
+    }
 }
@@ -0,0 +1,67 @@
+package com.dooring.api.dashboard;
+
+import com.dooring.domain.dashboard.dto.CsvExport;
+import com.dooring.domain.dashboard.querymodel.ReportExportType;
+import com.dooring.domain.dashboard.service.ReportExportService;
+import com.dooring.infrastructure.security.CreatorPrincipal;
+import com.dooring.infrastructure.security.SellerPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * 리포트 CSV 내보내기 (gzip, 스트리밍)
+ * 응답 본문은 비동기 스레드에서 DB 커서를 읽으며 바로 쓰므로 ApiResponse로 감싸지 않음
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class ReportExportController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private final ReportExportService reportExportService;
+
+    /** 크리에이터 리포트 내보내기 (type = CLICKS | CONVERSIONS, 기간은 일 단위 양끝 포함) */
+    @GetMapping("/creator/export")
+    public ResponseEntity<StreamingResponseBody> exportCreatorReport(
+            @AuthenticationPrincipal CreatorPrincipal principal,
+            @RequestParam ReportExportType type,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return toResponse(reportExportService.exportCreatorReport(principal.getId(), type, from, to));
+    }
+
+    /** 셀러 리포트 내보내기 (type = CLICKS | CONVERSIONS, 기간은 일 단위 양끝 포함) */
+    @GetMapping("/seller/export")
+    public ResponseEntity<StreamingResponseBody> exportSellerReport(
+            @AuthenticationPrincipal SellerPrincipal principal,
+            @RequestParam ReportExportType type,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return toResponse(reportExportService.exportSellerReport(principal.getId(), type, from, to));
+    }
+
+    private ResponseEntity<StreamingResponseBody> toResponse(CsvExport export) {
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(export.filename()).build().toString())
+                .body(export.body()::writeTo);
+    }
+}
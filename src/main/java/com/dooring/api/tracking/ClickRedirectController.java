@@ -1,7 +1,10 @@
 package com.dooring.api.tracking;
 
+import com.dooring.common.exception.BusinessException;
 import com.dooring.domain.tracking.dto.ClickRecordResult;
 import com.dooring.domain.tracking.service.ClickTrackingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -11,36 +14,55 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @RestController
 @RequiredArgsConstructor
 public class ClickRedirectController {
 
     private final ClickTrackingService clickTrackingService;
+    private final MeterRegistry meterRegistry;
+    /** outcome → 타이머 (값 종류가 ErrorCode 수로 제한 → 처음 나올 때 1회 등록 후 재사용) */
+    private final Map<String, Timer> redirectTimers = new ConcurrentHashMap<>();
 
     /**
      * 어필리에이트 링크 클릭 — 클릭 기록 후 상품 페이지로 302 리다이렉트
      * public 엔드포인트 (인증 불필요)
+     *
+     * 메트릭: dooring.redirect (outcome = redirected | ErrorCode 소문자 | error)
      */
     @GetMapping("/r/{shortCode}")
     public ResponseEntity<Void> redirect(
             @PathVariable String shortCode,
             HttpServletRequest request) {
 
-        String ipAddress = resolveClientIp(request);
-        String userAgent = request.getHeader("User-Agent");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            String ipAddress = resolveClientIp(request);
+            String userAgent = request.getHeader("User-Agent");
 
-        ClickRecordResult result = clickTrackingService.recordClick(shortCode, ipAddress, userAgent);
+            ClickRecordResult result = clickTrackingService.recordClick(shortCode, ipAddress, userAgent);
+            outcome = "redirected";
 
-        return ResponseEntity.status(HttpStatus.FOUND)
-                .header(HttpHeaders.LOCATION, result.redirectUrl())
-                .build();
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .header(HttpHeaders.LOCATION, result.redirectUrl())
+                    .build();
+        } catch (BusinessException e) {
+            outcome = e.getErrorCode().name().toLowerCase();
+            throw e;
+        } finally {
+            sample.stop(redirectTimers.computeIfAbsent(outcome, tag -> Timer.builder("dooring.redirect")
+                    .description("short link redirect (controller)")
+                    .tag("outcome", tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)));
+        }
     }
 
+    /** 프록시 뒤 실제 클라이언트 IP — RemoteIpValve(server.forward-headers-strategy)가 신뢰 프록시 홉을 걷어낸 값 */
     private String resolveClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isBlank()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
         return request.getRemoteAddr();
     }
 }
@@ -1,6 +1,8 @@
 package com.dooring.api.tracking;
 
 import com.dooring.common.dto.ApiResponse;
+import com.dooring.domain.tracking.dto.PixelEventBatchRequest;
+import com.dooring.domain.tracking.dto.PixelEventBatchResponse;
 import com.dooring.domain.tracking.dto.PixelEventRequest;
 import com.dooring.domain.tracking.service.PixelTrackingService;
 import jakarta.validation.Valid;
@@ -31,4 +33,13 @@ public class PixelController {
         );
         return ApiResponse.ok(null);
     }
+
+    /**
+     * 픽셀 전환 이벤트 배치 수신 (인증 불필요, 최대 500건)
+     * - 주문 백로그 재전송용 — 이벤트별 RECORDED / DUPLICATE 결과 반환
+     */
+    @PostMapping("/pixel/batch")
+    public ApiResponse<PixelEventBatchResponse> receivePixelEvents(@RequestBody @Valid PixelEventBatchRequest request) {
+        return ApiResponse.ok(pixelTrackingService.recordPixelEvents(request.events()));
+    }
 }
@@ -0,0 +1,44 @@
+package com.dooring.api.webhook;
+
+import com.dooring.common.dto.ApiResponse;
+import com.dooring.infrastructure.external.platform.OrderWebhookDispatcher;
+import com.dooring.infrastructure.external.platform.OrderWebhookSignatureVerifier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/webhooks")
+@ConditionalOnProperty(name = "dooring.webhook.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class OrderWebhookController {
+
+    private final OrderWebhookSignatureVerifier signatureVerifier;
+    private final OrderWebhookDispatcher orderWebhookDispatcher;
+
+    /**
+     * 플랫폼 주문 웹훅 수신 (로그인 대신 HMAC 서명 검증, platform = cafe24 | imweb)
+     * - 서명이 없거나 다르면 401 — 본문 해석·큐 적재 전에 거절
+     * - 큐에 넣고 즉시 202 반환 — DB 반영은 워커가 비동기로
+     * - 큐 포화 시 503 (플랫폼 재전송, 반영은 멱등)
+     */
+    @PostMapping("/{platform}/orders")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<Void> receiveOrderWebhook(@PathVariable String platform,
+                                                 @RequestHeader HttpHeaders headers,
+                                                 @RequestBody byte[] body) {
+        signatureVerifier.verify(platform, headers, body);
+        orderWebhookDispatcher.submit(platform, new String(body, StandardCharsets.UTF_8));
+        return ApiResponse.ok(null);
+    }
+}
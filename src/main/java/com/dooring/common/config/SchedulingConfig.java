@@ -0,0 +1,14 @@
+package com.dooring.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄 작업 활성화 (@Scheduled)
+ * 가상 스레드 모드(spring.threads.virtual.enabled)면 Spring Boot가 스케줄러도 가상 스레드로 구성
+ * 플랫폼 스레드 모드의 스케줄러 스레드 수는 spring.task.scheduling.pool.size (기본 1 → 정리 작업끼리 줄 서지 않게 늘려 둠)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
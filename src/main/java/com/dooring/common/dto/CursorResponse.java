@@ -0,0 +1,27 @@
+package com.dooring.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 키셋(커서) 페이지 응답
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨 요청 (마지막 페이지면 null)
+ */
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> items;
+    private final Long nextCursor;
+    private final boolean hasNext;
+
+    private CursorResponse(List<T> items, Long nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    public static <T> CursorResponse<T> of(List<T> items, Long nextCursor) {
+        return new CursorResponse<>(items, nextCursor);
+    }
+}
@@ -34,7 +34,16 @@ public enum ErrorCode {
 
     // Attribution
     DUPLICATE_ATTRIBUTION(409, "이미 처리된 주문입니다"),
-    ATTRIBUTION_WINDOW_EXPIRED(400, "어트리뷰션 윈도우가 만료되었습니다");
+    ATTRIBUTION_WINDOW_EXPIRED(400, "어트리뷰션 윈도우가 만료되었습니다"),
+
+    // Dashboard
+    REPORT_EXPORT_BUSY(429, "진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요"),
+
+    // Order
+    UNSUPPORTED_PLATFORM(404, "지원하지 않는 플랫폼입니다"),
+    INVALID_WEBHOOK_PAYLOAD(400, "웹훅 본문을 해석할 수 없습니다"),
+    INVALID_WEBHOOK_SIGNATURE(401, "웹훅 서명이 올바르지 않습니다"),
+    WEBHOOK_QUEUE_FULL(503, "잠시 후 다시 시도해주세요");
 
     private final int status;
     private final String message;
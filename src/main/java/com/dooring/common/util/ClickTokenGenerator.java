@@ -0,0 +1,14 @@
+package com.dooring.common.util;
+
+/**
+ * 클릭 토큰(= 어트리뷰션 세션 토큰) 생성기
+ * dooring.tracking.click-token 으로 선택
+ * - uuid-v7 (기본값) : TimeOrderedClickTokenGenerator — 시간순 UUIDv7, 인덱스 끝부분에만 INSERT
+ * - random          : RandomClickTokenGenerator — UUIDv4 (기존 방식)
+ *
+ * 두 구현 모두 36자 UUID 문자열 → 컬럼·기존 토큰과 호환
+ */
+public interface ClickTokenGenerator {
+
+    String generate();
+}
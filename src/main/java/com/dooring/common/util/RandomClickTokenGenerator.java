@@ -0,0 +1,20 @@
+package com.dooring.common.util;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * UUIDv4 클릭 토큰 (기존 방식)
+ * 값이 무작위 → clicks_token_idx 전체에 흩어져 INSERT (페이지 분할·캐시 미스)
+ */
+@Component
+@ConditionalOnProperty(name = "dooring.tracking.click-token", havingValue = "random")
+public class RandomClickTokenGenerator implements ClickTokenGenerator {
+
+    @Override
+    public String generate() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,30 @@
+package com.dooring.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 해시 (hex)
+ *
+ * MessageDigest.getInstance는 호출마다 Provider 조회 + 인스턴스 생성 → 스레드별 1개를 재사용
+ * (MessageDigest는 스레드 안전하지 않음, digest() 호출 후 자동 reset)
+ */
+public final class Sha256 {
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private Sha256() {
+    }
+
+    public static String hex(String input) {
+        return HexFormat.of().formatHex(DIGEST.get().digest(input.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -2,20 +2,62 @@ package com.dooring.common.util;
 
 import org.springframework.stereotype.Component;
 
-import java.security.SecureRandom;
-
+/**
+ * 순번 → 7자리 base62 shortCode 인코더
+ *
+ * - 42비트 Feistel 순열 + cycle-walking으로 [0, 62^7) 안에서 전단사 → 서로 다른 순번은 항상 다른 코드
+ * - 연속 순번도 코드가 무작위처럼 흩어짐 (발급량·순서 노출 방지)
+ * - 상태 없음, 난수 생성기 없음 → 스레드 간 경합 없음
+ *
+ * ROUND_KEYS를 바꾸면 이미 발급된 코드와 충돌할 수 있으므로 절대 변경 금지
+ */
 @Component
 public class ShortCodeGenerator {
 
     private static final String CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
-    private static final int LENGTH = 8;
-    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int LENGTH = 7;
+    private static final long SPACE = 3_521_614_606_208L; // 62^7
+
+    private static final int HALF_BITS = 21;               // 2^42 > 62^7
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final long[] ROUND_KEYS = {
+            0x3C6EF372FE94F82BL, 0xA54FF53A5F1D36F1L, 0x510E527FADE682D1L, 0x9B05688C2B3E6C1FL
+    };
 
-    public String generate() {
-        StringBuilder sb = new StringBuilder(LENGTH);
-        for (int i = 0; i < LENGTH; i++) {
-            sb.append(CHARS.charAt(RANDOM.nextInt(CHARS.length())));
+    /**
+     * @param sequence 0 이상 62^7 미만
+     */
+    public String generate(long sequence) {
+        if (sequence < 0 || sequence >= SPACE) {
+            throw new IllegalArgumentException("shortCode sequence out of range: " + sequence);
         }
-        return sb.toString();
+        long value = sequence;
+        do {
+            value = permute(value);
+        } while (value >= SPACE);
+
+        char[] code = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            code[i] = CHARS.charAt((int) (value % CHARS.length()));
+            value /= CHARS.length();
+        }
+        return new String(code);
+    }
+
+    /** 42비트 공간의 전단사 (4라운드 Feistel) */
+    private static long permute(long value) {
+        long left = value >>> HALF_BITS;
+        long right = value & HALF_MASK;
+        for (long key : ROUND_KEYS) {
+            long mixed = left ^ round(right, key);
+            left = right;
+            right = mixed;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    private static long round(long half, long key) {
+        long h = (half ^ key) * 0x9E3779B97F4A7C15L;
+        return (h >>> 29) & HALF_MASK;
     }
 }
@@ -41,7 +41,7 @@ public class CommissionLedger {
      * PENDING → CONFIRMED
      */
     public void confirm() {
-        if (this.status != CommissionStatus.PENDING) {
+        if (!this.status.canTransitionTo(CommissionStatus.CONFIRMED)) {
             throw new IllegalStateException(
                 "커미션 확정은 PENDING 상태에서만 가능합니다. 현재 상태: " + this.status
             );
@@ -56,7 +56,7 @@ public class CommissionLedger {
      * CONFIRMED → PAID
      */
     public void markAsPaid() {
-        if (this.status != CommissionStatus.CONFIRMED) {
+        if (!this.status.canTransitionTo(CommissionStatus.PAID)) {
             throw new IllegalStateException(
                 "커미션 지급은 CONFIRMED 상태에서만 가능합니다. 현재 상태: " + this.status
             );
@@ -71,14 +71,9 @@ public class CommissionLedger {
      * PENDING 또는 CONFIRMED → CANCELLED
      */
     public void cancel() {
-        if (this.status == CommissionStatus.PAID) {
+        if (!this.status.canTransitionTo(CommissionStatus.CANCELLED)) {
             throw new IllegalStateException(
-                "이미 지급된 커미션은 취소할 수 없습니다."
-            );
-        }
-        if (this.status == CommissionStatus.CANCELLED) {
-            throw new IllegalStateException(
-                "이미 취소된 커미션입니다."
+                "커미션 취소는 PENDING 또는 CONFIRMED 상태에서만 가능합니다. 현재 상태: " + this.status
             );
         }
         this.status = CommissionStatus.CANCELLED;
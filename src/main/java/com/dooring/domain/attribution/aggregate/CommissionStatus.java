@@ -1,5 +1,8 @@
 package com.dooring.domain.attribution.aggregate;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * 커미션 상태
  */
@@ -22,5 +25,29 @@ public enum CommissionStatus {
     /**
      * 커미션 취소 (환불 등)
      */
-    CANCELLED
+    CANCELLED;
+
+    /**
+     * 상태 전이 허용 여부
+     * - PENDING → CONFIRMED / CANCELLED
+     * - CONFIRMED → PAID / CANCELLED
+     * - PAID, CANCELLED 이후로는 전이 없음
+     */
+    public boolean canTransitionTo(CommissionStatus next) {
+        return switch (this) {
+            case PENDING -> next == CONFIRMED || next == CANCELLED;
+            case CONFIRMED -> next == PAID || next == CANCELLED;
+            case PAID, CANCELLED -> false;
+        };
+    }
+
+    /**
+     * target으로 전이할 수 있는 이전 상태 목록
+     * 일괄 전이 UPDATE의 WHERE status 조건으로 사용 (단건 전이와 같은 규칙을 SQL에서 강제)
+     */
+    public static List<CommissionStatus> sourcesOf(CommissionStatus target) {
+        return Arrays.stream(values())
+            .filter(status -> status.canTransitionTo(target))
+            .toList();
+    }
 }
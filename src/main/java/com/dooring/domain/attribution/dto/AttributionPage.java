@@ -0,0 +1,17 @@
+package com.dooring.domain.attribution.dto;
+
+import com.dooring.domain.attribution.aggregate.Attribution;
+
+import java.util.List;
+
+/**
+ * Attribution 키셋 페이지 (id 내림차순 = 최신 귀속 먼저)
+ *
+ * @param nextCursor 다음 페이지 요청 시 넘길 마지막 Attribution ID (마지막 페이지면 null)
+ */
+public record AttributionPage(List<Attribution> attributions, Long nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -1,13 +1,20 @@
 package com.dooring.domain.attribution.port;
 
 import com.dooring.domain.attribution.aggregate.Attribution;
+import com.dooring.domain.attribution.dto.AttributionPage;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Attribution 조회 Port
  * 구현체는 infrastructure/persistence/attribution/에 위치
+ *
+ * 캠페인·크리에이터·셀러 단위 목록은 건수가 수십만까지 커질 수 있음
+ * - findAllBy*  : 전체를 List로 적재 — 건수가 작다고 확실할 때만
+ * - findPageBy* : id 키셋 페이지 (화면·API 페이징)
+ * - streamBy*   : 정산·내보내기 배치용, 메모리 사용량 일정
  */
 public interface AttributionReader {
 
@@ -69,4 +76,57 @@ public interface AttributionReader {
      * @return Attribution 목록
      */
     List<Attribution> findAllBySellerId(Long sellerId);
+
+    // ==================== 키셋 페이지 ====================
+    //
+    // id 내림차순 (attributed_at은 생성 시각이므로 id 순서 = 귀속 시각 순서)
+    // cursor: 이전 페이지의 nextCursor, 첫 페이지는 null
+
+    /**
+     * 캠페인별 Attribution 페이지 조회
+     *
+     * @param campaignId 캠페인 ID
+     * @param cursor 이 ID보다 작은 Attribution부터 (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return Attribution 페이지 (CommissionLedger 포함)
+     */
+    AttributionPage findPageByCampaignId(Long campaignId, Long cursor, int size);
+
+    /**
+     * 크리에이터별 Attribution 페이지 조회
+     * CommissionLedger의 creatorId 기준
+     */
+    AttributionPage findPageByCreatorId(Long creatorId, Long cursor, int size);
+
+    /**
+     * 셀러별 Attribution 페이지 조회
+     * CommissionLedger의 sellerId 기준
+     */
+    AttributionPage findPageBySellerId(Long sellerId, Long cursor, int size);
+
+    // ==================== 스트리밍 ====================
+    //
+    // 결과를 fetch size 단위로 DB에서 끌어오며, 변환한 엔티티는 영속성 컨텍스트에서 바로 분리
+    // - 호출 측 읽기 전용 트랜잭션(@Transactional(readOnly = true)) 안에서만 호출 가능
+    // - 반드시 try-with-resources로 닫을 것 (커서·커넥션 반환)
+
+    /**
+     * 캠페인별 Attribution 스트리밍 조회 (id 내림차순)
+     *
+     * @param campaignId 캠페인 ID
+     * @return Attribution 스트림 (CommissionLedger 포함)
+     */
+    Stream<Attribution> streamByCampaignId(Long campaignId);
+
+    /**
+     * 크리에이터별 Attribution 스트리밍 조회 (id 내림차순)
+     * CommissionLedger의 creatorId 기준
+     */
+    Stream<Attribution> streamByCreatorId(Long creatorId);
+
+    /**
+     * 셀러별 Attribution 스트리밍 조회 (id 내림차순)
+     * CommissionLedger의 sellerId 기준
+     */
+    Stream<Attribution> streamBySellerId(Long sellerId);
 }
@@ -2,6 +2,8 @@ package com.dooring.domain.attribution.port;
 
 import com.dooring.domain.attribution.aggregate.Attribution;
 
+import java.util.Collection;
+
 /**
  * Attribution 저장 Port
  * 구현체는 infrastructure/persistence/attribution/에 위치
@@ -29,4 +31,43 @@ public interface AttributionWriter {
      * @return 저장되거나 이미 존재하는 Attribution
      */
     Attribution saveIdempotent(Attribution attribution);
+
+    // ==================== 커미션 일괄 상태 전이 ====================
+    //
+    // Aggregate를 하나씩 로드·변경·저장하지 않고 조건에 맞는 원장을 UPDATE 1회로 전이
+    // - 전이 규칙은 CommissionStatus.canTransitionTo와 동일하게 WHERE status 조건으로 강제
+    //   → 이미 전이됐거나 전이할 수 없는 상태의 원장은 건너뜀 (예외 없음, 재실행해도 안전)
+    // - 반환값은 실제로 전이된 원장 수
+
+    /**
+     * 주문들의 PENDING 커미션 확정 (구매 확정 시)
+     *
+     * @param orderIds 주문 ID 목록
+     * @return CONFIRMED로 전이된 원장 수
+     */
+    int confirmCommissionsByOrderIds(Collection<Long> orderIds);
+
+    /**
+     * 캠페인들의 PENDING 커미션 확정
+     *
+     * @param campaignIds 캠페인 ID 목록
+     * @return CONFIRMED로 전이된 원장 수
+     */
+    int confirmCommissionsByCampaignIds(Collection<Long> campaignIds);
+
+    /**
+     * 크리에이터의 CONFIRMED 커미션 지급 완료 처리
+     *
+     * @param creatorId 크리에이터 ID
+     * @return PAID로 전이된 원장 수
+     */
+    int markCommissionsAsPaidByCreatorId(Long creatorId);
+
+    /**
+     * 주문들의 PENDING / CONFIRMED 커미션 취소 (환불 등)
+     *
+     * @param orderIds 주문 ID 목록
+     * @return CANCELLED로 전이된 원장 수
+     */
+    int cancelCommissionsByOrderIds(Collection<Long> orderIds);
 }
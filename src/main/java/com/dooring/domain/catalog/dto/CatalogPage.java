@@ -0,0 +1,11 @@
+package com.dooring.domain.catalog.dto;
+
+import java.util.List;
+
+/**
+ * 플랫폼 상품 목록 1페이지
+ *
+ * @param nextCursor 다음 페이지 요청 값 (마지막 페이지면 null)
+ */
+public record CatalogPage(List<CatalogProduct> products, String nextCursor) {
+}
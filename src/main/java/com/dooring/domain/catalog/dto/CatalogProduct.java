@@ -0,0 +1,28 @@
+package com.dooring.domain.catalog.dto;
+
+import com.dooring.common.util.Sha256;
+
+import java.math.BigDecimal;
+
+/**
+ * 플랫폼 API 상품 1건 (플랫폼별 응답을 공통 형태로 변환한 것)
+ */
+public record CatalogProduct(
+        String externalProductId,
+        String name,
+        String imageUrl,
+        String productUrl,
+        BigDecimal price,
+        boolean active
+) {
+
+    /** 동기화 대상 필드 해시 — products.content_hash 와 비교해 변경 여부 판단 */
+    public String contentHash() {
+        return Sha256.hex(String.join("\u001F",
+                String.valueOf(name),
+                String.valueOf(imageUrl),
+                String.valueOf(productUrl),
+                price != null ? price.stripTrailingZeros().toPlainString() : "null",
+                String.valueOf(active)));
+    }
+}
@@ -0,0 +1,10 @@
+package com.dooring.domain.catalog.dto;
+
+/**
+ * 스토어 1개 카탈로그 동기화 결과
+ *
+ * @param fetched 플랫폼에서 받은 상품 수
+ * @param changed 새로 생기거나 바뀌어 DB에 반영한 상품 수
+ */
+public record CatalogSyncResult(Long storeId, int fetched, int changed, boolean failed) {
+}
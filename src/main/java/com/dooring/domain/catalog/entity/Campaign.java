@@ -1,5 +1,6 @@
 package com.dooring.domain.catalog.entity;
 
+import com.dooring.domain.catalog.event.CatalogEntityListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -13,6 +14,7 @@ import java.time.LocalDateTime;
  * 커미션 캠페인 (상품당 활성 1개, 최소 3개월)
  */
 @Entity
+@EntityListeners(CatalogEntityListener.class)
 @Table(
     name = "campaigns",
     indexes = {
@@ -1,5 +1,6 @@
 package com.dooring.domain.catalog.entity;
 
+import com.dooring.domain.catalog.event.CatalogEntityListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -13,6 +14,7 @@ import java.time.LocalDateTime;
  * 스토어 상품 (플랫폼 API 동기화 기준 단위)
  */
 @Entity
+@EntityListeners(CatalogEntityListener.class)
 @Table(
     name = "products",
     uniqueConstraints = {
@@ -79,6 +81,12 @@ public class Product {
     @Column(name = "last_synced_at")
     private LocalDateTime lastSyncedAt;
 
+    /**
+     * 마지막 동기화 시 플랫폼 상품 필드 해시 (CatalogSyncService 변경 감지용)
+     */
+    @Column(name = "content_hash", columnDefinition = "text")
+    private String contentHash;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -65,6 +65,12 @@ public class Store {
     @Column(name = "is_active", nullable = false)
     private boolean isActive;
 
+    /**
+     * 마지막으로 끝까지 성공한 카탈로그 동기화 시작 시각 (증분 동기화 기준)
+     */
+    @Column(name = "last_synced_at")
+    private LocalDateTime lastSyncedAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
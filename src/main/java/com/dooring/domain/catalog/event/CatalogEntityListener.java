@@ -0,0 +1,32 @@
+package com.dooring.domain.catalog.event;
+
+import com.dooring.domain.catalog.entity.Campaign;
+import com.dooring.domain.catalog.entity.Product;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product / Campaign JPA 콜백 → ProductChangedEvent 발행
+ * Hibernate가 Spring 빈으로 생성 (SpringBeanContainer)
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof Product product) {
+            eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+        } else if (entity instanceof Campaign campaign) {
+            eventPublisher.publishEvent(new ProductChangedEvent(campaign.getProduct().getId()));
+        }
+    }
+}
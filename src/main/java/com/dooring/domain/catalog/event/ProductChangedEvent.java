@@ -0,0 +1,7 @@
+package com.dooring.domain.catalog.event;
+
+/**
+ * 상품 또는 상품에 걸린 캠페인이 변경됨
+ * 상품 단위로 캐시해 둔 데이터(리다이렉트 스냅샷 등) 무효화에 사용
+ */
+public record ProductChangedEvent(Long productId) {}
@@ -0,0 +1,9 @@
+package com.dooring.domain.catalog.event;
+
+import java.util.Set;
+
+/**
+ * 카탈로그 동기화로 상품이 일괄 변경됨 (JDBC 배치 UPSERT → JPA 콜백이 돌지 않음)
+ * ShortCodeResolver 캐시 무효화 (커밋 후)
+ */
+public record ProductsSyncedEvent(Set<Long> productIds) {}
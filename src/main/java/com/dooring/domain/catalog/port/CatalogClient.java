@@ -0,0 +1,29 @@
+package com.dooring.domain.catalog.port;
+
+import com.dooring.domain.catalog.dto.CatalogPage;
+import com.dooring.domain.catalog.entity.Store;
+
+import java.time.LocalDateTime;
+
+/**
+ * 플랫폼 상품 목록 API
+ *
+ * 구현체: infrastructure/external/platform/{cafe24,imweb}
+ */
+public interface CatalogClient {
+
+    /** platforms.code 와 같은 값 */
+    String platformCode();
+
+    /** 플랫폼 API 호출 한도 (초당, 플랫폼 전체 스토어 합계) */
+    double requestsPerSecond();
+
+    /**
+     * 상품 목록 1페이지 조회
+     *
+     * @param baseApiUrl   platforms.base_api_url ({mallId} 등 스토어 치환자 포함 가능)
+     * @param updatedSince 이 시각 이후 변경된 상품만 (null이면 전체)
+     * @param cursor       이전 페이지의 nextCursor (첫 페이지면 null)
+     */
+    CatalogPage fetchPage(Store store, String baseApiUrl, LocalDateTime updatedSince, String cursor, int pageSize);
+}
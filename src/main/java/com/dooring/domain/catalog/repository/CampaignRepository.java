@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +33,15 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
     @Query("SELECT c FROM Campaign c WHERE c.product.id = :productId AND c.isActive = true")
     Optional<Campaign> findActiveByProductId(@Param("productId") Long productId);
 
+    /**
+     * 상품 ID 목록으로 활성 캠페인 일괄 조회 (상품당 최대 1개)
+     *
+     * @param productIds 상품 ID 목록
+     * @return 활성 캠페인 목록
+     */
+    @Query("SELECT c FROM Campaign c WHERE c.product.id IN :productIds AND c.isActive = true")
+    List<Campaign> findActiveByProductIds(@Param("productIds") Collection<Long> productIds);
+
     /**
      * 셀러의 모든 캠페인 조회
      *
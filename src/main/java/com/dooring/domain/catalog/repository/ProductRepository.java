@@ -12,7 +12,7 @@ import java.util.Optional;
 /**
  * 상품 Repository
  */
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
     /**
      * 스토어의 모든 상품 조회
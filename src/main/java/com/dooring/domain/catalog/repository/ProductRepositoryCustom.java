@@ -0,0 +1,26 @@
+package com.dooring.domain.catalog.repository;
+
+import com.dooring.domain.catalog.dto.CatalogProduct;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카탈로그 동기화용 상품 배치 쓰기 (JdbcTemplate 멀티로우)
+ */
+public interface ProductRepositoryCustom {
+
+    /**
+     * 스토어 상품의 external_product_id → content_hash
+     */
+    Map<String, String> findContentHashes(Long storeId);
+
+    /**
+     * 상품 UPSERT — content_hash가 같은 기존 행은 건드리지 않음
+     * 같은 externalProductId는 목록에 한 번만 있어야 함
+     *
+     * @return 새로 생기거나 바뀐 상품 id
+     */
+    List<Long> upsertChanged(Long storeId, List<CatalogProduct> products, LocalDateTime syncedAt);
+}
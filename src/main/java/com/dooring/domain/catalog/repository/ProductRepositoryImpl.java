@@ -0,0 +1,78 @@
+package com.dooring.domain.catalog.repository;
+
+import com.dooring.domain.catalog.dto.CatalogProduct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    /** SQL 1개당 최대 행 수 (바인드 파라미터 65535개 한도 안쪽) */
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<String, String> findContentHashes(Long storeId) {
+        Map<String, String> hashes = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT external_product_id, content_hash FROM products WHERE store_id = ?",
+                rs -> {
+                    hashes.put(rs.getString("external_product_id"), rs.getString("content_hash"));
+                },
+                storeId);
+        return hashes;
+    }
+
+    @Override
+    public List<Long> upsertChanged(Long storeId, List<CatalogProduct> products, LocalDateTime syncedAt) {
+        List<Long> changedIds = new ArrayList<>(products.size());
+        for (int from = 0; from < products.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<CatalogProduct> chunk = products.subList(from, Math.min(products.size(), from + MAX_ROWS_PER_STATEMENT));
+
+            StringBuilder sql = new StringBuilder("""
+                    INSERT INTO products (store_id, external_product_id, name, image_url, product_url, price,
+                                          is_active, content_hash, last_synced_at)
+                    VALUES
+                    """);
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "    " : ",\n    ").append("(?, ?, ?, ?, ?, ?, ?, ?, ?)");
+            }
+            sql.append("""
+
+                    ON CONFLICT (store_id, external_product_id) DO UPDATE
+                    SET name           = EXCLUDED.name,
+                        image_url      = EXCLUDED.image_url,
+                        product_url    = EXCLUDED.product_url,
+                        price          = EXCLUDED.price,
+                        is_active      = EXCLUDED.is_active,
+                        content_hash   = EXCLUDED.content_hash,
+                        last_synced_at = EXCLUDED.last_synced_at,
+                        updated_at     = now()
+                    WHERE products.content_hash IS DISTINCT FROM EXCLUDED.content_hash
+                    RETURNING id
+                    """);
+
+            List<Object> params = new ArrayList<>(chunk.size() * 9);
+            for (CatalogProduct product : chunk) {
+                params.add(storeId);
+                params.add(product.externalProductId());
+                params.add(product.name());
+                params.add(product.imageUrl());
+                params.add(product.productUrl());
+                params.add(product.price());
+                params.add(product.active());
+                params.add(product.contentHash());
+                params.add(syncedAt);
+            }
+            changedIds.addAll(jdbcTemplate.queryForList(sql.toString(), Long.class, params.toArray()));
+        }
+        return changedIds;
+    }
+}
@@ -2,7 +2,11 @@ package com.dooring.domain.catalog.repository;
 
 import com.dooring.domain.catalog.entity.Store;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -52,4 +56,22 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
      * @return 스토어 목록
      */
     List<Store> findAllByPlatformId(Long platformId);
+
+    /**
+     * 모든 활성 스토어 조회 (카탈로그 동기화 대상)
+     *
+     * @return 활성 스토어 목록
+     */
+    List<Store> findAllByIsActiveTrue();
+
+    /**
+     * 카탈로그 동기화 완료 시각 기록
+     *
+     * @param storeId 스토어 ID
+     * @param syncedAt 동기화 시작 시각
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Store s SET s.lastSyncedAt = :syncedAt WHERE s.id = :storeId")
+    int updateLastSyncedAt(@Param("storeId") Long storeId, @Param("syncedAt") LocalDateTime syncedAt);
 }
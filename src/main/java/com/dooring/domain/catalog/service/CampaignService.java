@@ -9,7 +9,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -36,4 +40,30 @@ public class CampaignService {
         return campaignRepository.findActiveByProductId(productId)
                 .filter(c -> c.isActiveInPeriod(LocalDateTime.now()));
     }
+
+    /**
+     * 다른 도메인 서비스용 — 기간과 무관하게 is_active=true 캠페인 Optional 반환
+     * 기간 판단은 호출자 몫 (스냅샷을 캐시해 두고 시점마다 판단할 때 사용)
+     */
+    @Transactional(readOnly = true)
+    public Optional<Campaign> findEnabledByProductOptional(Long productId) {
+        return campaignRepository.findActiveByProductId(productId);
+    }
+
+    /**
+     * 다른 도메인 서비스용 — 상품별 현재 시점 활성 캠페인 일괄 조회 (쿼리 1회)
+     * 활성 캠페인이 없는 상품은 결과 Map에 없음
+     *
+     * @return 상품 ID → 활성 캠페인
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Campaign> findActiveByProducts(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return campaignRepository.findActiveByProductIds(productIds).stream()
+                .filter(c -> c.isActiveInPeriod(now))
+                .collect(Collectors.toMap(c -> c.getProduct().getId(), Function.identity(), (a, b) -> a));
+    }
 }
@@ -0,0 +1,248 @@
+package com.dooring.domain.catalog.service;
+
+import com.dooring.domain.catalog.dto.CatalogPage;
+import com.dooring.domain.catalog.dto.CatalogProduct;
+import com.dooring.domain.catalog.dto.CatalogSyncResult;
+import com.dooring.domain.catalog.entity.Store;
+import com.dooring.domain.catalog.event.ProductsSyncedEvent;
+import com.dooring.domain.catalog.port.CatalogClient;
+import com.dooring.domain.catalog.repository.ProductRepository;
+import com.dooring.domain.catalog.repository.StoreRepository;
+import com.dooring.domain.identity.entity.Platform;
+import com.dooring.domain.identity.repository.PlatformRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 플랫폼 상품 카탈로그 동기화
+ *
+ * - 스토어마다 가상 스레드 1개, 동시 실행 스토어 수는 max-concurrent-stores 로 제한 (DB 커넥션 보호)
+ * - 플랫폼 API 호출은 플랫폼별 초당 한도(CatalogClient.requestsPerSecond)를 스토어들이 나눠 씀
+ * - 증분: stores.last_synced_at - overlap 이후 변경분만 조회 (이력 없으면 전체)
+ * - 변경 감지: content_hash 가 같은 상품은 DB에 보내지 않음 → 바뀐 행만 멀티로우 UPSERT
+ * - 페이지 1개 = 트랜잭션 1개, 커밋 후 ProductsSyncedEvent 로 shortCode 캐시 무효화
+ * - 끝까지 성공한 스토어만 stores.last_synced_at 갱신 → 실패한 스토어는 다음 실행에서 같은 구간부터 다시
+ * - 정기 실행은 전용 스레드(catalog-sync)에 넘기고 바로 반환 → 공유 스케줄러 스레드를 수 분씩 붙잡지 않음
+ *
+ * 플랫폼에서 사라진 상품의 비활성화는 하지 않음 (판매 중지 상태는 active=false 로 반영)
+ * 메트릭: dooring.catalog.sync.store (platform, outcome = ok | failed), dooring.catalog.sync.products (outcome = changed | unchanged)
+ */
+@Slf4j
+@Service
+public class CatalogSyncService {
+
+    private final StoreRepository storeRepository;
+    private final PlatformRepository platformRepository;
+    private final ProductRepository productRepository;
+    private final Map<String, CatalogClient> clients;
+    private final Map<String, RequestRateLimiter> rateLimiters;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int maxConcurrentStores;
+    private final int pageSize;
+    private final Duration overlap;
+    /** 스케줄 실행과 수동 실행이 겹치지 않게 */
+    private final ReentrantLock runLock = new ReentrantLock();
+    /** 정기 실행 전용 (스토어별 작업은 syncAll 안에서 다시 가상 스레드로 분기) */
+    private final ExecutorService scheduledRunner =
+            Executors.newSingleThreadExecutor(Thread.ofVirtual().name("catalog-sync").factory());
+
+    public CatalogSyncService(
+            StoreRepository storeRepository,
+            PlatformRepository platformRepository,
+            ProductRepository productRepository,
+            List<CatalogClient> clients,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${dooring.catalog-sync.enabled:false}") boolean enabled,
+            @Value("${dooring.catalog-sync.max-concurrent-stores:8}") int maxConcurrentStores,
+            @Value("${dooring.catalog-sync.page-size:100}") int pageSize,
+            @Value("${dooring.catalog-sync.overlap:5m}") Duration overlap) {
+        this.storeRepository = storeRepository;
+        this.platformRepository = platformRepository;
+        this.productRepository = productRepository;
+        this.clients = clients.stream()
+                .collect(Collectors.toMap(CatalogClient::platformCode, Function.identity()));
+        this.rateLimiters = clients.stream()
+                .collect(Collectors.toMap(CatalogClient::platformCode, c -> new RequestRateLimiter(c.requestsPerSecond())));
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxConcurrentStores = maxConcurrentStores;
+        this.pageSize = pageSize;
+        this.overlap = overlap;
+    }
+
+    @Scheduled(cron = "${dooring.catalog-sync.cron:0 */30 * * * *}", zone = "Asia/Seoul")
+    public void scheduledSync() {
+        if (!enabled) {
+            return;
+        }
+        if (runLock.isLocked()) {
+            log.info("카탈로그 동기화가 이미 실행 중입니다.");
+            return;
+        }
+        scheduledRunner.execute(() -> {
+            try {
+                syncAll(false);
+            } catch (RuntimeException e) {
+                log.error("정기 카탈로그 동기화 실패", e);
+            }
+        });
+    }
+
+    /** 종료 시 진행 중인 동기화 중단 (완료 못 한 스토어는 last_synced_at이 그대로라 다음 실행에서 다시) */
+    @PreDestroy
+    public void shutdown() {
+        scheduledRunner.shutdownNow();
+    }
+
+    /**
+     * 모든 활성 스토어 동기화
+     *
+     * @param full true면 last_synced_at 무시하고 전체 상품 조회
+     * @return 스토어별 결과 (이미 실행 중이면 빈 목록)
+     */
+    public List<CatalogSyncResult> syncAll(boolean full) {
+        if (!runLock.tryLock()) {
+            log.info("카탈로그 동기화가 이미 실행 중입니다.");
+            return List.of();
+        }
+        try {
+            Map<Long, Platform> platforms = platformRepository.findAll().stream()
+                    .collect(Collectors.toMap(Platform::getId, Function.identity()));
+            Semaphore permits = new Semaphore(maxConcurrentStores);
+
+            List<Future<CatalogSyncResult>> futures = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (Store store : storeRepository.findAllByIsActiveTrue()) {
+                    Platform platform = platforms.get(store.getPlatformId());
+                    if (platform == null || !clients.containsKey(platform.getCode())) {
+                        continue;
+                    }
+                    futures.add(executor.submit(() -> {
+                        permits.acquire();
+                        try {
+                            return syncStore(store, platform, full);
+                        } finally {
+                            permits.release();
+                        }
+                    }));
+                }
+            }
+
+            List<CatalogSyncResult> results = new ArrayList<>(futures.size());
+            for (Future<CatalogSyncResult> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (ExecutionException e) {
+                    log.error("카탈로그 동기화 작업 오류", e.getCause());
+                }
+            }
+            log.info("카탈로그 동기화 완료 — 스토어 {}개, 받은 상품 {}건, 반영 {}건, 실패 스토어 {}개",
+                    results.size(),
+                    results.stream().mapToInt(CatalogSyncResult::fetched).sum(),
+                    results.stream().mapToInt(CatalogSyncResult::changed).sum(),
+                    results.stream().filter(CatalogSyncResult::failed).count());
+            return results;
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private CatalogSyncResult syncStore(Store store, Platform platform, boolean full) throws InterruptedException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CatalogClient client = clients.get(platform.getCode());
+        RequestRateLimiter rateLimiter = rateLimiters.get(platform.getCode());
+        LocalDateTime syncedAt = LocalDateTime.now();
+
+        LocalDateTime updatedSince = !full && store.getLastSyncedAt() != null
+                ? store.getLastSyncedAt().minus(overlap)
+                : null;
+        Map<String, String> knownHashes = productRepository.findContentHashes(store.getId());
+
+        int fetched = 0;
+        int changed = 0;
+        boolean failed = false;
+        String cursor = null;
+        try {
+            do {
+                rateLimiter.acquire();
+                CatalogPage page = client.fetchPage(store, platform.getBaseApiUrl(), updatedSince, cursor, pageSize);
+                fetched += page.products().size();
+                changed += applyPage(store.getId(), page.products(), knownHashes, syncedAt);
+                cursor = page.nextCursor();
+            } while (cursor != null);
+            transactionTemplate.executeWithoutResult(status ->
+                    storeRepository.updateLastSyncedAt(store.getId(), syncedAt));
+        } catch (RuntimeException e) {
+            failed = true;
+            log.warn("스토어 {} 카탈로그 동기화 실패 — 반영된 페이지까지만 유지합니다.", store.getId(), e);
+        }
+
+        sample.stop(Timer.builder("dooring.catalog.sync.store")
+                .description("catalog sync per store (platform API pages + upsert)")
+                .tag("platform", platform.getCode())
+                .tag("outcome", failed ? "failed" : "ok")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        meterRegistry.counter("dooring.catalog.sync.products", "outcome", "changed").increment(changed);
+        meterRegistry.counter("dooring.catalog.sync.products", "outcome", "unchanged").increment(fetched - changed);
+        return new CatalogSyncResult(store.getId(), fetched, changed, failed);
+    }
+
+    /** 해시가 바뀐 상품만 UPSERT, 커밋 후 캐시 무효화 */
+    private int applyPage(Long storeId, List<CatalogProduct> products,
+                          Map<String, String> knownHashes, LocalDateTime syncedAt) {
+        Map<String, CatalogProduct> changed = new LinkedHashMap<>();
+        for (CatalogProduct product : products) {
+            String hash = product.contentHash();
+            if (!Objects.equals(knownHashes.get(product.externalProductId()), hash)) {
+                changed.put(product.externalProductId(), product);
+                knownHashes.put(product.externalProductId(), hash);
+            }
+        }
+        if (changed.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> changedIds = transactionTemplate.execute(status -> {
+            List<Long> ids = productRepository.upsertChanged(storeId, new ArrayList<>(changed.values()), syncedAt);
+            eventPublisher.publishEvent(new ProductsSyncedEvent(new HashSet<>(ids)));
+            return ids;
+        });
+        return changedIds != null ? changedIds.size() : 0;
+    }
+}
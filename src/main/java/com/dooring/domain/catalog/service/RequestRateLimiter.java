@@ -0,0 +1,37 @@
+package com.dooring.domain.catalog.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 플랫폼 API 호출 간격 제한 (초당 N회, 인스턴스 로컬)
+ *
+ * 호출마다 다음 슬롯을 예약하고 그때까지 대기 — 여러 스토어 스레드가 나눠 씀
+ * 대기는 sleep (가상 스레드면 캐리어 반납), 락은 슬롯 계산 동안만 잡음
+ */
+final class RequestRateLimiter {
+
+    private final long intervalNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long nextSlotAt = System.nanoTime();
+
+    RequestRateLimiter(double requestsPerSecond) {
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+    }
+
+    void acquire() throws InterruptedException {
+        long waitNanos;
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextSlotAt);
+            nextSlotAt = slot + intervalNanos;
+            waitNanos = slot - now;
+        } finally {
+            lock.unlock();
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
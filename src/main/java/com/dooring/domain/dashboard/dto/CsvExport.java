@@ -0,0 +1,18 @@
+package com.dooring.domain.dashboard.dto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 검증을 마친 CSV 내보내기 (본문은 응답 스트림에 쓸 때 조회·생성)
+ *
+ * @param filename 다운로드 파일명
+ * @param body gzip 압축된 CSV 본문 쓰기
+ */
+public record CsvExport(String filename, Body body) {
+
+    @FunctionalInterface
+    public interface Body {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
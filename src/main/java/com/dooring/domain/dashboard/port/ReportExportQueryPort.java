@@ -0,0 +1,48 @@
+package com.dooring.domain.dashboard.port;
+
+import com.dooring.domain.dashboard.querymodel.ReportExportType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리포트 내보내기 조회 Port (읽기 전용)
+ * 구현체는 infrastructure/persistence/dashboard/에 위치
+ *
+ * 결과를 List로 모으지 않고 서버 측 커서에서 한 행씩 읽어 바로 넘김
+ * - 행 값 순서는 ReportExportType.columns 순서
+ * - 기간: startDate 이상 endDate 미만, 시각은 모두 Asia/Seoul 기준
+ * - RowHandler가 예외를 던지면 (클라이언트 연결 끊김 등) 즉시 조회를 중단하고 커서를 닫음
+ */
+public interface ReportExportQueryPort {
+
+    /**
+     * 크리에이터 리포트 행 내보내기 (크리에이터의 링크 기준)
+     *
+     * @param creatorId 크리에이터 ID
+     * @param type 내보내기 종류
+     * @param startDate 시작 시각 (포함)
+     * @param endDate 종료 시각 (미포함)
+     * @param handler 행 처리
+     * @return 내보낸 행 수
+     */
+    long exportCreatorRows(Long creatorId, ReportExportType type,
+                           LocalDateTime startDate, LocalDateTime endDate, RowHandler handler);
+
+    /**
+     * 셀러 리포트 행 내보내기 (셀러의 캠페인 기준)
+     *
+     * @param sellerId 셀러 ID
+     * @param type 내보내기 종류
+     * @param startDate 시작 시각 (포함)
+     * @param endDate 종료 시각 (미포함)
+     * @param handler 행 처리
+     * @return 내보낸 행 수
+     */
+    long exportSellerRows(Long sellerId, ReportExportType type,
+                          LocalDateTime startDate, LocalDateTime endDate, RowHandler handler);
+
+    @FunctionalInterface
+    interface RowHandler {
+        void handle(Object[] values);
+    }
+}
@@ -0,0 +1,33 @@
+package com.dooring.domain.dashboard.querymodel;
+
+import java.util.List;
+
+/**
+ * 리포트 내보내기 종류 (CSV 컬럼 순서 = columns 순서)
+ */
+public enum ReportExportType {
+
+    /**
+     * 클릭 단위 — 전환됐으면 주문·커미션 컬럼이 채워짐
+     */
+    CLICKS(List.of(
+        "clicked_at", "link_id", "short_code", "product_name", "campaign_id", "creator_id",
+        "attributed_at", "external_order_id", "commission_amount", "commission_status")),
+
+    /**
+     * 전환(커미션 원장) 단위 — 정산 대조용
+     */
+    CONVERSIONS(List.of(
+        "attributed_at", "external_order_id", "order_status", "campaign_id", "product_name", "creator_id",
+        "commission_amount", "commission_status", "confirmed_at", "paid_at"));
+
+    private final List<String> columns;
+
+    ReportExportType(List<String> columns) {
+        this.columns = columns;
+    }
+
+    public List<String> columns() {
+        return columns;
+    }
+}
@@ -0,0 +1,221 @@
+package com.dooring.domain.dashboard.service;
+
+import com.dooring.common.exception.BusinessException;
+import com.dooring.common.exception.ErrorCode;
+import com.dooring.domain.dashboard.dto.CsvExport;
+import com.dooring.domain.dashboard.port.ReportExportQueryPort;
+import com.dooring.domain.dashboard.querymodel.ReportExportType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 크리에이터 / 셀러 리포트 CSV 내보내기 (정산 대조용 원본 행)
+ *
+ * - 기간 검증은 요청 스레드에서 (실패 시 일반 JSON 에러 응답), 조회·쓰기는 응답 스트림에 쓸 때
+ * - DB 서버 측 커서 → CSV 한 행 → gzip 스트림으로 바로 흘려보냄 (행을 모으지 않음, 메모리 일정)
+ * - 클라이언트가 연결을 끊으면 다음 쓰기에서 IOException → 조회 중단, 커서·커넥션 반환
+ * - UTF-8 BOM 포함 (엑셀에서 한글 깨짐 방지), 수식으로 해석될 수 있는 문자열은 ' 접두
+ * - 내보내기 1건이 커넥션 1개를 끝날 때까지 쥐고 있음 → 인스턴스당 동시 실행 max-concurrent 개로 제한
+ *   (허가는 요청 스레드에서 받고 스트림을 다 쓰거나 실패하면 반환, 자리가 없으면 429 — 트래킹·대시보드 커넥션 보호)
+ *
+ * 메트릭: dooring.report.export (audience, type, outcome = completed | cancelled | error),
+ *        dooring.report.export.rows (audience, type), dooring.report.export.rejected (audience)
+ */
+@Slf4j
+@Service
+public class ReportExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ReportExportQueryPort reportExportQueryPort;
+    private final MeterRegistry meterRegistry;
+    private final int maxDays;
+    private final Semaphore exportPermits;
+    /** "audience:type:outcome" → dooring.report.export 타이머 (처음 나올 때 1회 등록 후 재사용) */
+    private final Map<String, Timer> exportTimers = new ConcurrentHashMap<>();
+    /** "audience:type" → dooring.report.export.rows 카운터 */
+    private final Map<String, Counter> rowCounters = new ConcurrentHashMap<>();
+    /** audience → dooring.report.export.rejected 카운터 */
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    public ReportExportService(ReportExportQueryPort reportExportQueryPort,
+                               MeterRegistry meterRegistry,
+                               @Value("${dooring.report-export.max-days:366}") int maxDays,
+                               @Value("${dooring.report-export.max-concurrent:2}") int maxConcurrent) {
+        this.reportExportQueryPort = reportExportQueryPort;
+        this.meterRegistry = meterRegistry;
+        this.maxDays = maxDays;
+        this.exportPermits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 크리에이터 리포트 내보내기 (크리에이터의 링크 기준)
+     *
+     * @param from 시작일 (포함, Asia/Seoul)
+     * @param to 종료일 (포함, Asia/Seoul)
+     */
+    public CsvExport exportCreatorReport(Long creatorId, ReportExportType type, LocalDate from, LocalDate to) {
+        validatePeriod(from, to);
+        acquirePermit("creator");
+        return new CsvExport(
+            filename("creator", type, from, to),
+            out -> writeCsvAndRelease("creator", type, out, handler -> reportExportQueryPort.exportCreatorRows(
+                creatorId, type, from.atStartOfDay(), to.plusDays(1).atStartOfDay(), handler)));
+    }
+
+    /**
+     * 셀러 리포트 내보내기 (셀러의 캠페인 기준)
+     *
+     * @param from 시작일 (포함, Asia/Seoul)
+     * @param to 종료일 (포함, Asia/Seoul)
+     */
+    public CsvExport exportSellerReport(Long sellerId, ReportExportType type, LocalDate from, LocalDate to) {
+        validatePeriod(from, to);
+        acquirePermit("seller");
+        return new CsvExport(
+            filename("seller", type, from, to),
+            out -> writeCsvAndRelease("seller", type, out, handler -> reportExportQueryPort.exportSellerRows(
+                sellerId, type, from.atStartOfDay(), to.plusDays(1).atStartOfDay(), handler)));
+    }
+
+    // ----------------------------------------------------------------
+
+    private void validatePeriod(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)
+                || ChronoUnit.DAYS.between(from, to) >= maxDays) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private void acquirePermit(String audience) {
+        if (!exportPermits.tryAcquire()) {
+            rejectedCounters.computeIfAbsent(audience, key -> meterRegistry.counter(
+                    "dooring.report.export.rejected", "audience", key)).increment();
+            throw new BusinessException(ErrorCode.REPORT_EXPORT_BUSY);
+        }
+    }
+
+    private String filename(String audience, ReportExportType type, LocalDate from, LocalDate to) {
+        return "dooring-%s-%s-%s_%s.csv".formatted(audience, type.name().toLowerCase(), from, to);
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        long export(ReportExportQueryPort.RowHandler handler);
+    }
+
+    private void writeCsvAndRelease(String audience, ReportExportType type, OutputStream out, RowSource source)
+            throws IOException {
+        try {
+            writeCsv(audience, type, out, source);
+        } finally {
+            exportPermits.release();
+        }
+    }
+
+    private void writeCsv(String audience, ReportExportType type, OutputStream out, RowSource source)
+            throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        long[] rows = {0};
+        try {
+            GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+            writer.write('\uFEFF');
+            writeLine(writer, type.columns().toArray());
+            source.export(values -> {
+                try {
+                    writeLine(writer, values);
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            // 응답 스트림은 컨테이너가 닫음 → gzip 트레일러만 쓰고 닫지 않음
+            writer.flush();
+            gzip.finish();
+            outcome = "completed";
+        } catch (UncheckedIOException e) {
+            outcome = "cancelled";
+            log.info("[ReportExport] 클라이언트 연결 종료로 중단: audience={}, type={}", audience, type);
+            throw e.getCause();
+        } finally {
+            String typeTag = type.name().toLowerCase();
+            String outcomeTag = outcome;
+            sample.stop(exportTimers.computeIfAbsent(audience + ":" + typeTag + ":" + outcomeTag,
+                key -> Timer.builder("dooring.report.export")
+                    .description("streaming csv report export")
+                    .tag("audience", audience)
+                    .tag("type", typeTag)
+                    .tag("outcome", outcomeTag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)));
+            rowCounters.computeIfAbsent(audience + ":" + typeTag, key -> meterRegistry.counter(
+                    "dooring.report.export.rows", "audience", audience, "type", typeTag))
+                .increment(rows[0]);
+        }
+    }
+
+    private void writeLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(format(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private String format(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.format(DATE_TIME);
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof Number) {
+            return value.toString();
+        }
+        return escape(value.toString());
+    }
+
+    /**
+     * RFC 4180 이스케이프 + 수식 주입 방지 (=, +, -, @ 로 시작하는 문자열)
+     */
+    private String escape(String text) {
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
@@ -103,9 +103,6 @@ public class CreatorAuthService {
         Long userId = Long.parseLong(claims.getSubject());
         String tokenFamily = claims.get("family", String.class);
 
-        // Redis 검증 (탈취 감지 포함)
-        refreshTokenStore.validate(UserType.CREATOR, userId, tokenFamily, refreshToken);
-
         Creator creator = creatorRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CREATOR_NOT_FOUND));
 
@@ -114,7 +111,20 @@ public class CreatorAuthService {
             throw new BusinessException(ErrorCode.ACCOUNT_SUSPENDED);
         }
 
-        return issueTokens(creator.getId(), creator.getStatus());
+        String newTokenFamily = UUID.randomUUID().toString();
+        String at = jwtTokenProvider.generateAccessToken(userId, UserType.CREATOR, creator.getStatus());
+        String rt = jwtTokenProvider.generateRefreshToken(userId, UserType.CREATOR, newTokenFamily);
+
+        // Redis 비교 후 교체 (탈취 감지 포함, 왕복 1회)
+        switch (refreshTokenStore.rotate(UserType.CREATOR, userId, tokenFamily, refreshToken,
+                newTokenFamily, rt, jwtTokenProvider.getRefreshTokenExpirationMs())) {
+            case MISSING -> throw new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
+            case STOLEN -> throw new BusinessException(ErrorCode.REFRESH_TOKEN_STOLEN);
+            case ROTATED -> {
+            }
+        }
+
+        return new LoginResult(at, rt);
     }
 
     // ----------------------------------------------------------------
@@ -100,9 +100,6 @@ public class SellerAuthService {
         Long userId = Long.parseLong(claims.getSubject());
         String tokenFamily = claims.get("family", String.class);
 
-        // Redis 검증 (탈취 감지 포함)
-        refreshTokenStore.validate(UserType.SELLER, userId, tokenFamily, refreshToken);
-
         Seller seller = sellerRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SELLER_NOT_FOUND));
 
@@ -111,7 +108,20 @@ public class SellerAuthService {
             throw new BusinessException(ErrorCode.ACCOUNT_SUSPENDED);
         }
 
-        return issueTokens(seller.getId(), seller.getStatus());
+        String newTokenFamily = UUID.randomUUID().toString();
+        String at = jwtTokenProvider.generateAccessToken(userId, UserType.SELLER, seller.getStatus());
+        String rt = jwtTokenProvider.generateRefreshToken(userId, UserType.SELLER, newTokenFamily);
+
+        // Redis 비교 후 교체 (탈취 감지 포함, 왕복 1회)
+        switch (refreshTokenStore.rotate(UserType.SELLER, userId, tokenFamily, refreshToken,
+                newTokenFamily, rt, jwtTokenProvider.getRefreshTokenExpirationMs())) {
+            case MISSING -> throw new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
+            case STOLEN -> throw new BusinessException(ErrorCode.REFRESH_TOKEN_STOLEN);
+            case ROTATED -> {
+            }
+        }
+
+        return new LoginResult(at, rt);
     }
 
     // ----------------------------------------------------------------
@@ -0,0 +1,15 @@
+package com.dooring.domain.order.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * order_items 멀티로우 UPSERT 1행
+ */
+public record OrderItemRow(
+        Long orderId,
+        String externalProductId,
+        String productName,
+        int quantity,
+        BigDecimal itemAmount
+) {
+}
@@ -0,0 +1,7 @@
+package com.dooring.domain.order.dto;
+
+/**
+ * 주문 자연키 (orders_store_order_uniq)
+ */
+public record OrderKey(Long storeId, String externalOrderId) {
+}
@@ -0,0 +1,23 @@
+package com.dooring.domain.order.dto;
+
+import com.dooring.domain.order.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * orders 멀티로우 INSERT / UPDATE 1행 (INSERT 시 id = null)
+ */
+public record OrderRow(
+        Long id,
+        Long storeId,
+        String externalOrderId,
+        OrderStatus status,
+        BigDecimal totalAmount,
+        LocalDateTime orderedAt
+) {
+
+    public OrderKey key() {
+        return new OrderKey(storeId, externalOrderId);
+    }
+}
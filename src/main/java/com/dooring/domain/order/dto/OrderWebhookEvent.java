@@ -0,0 +1,36 @@
+package com.dooring.domain.order.dto;
+
+import com.dooring.domain.order.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 플랫폼 주문 웹훅 1건 (플랫폼별 본문을 공통 형태로 변환한 것)
+ *
+ * @param status 매핑되지 않는 플랫폼 상태면 null (상태는 그대로, 금액·상품만 반영)
+ */
+public record OrderWebhookEvent(
+        String platformCode,
+        String externalStoreId,
+        String externalOrderId,
+        OrderStatus status,
+        BigDecimal totalAmount,
+        LocalDateTime orderedAt,
+        List<Item> items
+) {
+
+    /** 같은 주문의 이벤트를 같은 워커로 보내기 위한 키 */
+    public String routingKey() {
+        return platformCode + ":" + externalStoreId + ":" + externalOrderId;
+    }
+
+    public record Item(
+            String externalProductId,
+            String productName,
+            Integer quantity,
+            BigDecimal itemAmount
+    ) {
+    }
+}
@@ -32,5 +32,20 @@ public enum OrderStatus {
     /**
      * 환불 완료
      */
-    REFUNDED
+    REFUNDED;
+
+    /**
+     * 상태 전이 허용 여부 (웹훅 수신 순서가 뒤바뀌어도 상태가 되돌아가지 않도록)
+     * - 누락된 웹훅이 있을 수 있으므로 앞 단계 건너뛰기는 허용
+     * - CANCELLED, REFUNDED 이후로는 전이 없음
+     */
+    public boolean canTransitionTo(OrderStatus next) {
+        return switch (this) {
+            case CREATED -> next != CREATED;
+            case PAID -> next == DELIVERED || next == CONFIRMED || next == CANCELLED || next == REFUNDED;
+            case DELIVERED -> next == CONFIRMED || next == REFUNDED;
+            case CONFIRMED -> next == REFUNDED;
+            case CANCELLED, REFUNDED -> false;
+        };
+    }
 }
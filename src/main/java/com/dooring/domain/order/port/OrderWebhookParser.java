@@ -0,0 +1,21 @@
+package com.dooring.domain.order.port;
+
+import com.dooring.domain.order.dto.OrderWebhookEvent;
+
+import java.util.List;
+
+/**
+ * 플랫폼 주문 웹훅 본문 → 공통 이벤트 변환
+ *
+ * 구현체: infrastructure/external/platform/{cafe24,imweb}
+ */
+public interface OrderWebhookParser {
+
+    /** platforms.code 와 같은 값 (웹훅 URL 경로에도 사용) */
+    String platformCode();
+
+    /**
+     * @throws IllegalArgumentException 본문을 해석할 수 없을 때
+     */
+    List<OrderWebhookEvent> parse(String body);
+}
@@ -13,7 +13,7 @@ import java.util.Optional;
 /**
  * 주문 Repository
  */
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
 
     /**
      * 스토어와 외부 주문 ID로 조회 (idempotent)
@@ -0,0 +1,35 @@
+package com.dooring.domain.order.repository;
+
+import com.dooring.domain.order.dto.OrderItemRow;
+import com.dooring.domain.order.dto.OrderKey;
+import com.dooring.domain.order.dto.OrderRow;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 웹훅 수신용 주문 배치 쓰기 (JdbcTemplate 멀티로우)
+ */
+public interface OrderRepositoryCustom {
+
+    /**
+     * 없는 주문만 INSERT (orders_store_order_uniq 충돌 시 건너뜀)
+     */
+    void insertAllIfAbsent(List<OrderRow> rows);
+
+    /**
+     * 주문 행 잠금 후 조회 (SELECT ... FOR UPDATE) — 다른 인스턴스와의 동시 반영 직렬화
+     */
+    List<OrderRow> lockAllByKeys(Collection<OrderKey> keys);
+
+    /**
+     * id 기준 상태·금액·주문 시각 일괄 UPDATE (금액·시각이 null이면 기존 값 유지)
+     */
+    void updateAll(List<OrderRow> rows);
+
+    /**
+     * 주문 상품 UPSERT (order_items_order_product_uniq 충돌 시 상품명·수량·금액 갱신)
+     * 같은 (orderId, externalProductId)는 목록에 한 번만 있어야 함
+     */
+    void upsertItems(List<OrderItemRow> rows);
+}
@@ -0,0 +1,150 @@
+package com.dooring.domain.order.repository;
+
+import com.dooring.domain.order.dto.OrderItemRow;
+import com.dooring.domain.order.dto.OrderKey;
+import com.dooring.domain.order.dto.OrderRow;
+import com.dooring.domain.order.entity.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    /** SQL 1개당 최대 행 수 (바인드 파라미터 65535개 한도 안쪽) */
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAllIfAbsent(List<OrderRow> rows) {
+        for (List<OrderRow> chunk : chunks(rows)) {
+            StringBuilder sql = new StringBuilder("""
+                    INSERT INTO orders (store_id, external_order_id, status, total_amount, ordered_at)
+                    VALUES
+                    """);
+            appendRows(sql, chunk.size(), "(?, ?, CAST(? AS order_status_enum), ?, ?)");
+            sql.append("ON CONFLICT (store_id, external_order_id) DO NOTHING\n");
+
+            List<Object> params = new ArrayList<>(chunk.size() * 5);
+            for (OrderRow row : chunk) {
+                params.add(row.storeId());
+                params.add(row.externalOrderId());
+                params.add(row.status().name());
+                params.add(row.totalAmount());
+                params.add(row.orderedAt());
+            }
+            jdbcTemplate.update(sql.toString(), params.toArray());
+        }
+    }
+
+    @Override
+    public List<OrderRow> lockAllByKeys(Collection<OrderKey> keys) {
+        List<OrderRow> locked = new ArrayList<>(keys.size());
+        for (List<OrderKey> chunk : chunks(new ArrayList<>(keys))) {
+            StringBuilder sql = new StringBuilder("""
+                    SELECT o.id, o.store_id, o.external_order_id, o.status, o.total_amount, o.ordered_at
+                    FROM orders o
+                    JOIN (VALUES
+                    """);
+            appendRows(sql, chunk.size(), "(CAST(? AS bigint), CAST(? AS text))");
+            sql.append("""
+                    ) AS k (store_id, external_order_id)
+                      ON o.store_id = k.store_id AND o.external_order_id = k.external_order_id
+                    ORDER BY o.id
+                    FOR UPDATE OF o
+                    """);
+
+            List<Object> params = new ArrayList<>(chunk.size() * 2);
+            for (OrderKey key : chunk) {
+                params.add(key.storeId());
+                params.add(key.externalOrderId());
+            }
+            locked.addAll(jdbcTemplate.query(sql.toString(),
+                    (rs, rowNum) -> {
+                        Timestamp orderedAt = rs.getTimestamp("ordered_at");
+                        return new OrderRow(
+                                rs.getLong("id"),
+                                rs.getLong("store_id"),
+                                rs.getString("external_order_id"),
+                                OrderStatus.valueOf(rs.getString("status")),
+                                rs.getBigDecimal("total_amount"),
+                                orderedAt != null ? orderedAt.toLocalDateTime() : null);
+                    },
+                    params.toArray()));
+        }
+        return locked;
+    }
+
+    @Override
+    public void updateAll(List<OrderRow> rows) {
+        for (List<OrderRow> chunk : chunks(rows)) {
+            StringBuilder sql = new StringBuilder("""
+                    UPDATE orders o
+                    SET status       = v.status,
+                        total_amount = COALESCE(v.total_amount, o.total_amount),
+                        ordered_at   = COALESCE(v.ordered_at, o.ordered_at),
+                        updated_at   = now()
+                    FROM (VALUES
+                    """);
+            appendRows(sql, chunk.size(),
+                    "(CAST(? AS bigint), CAST(? AS order_status_enum), CAST(? AS numeric), CAST(? AS timestamptz))");
+            sql.append(") AS v (id, status, total_amount, ordered_at)\nWHERE o.id = v.id\n");
+
+            List<Object> params = new ArrayList<>(chunk.size() * 4);
+            for (OrderRow row : chunk) {
+                params.add(row.id());
+                params.add(row.status().name());
+                params.add(row.totalAmount());
+                params.add(row.orderedAt());
+            }
+            jdbcTemplate.update(sql.toString(), params.toArray());
+        }
+    }
+
+    @Override
+    public void upsertItems(List<OrderItemRow> rows) {
+        for (List<OrderItemRow> chunk : chunks(rows)) {
+            StringBuilder sql = new StringBuilder("""
+                    INSERT INTO order_items (order_id, external_product_id, product_name, quantity, item_amount)
+                    VALUES
+                    """);
+            appendRows(sql, chunk.size(), "(?, ?, ?, ?, ?)");
+            sql.append("""
+                    ON CONFLICT (order_id, external_product_id) DO UPDATE
+                    SET product_name = COALESCE(EXCLUDED.product_name, order_items.product_name),
+                        quantity     = EXCLUDED.quantity,
+                        item_amount  = COALESCE(EXCLUDED.item_amount, order_items.item_amount)
+                    """);
+
+            List<Object> params = new ArrayList<>(chunk.size() * 5);
+            for (OrderItemRow row : chunk) {
+                params.add(row.orderId());
+                params.add(row.externalProductId());
+                params.add(row.productName());
+                params.add(row.quantity());
+                params.add(row.itemAmount());
+            }
+            jdbcTemplate.update(sql.toString(), params.toArray());
+        }
+    }
+
+    private static <T> List<List<T>> chunks(List<T> rows) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+            chunks.add(rows.subList(from, Math.min(rows.size(), from + MAX_ROWS_PER_STATEMENT)));
+        }
+        return chunks;
+    }
+
+    private static void appendRows(StringBuilder sql, int count, String placeholder) {
+        for (int i = 0; i < count; i++) {
+            sql.append(i == 0 ? "    " : ",\n    ").append(placeholder);
+        }
+        sql.append('\n');
+    }
+}
@@ -0,0 +1,164 @@
+package com.dooring.domain.order.service;
+
+import com.dooring.domain.catalog.entity.Store;
+import com.dooring.domain.catalog.repository.StoreRepository;
+import com.dooring.domain.identity.entity.Platform;
+import com.dooring.domain.identity.repository.PlatformRepository;
+import com.dooring.domain.order.dto.OrderItemRow;
+import com.dooring.domain.order.dto.OrderKey;
+import com.dooring.domain.order.dto.OrderRow;
+import com.dooring.domain.order.dto.OrderWebhookEvent;
+import com.dooring.domain.order.entity.OrderStatus;
+import com.dooring.domain.order.repository.OrderRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 주문 웹훅 이벤트 배치 반영
+ *
+ * 배치 1개 = 트랜잭션 1개
+ * 1. (플랫폼, 외부 스토어 ID) → storeId (로컬 캐시, 미등록 스토어 이벤트는 버림)
+ * 2. 없는 주문 멀티로우 INSERT (CREATED, orders_store_order_uniq 충돌 무시)
+ * 3. 배치 대상 주문 행 잠금 후 조회 (다른 인스턴스와 같은 주문 동시 반영 방지)
+ * 4. 주문별 이벤트를 수신 순서대로 적용 — 허용되지 않는 전이(역행·종료 후 변경)는 무시
+ * 5. 주문 일괄 UPDATE + 상품 UPSERT (order_items_order_product_uniq)
+ *
+ * 같은 웹훅이 다시 와도 결과가 같음 (같은 상태 전이는 무시, 상품은 UPSERT)
+ * 메트릭: dooring.webhook.events (outcome = applied | stale | unknown_store)
+ */
+@Slf4j
+@Service
+public class OrderIngestionService {
+
+    private final OrderRepository orderRepository;
+    private final StoreRepository storeRepository;
+    private final PlatformRepository platformRepository;
+    private final Counter appliedCounter;
+    private final Counter staleCounter;
+    private final Counter unknownStoreCounter;
+    /** "{platformCode}:{externalStoreId}" → storeId */
+    private final Cache<String, Long> storeIds = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    public OrderIngestionService(OrderRepository orderRepository,
+                                 StoreRepository storeRepository,
+                                 PlatformRepository platformRepository,
+                                 MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.storeRepository = storeRepository;
+        this.platformRepository = platformRepository;
+        this.appliedCounter = meterRegistry.counter("dooring.webhook.events", "outcome", "applied");
+        this.staleCounter = meterRegistry.counter("dooring.webhook.events", "outcome", "stale");
+        this.unknownStoreCounter = meterRegistry.counter("dooring.webhook.events", "outcome", "unknown_store");
+    }
+
+    /**
+     * 이벤트 배치 반영 (목록 순서 = 수신 순서)
+     */
+    @Transactional
+    public void apply(List<OrderWebhookEvent> events) {
+        Map<OrderKey, List<OrderWebhookEvent>> byOrder = new LinkedHashMap<>();
+        int unknownStore = 0;
+        for (OrderWebhookEvent event : events) {
+            Optional<Long> storeId = resolveStoreId(event.platformCode(), event.externalStoreId());
+            if (storeId.isEmpty()) {
+                unknownStore++;
+                continue;
+            }
+            byOrder.computeIfAbsent(new OrderKey(storeId.get(), event.externalOrderId()), key -> new ArrayList<>())
+                    .add(event);
+        }
+        if (unknownStore > 0) {
+            log.warn("등록되지 않은 스토어의 주문 웹훅 {}건을 건너뜁니다.", unknownStore);
+            unknownStoreCounter.increment(unknownStore);
+        }
+        if (byOrder.isEmpty()) {
+            return;
+        }
+
+        List<OrderRow> newOrders = new ArrayList<>(byOrder.size());
+        byOrder.forEach((key, orderEvents) -> {
+            OrderWebhookEvent first = orderEvents.get(0);
+            newOrders.add(new OrderRow(null, key.storeId(), key.externalOrderId(),
+                    OrderStatus.CREATED, first.totalAmount(), first.orderedAt()));
+        });
+        orderRepository.insertAllIfAbsent(newOrders);
+
+        List<OrderRow> updates = new ArrayList<>(byOrder.size());
+        List<OrderItemRow> items = new ArrayList<>();
+        int applied = 0;
+        int stale = 0;
+        for (OrderRow current : orderRepository.lockAllByKeys(byOrder.keySet())) {
+            OrderStatus status = current.status();
+            BigDecimal totalAmount = current.totalAmount();
+            LocalDateTime orderedAt = current.orderedAt();
+            Map<String, OrderItemRow> orderItems = new LinkedHashMap<>();
+
+            for (OrderWebhookEvent event : byOrder.get(current.key())) {
+                if (event.status() != null && event.status() != status && !status.canTransitionTo(event.status())) {
+                    stale++;
+                    continue;
+                }
+                applied++;
+                if (event.status() != null) {
+                    status = event.status();
+                }
+                if (event.totalAmount() != null) {
+                    totalAmount = event.totalAmount();
+                }
+                if (event.orderedAt() != null) {
+                    orderedAt = event.orderedAt();
+                }
+                for (OrderWebhookEvent.Item item : event.items()) {
+                    orderItems.put(item.externalProductId(), new OrderItemRow(
+                            current.id(),
+                            item.externalProductId(),
+                            item.productName(),
+                            item.quantity() != null ? item.quantity() : 1,
+                            item.itemAmount()));
+                }
+            }
+
+            updates.add(new OrderRow(current.id(), current.storeId(), current.externalOrderId(),
+                    status, totalAmount, orderedAt));
+            items.addAll(orderItems.values());
+        }
+
+        orderRepository.updateAll(updates);
+        orderRepository.upsertItems(items);
+
+        appliedCounter.increment(applied);
+        staleCounter.increment(stale);
+    }
+
+    private Optional<Long> resolveStoreId(String platformCode, String externalStoreId) {
+        String cacheKey = platformCode + ":" + externalStoreId;
+        Long cached = storeIds.getIfPresent(cacheKey);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // 미등록 스토어는 캐시하지 않음 (스토어 연동 직후 바로 반영되도록)
+        Optional<Long> storeId = platformRepository.findByCode(platformCode)
+                .map(Platform::getId)
+                .flatMap(platformId -> storeRepository.findByPlatformIdAndExternalStoreId(platformId, externalStoreId))
+                .map(Store::getId);
+        storeId.ifPresent(id -> storeIds.put(cacheKey, id));
+        return storeId;
+    }
+}
@@ -0,0 +1,10 @@
+package com.dooring.domain.tracking.dto;
+
+/**
+ * 유효한 어트리뷰션 세션 조회 결과
+ *
+ * @param sessionToken 세션 토큰 (= clicks.click_token)
+ * @param sessionId    attribution_sessions.id — 테이블을 조회하지 않는 저장소(Redis)면 null
+ *                     (pixel_events INSERT가 토큰으로 감사 행을 찾아 채움, 감사 행이 없으면 null로 저장)
+ */
+public record AttributionSessionRef(String sessionToken, Long sessionId) {}
@@ -0,0 +1,20 @@
+package com.dooring.domain.tracking.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 클릭 1건 + AttributionSession 1건의 저장 단위 (write-behind 적재용)
+ * sessionToken = clickToken
+ */
+public record ClickLog(
+        Long linkId,
+        Long campaignId,
+        BigDecimal commissionSnapshotAmount,
+        BigDecimal commissionSnapshotRate,
+        String clickToken,
+        String ipAddress,
+        String userAgent,
+        LocalDateTime clickedAt,
+        LocalDateTime expiresAt
+) {}
@@ -0,0 +1,18 @@
+package com.dooring.domain.tracking.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 세션 정리 청크 1회 결과
+ *
+ * @param scanned        청크로 고른 삭제 대상 수 — 픽셀이 참조하지 않는 만료 세션 (LIMIT 미만이면 마지막 청크)
+ * @param deleted        실제 삭제된 수 (그 사이 다른 인스턴스가 지운 행은 제외)
+ * @param lastExpiresAt  다음 청크 시작 키 — 청크 마지막 행의 expires_at (scanned = 0이면 null)
+ * @param lastId         다음 청크 시작 키 — 청크 마지막 행의 id (scanned = 0이면 null)
+ */
+public record ExpiredSessionChunk(
+        int scanned,
+        int deleted,
+        LocalDateTime lastExpiresAt,
+        Long lastId
+) {}
@@ -0,0 +1,16 @@
+package com.dooring.domain.tracking.dto;
+
+/**
+ * 내 링크 목록 정렬 (링크 ID 키셋 — 발급 순서 = ID 순서)
+ */
+public enum LinkSort {
+    /**
+     * 최근 발급 순
+     */
+    NEWEST,
+
+    /**
+     * 오래된 발급 순
+     */
+    OLDEST
+}
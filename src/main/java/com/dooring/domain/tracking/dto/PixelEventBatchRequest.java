@@ -0,0 +1,15 @@
+package com.dooring.domain.tracking.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record PixelEventBatchRequest(
+
+        @NotEmpty(message = "이벤트가 1건 이상 필요합니다")
+        @Size(max = 500, message = "한 번에 최대 500건까지 전송할 수 있습니다")
+        List<@NotNull @Valid PixelEventRequest> events
+) {}
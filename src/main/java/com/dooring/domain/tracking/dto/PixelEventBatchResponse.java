@@ -0,0 +1,29 @@
+package com.dooring.domain.tracking.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PixelEventBatchResponse {
+
+    private int recordedCount;
+    private int duplicateCount;
+    private List<Outcome> outcomes;   // 요청 events와 같은 순서
+
+    @Getter
+    @Builder
+    public static class Outcome {
+        private Long storeId;
+        private String externalOrderId;
+        private Status status;
+        private boolean attributed;   // 유효한 세션으로 귀속됐는지 (RECORDED일 때만 true 가능)
+    }
+
+    public enum Status {
+        RECORDED,   // 새로 저장됨
+        DUPLICATE   // 이미 처리된 주문 (이전 요청 또는 같은 배치 안의 앞선 이벤트)
+    }
+}
@@ -0,0 +1,6 @@
+package com.dooring.domain.tracking.dto;
+
+/**
+ * 픽셀 이벤트 멱등 키 (pixel_order_keys PK)
+ */
+public record PixelEventKey(Long storeId, String externalOrderId) {}
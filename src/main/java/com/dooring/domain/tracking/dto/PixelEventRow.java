@@ -0,0 +1,19 @@
+package com.dooring.domain.tracking.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * pixel_events 멀티로우 INSERT 1행
+ */
+public record PixelEventRow(
+        Long storeId,
+        String externalOrderId,
+        Long attributionSessionId,
+        String sessionToken,
+        LocalDateTime eventTime
+) {
+
+    public PixelEventKey key() {
+        return new PixelEventKey(storeId, externalOrderId);
+    }
+}
@@ -0,0 +1,32 @@
+package com.dooring.domain.tracking.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * shortCode → 리다이렉트에 필요한 정보 스냅샷 (불변)
+ * Link → Product → is_active 캠페인을 한 번에 담아 캐시
+ *
+ * 캠페인 기간은 스냅샷 시점이 아니라 클릭 시점에 판단 (isCampaignActiveAt)
+ * → 기간이 시작·만료돼도 캐시를 다시 채울 필요 없음
+ */
+public record ShortCodeResolution(
+        Long linkId,
+        Long productId,
+        String productUrl,
+        Long campaignId,
+        BigDecimal commissionAmount,
+        BigDecimal commissionRate,
+        LocalDateTime campaignStartsAt,
+        LocalDateTime campaignEndsAt
+) {
+
+    /**
+     * 주어진 시점에 스냅샷의 캠페인이 기간 내인지 (Campaign.isActiveInPeriod와 동일 규칙)
+     */
+    public boolean isCampaignActiveAt(LocalDateTime now) {
+        return campaignId != null
+                && !now.isBefore(campaignStartsAt)
+                && !now.isAfter(campaignEndsAt);
+    }
+}
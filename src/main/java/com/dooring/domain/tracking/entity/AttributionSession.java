@@ -16,7 +16,7 @@ import java.time.LocalDateTime;
 @Table(
     name = "attribution_sessions",
     indexes = {
-        @Index(name = "attribution_sessions_expires_idx", columnList = "expires_at")
+        @Index(name = "attribution_sessions_expires_id_idx", columnList = "expires_at, id")
     }
 )
 @Getter
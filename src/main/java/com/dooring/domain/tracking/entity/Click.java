@@ -12,13 +12,14 @@ import java.time.LocalDateTime;
 /**
  * 클릭 로그 (캠페인 스냅샷 포함, 어트리뷰션 윈도우 24h)
  * 링크 클릭 시점의 캠페인 정보를 스냅샷으로 저장
+ * 테이블은 clicked_at 기준 월 파티션 (V6) — PK (id, clicked_at), 보존 기간 지난 파티션은 통째로 제거
  */
 @Entity
 @Table(
     name = "clicks",
     indexes = {
         @Index(name = "clicks_link_clicked_at_idx", columnList = "link_id, clicked_at"),
-        @Index(name = "clicks_token_idx", columnList = "click_token")
+        @Index(name = "clicks_token_clicked_at_uniq", columnList = "click_token, clicked_at", unique = true)
     }
 )
 @Getter
@@ -58,7 +59,7 @@ public class Click {
     /**
      * URL 파라미터 + 쿠키 + 세션 스토리지에 저장되는 추적 토큰
      */
-    @Column(name = "click_token", nullable = false, unique = true)
+    @Column(name = "click_token", nullable = false)
     private String clickToken;
 
     /**
@@ -1,5 +1,6 @@
 package com.dooring.domain.tracking.entity;
 
+import com.dooring.domain.tracking.event.LinkEntityListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -13,6 +14,7 @@ import java.time.LocalDateTime;
  * 크리에이터가 상품에 대해 발급받는 추적 링크
  */
 @Entity
+@EntityListeners(LinkEntityListener.class)
 @Table(
     name = "links",
     uniqueConstraints = {
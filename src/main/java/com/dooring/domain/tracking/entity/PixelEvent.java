@@ -11,17 +11,11 @@ import java.time.LocalDateTime;
 /**
  * 픽셀 전환 이벤트 (idempotent, 웹훅 선/후행 모두 대응)
  * 클라이언트 사이드 픽셀로 수신한 전환 이벤트
+ * 테이블은 event_time 기준 월 파티션 (V6) — 주문 단위 멱등은 pixel_order_keys가 담당
+ * 저장은 PixelEventRepository.insertIgnoringDuplicate / insertAllIgnoringDuplicates 로만 (save 사용 금지)
  */
 @Entity
-@Table(
-    name = "pixel_events",
-    uniqueConstraints = {
-        @UniqueConstraint(
-            name = "pixel_store_order_uniq",
-            columnNames = {"store_id", "external_order_id"}
-        )
-    }
-)
+@Table(name = "pixel_events")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PixelEvent {
@@ -49,6 +43,13 @@ public class PixelEvent {
     @JoinColumn(name = "attribution_session_id")
     private AttributionSession attributionSession;
 
+    /**
+     * 유효한 세션으로 확인된 세션 토큰 (= clicks.click_token, nullable)
+     * Redis 세션 저장소는 attribution_sessions.id를 모르므로 이 값으로 클릭을 찾음
+     */
+    @Column(name = "session_token")
+    private String sessionToken;
+
     /**
      * 이벤트 발생 시각
      */
@@ -59,10 +60,12 @@ public class PixelEvent {
     private LocalDateTime createdAt;
 
     @Builder
-    public PixelEvent(Long storeId, String externalOrderId, AttributionSession attributionSession) {
+    public PixelEvent(Long storeId, String externalOrderId,
+                      AttributionSession attributionSession, String sessionToken) {
         this.storeId = storeId;
         this.externalOrderId = externalOrderId;
         this.attributionSession = attributionSession;
+        this.sessionToken = sessionToken;
         this.eventTime = LocalDateTime.now();
         this.createdAt = LocalDateTime.now();
     }
@@ -0,0 +1,7 @@
+package com.dooring.domain.tracking.event;
+
+/**
+ * 링크가 변경·삭제됨
+ * shortCode 단위 캐시 무효화에 사용
+ */
+public record LinkChangedEvent(String shortCode) {}
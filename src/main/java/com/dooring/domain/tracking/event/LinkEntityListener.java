@@ -0,0 +1,25 @@
+package com.dooring.domain.tracking.event;
+
+import com.dooring.domain.tracking.entity.Link;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Link JPA 콜백 → LinkChangedEvent 발행
+ * Hibernate가 Spring 빈으로 생성 (SpringBeanContainer)
+ */
+@Component
+@RequiredArgsConstructor
+public class LinkEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Link link) {
+        eventPublisher.publishEvent(new LinkChangedEvent(link.getShortCode()));
+    }
+}
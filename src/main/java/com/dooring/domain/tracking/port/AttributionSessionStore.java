@@ -0,0 +1,51 @@
+package com.dooring.domain.tracking.port;
+
+import com.dooring.domain.tracking.dto.AttributionSessionRef;
+import com.dooring.domain.tracking.dto.ClickLog;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 어트리뷰션 세션 저장소 Port (클릭 → 등록, 픽셀 → 조회)
+ * 구현체는 infrastructure/persistence/tracking/에 위치
+ * dooring.tracking.session-store.type 으로 선택
+ * - jpa (기본값) : attribution_sessions 테이블
+ * - redis        : 키 만료(TTL)로 24h 윈도우 관리, 테이블은 선택적 감사 기록
+ */
+public interface AttributionSessionStore {
+
+    /**
+     * 클릭 경로에서 세션 등록 (여러 건이면 한 번에 전송)
+     *
+     * @param clickLogs 클릭 로그 (sessionToken = clickToken, 만료 = expiresAt)
+     */
+    void saveAll(List<ClickLog> clickLogs);
+
+    /**
+     * 만료되지 않은 세션 조회
+     *
+     * @param sessionToken 세션 토큰
+     * @param now 현재 시각
+     * @return 유효한 세션 (없거나 만료면 empty)
+     */
+    Optional<AttributionSessionRef> findValid(String sessionToken, LocalDateTime now);
+
+    /**
+     * 만료되지 않은 세션 일괄 조회 (픽셀 배치 수신용, 왕복 1회)
+     *
+     * @param sessionTokens 세션 토큰 목록
+     * @param now 현재 시각
+     * @return 토큰 → 유효한 세션 (없거나 만료된 토큰은 빠짐)
+     */
+    Map<String, AttributionSessionRef> findAllValid(Collection<String> sessionTokens, LocalDateTime now);
+
+    /**
+     * 클릭 저장 시 attribution_sessions 행도 함께 기록해야 하는지
+     * (ClickLogWriter 구현체가 참조)
+     */
+    boolean usesSessionTable();
+}
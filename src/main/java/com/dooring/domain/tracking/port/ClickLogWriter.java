@@ -0,0 +1,20 @@
+package com.dooring.domain.tracking.port;
+
+import com.dooring.domain.tracking.dto.ClickLog;
+
+/**
+ * 클릭 로그 저장 Port
+ * 구현체는 infrastructure/persistence/tracking/에 위치
+ * dooring.tracking.click-write-mode 로 선택
+ * - sync (기본값)  : JpaClickLogWriter — 호출 스레드에서 INSERT 후 반환
+ * - write-behind  : WriteBehindClickLogWriter — 큐 적재 후 즉시 반환, 배치 INSERT
+ */
+public interface ClickLogWriter {
+
+    /**
+     * 클릭 로그 저장 (write-behind 모드에서는 DB 반영을 기다리지 않고 반환)
+     *
+     * @param clickLog 클릭 + 세션 저장 단위
+     */
+    void append(ClickLog clickLog);
+}
@@ -0,0 +1,20 @@
+package com.dooring.domain.tracking.port;
+
+/**
+ * shortCode 번호 블록 예약 Port
+ * 구현체는 infrastructure/persistence/tracking/에 위치 (short_code_seq 시퀀스)
+ *
+ * 예약된 블록 [start, start + BLOCK_SIZE)는 호출한 인스턴스 전용 → 발급 시 조회·중복 확인 불필요
+ */
+public interface ShortCodeSequence {
+
+    /** 블록 크기 — V5 마이그레이션의 INCREMENT BY 와 같아야 함 */
+    long BLOCK_SIZE = 1000L;
+
+    /**
+     * 다음 번호 블록 예약
+     *
+     * @return 블록 시작 번호
+     */
+    long reserveBlock();
+}
@@ -7,13 +7,14 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * 어트리뷰션 세션 Repository
  */
-public interface AttributionSessionRepository extends JpaRepository<AttributionSession, Long> {
+public interface AttributionSessionRepository extends JpaRepository<AttributionSession, Long>, AttributionSessionRepositoryCustom {
 
     /**
      * 세션 토큰으로 조회
@@ -43,6 +44,17 @@ public interface AttributionSessionRepository extends JpaRepository<AttributionS
     Optional<AttributionSession> findValidSessionByToken(@Param("sessionToken") String sessionToken,
                                                           @Param("now") LocalDateTime now);
 
+    /**
+     * 만료되지 않은 세션 일괄 조회 (픽셀 배치 수신용, IN 쿼리 1회)
+     *
+     * @param sessionTokens 세션 토큰 목록
+     * @param now 현재 시각
+     * @return 유효한 세션 목록 (없는 토큰은 빠짐)
+     */
+    @Query("SELECT s FROM AttributionSession s WHERE s.sessionToken IN :sessionTokens AND s.expiresAt > :now")
+    List<AttributionSession> findAllValidSessionsByTokens(@Param("sessionTokens") Collection<String> sessionTokens,
+                                                          @Param("now") LocalDateTime now);
+
     /**
      * 만료된 세션 삭제 (배치 정리용)
      *
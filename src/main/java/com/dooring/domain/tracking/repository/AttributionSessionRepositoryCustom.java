@@ -0,0 +1,36 @@
+package com.dooring.domain.tracking.repository;
+
+import com.dooring.domain.tracking.dto.ExpiredSessionChunk;
+
+import java.time.LocalDateTime;
+
+/**
+ * 어트리뷰션 세션 Repository — JDBC 구현 메서드 (AttributionSessionRepositoryImpl)
+ */
+public interface AttributionSessionRepositoryCustom {
+
+    /**
+     * 만료 세션 키셋 청크 삭제 (SQL 1개)
+     * (expires_at, id) > (afterExpiresAt, afterId) 이고 pixel_events가 참조하지 않는 만료 세션을
+     * 키 순서로 limit개 골라 삭제 (참조 세션은 청크에 넣지 않으므로 쌓여도 청크를 차지하지 않음)
+     *
+     * @param cutoff         이 시각 이전에 만료된 세션만 대상
+     * @param afterExpiresAt 이전 청크의 마지막 expires_at (첫 청크는 null)
+     * @param afterId        이전 청크의 마지막 id (첫 청크는 null)
+     * @param limit          청크 크기
+     * @return 청크 결과 (다음 청크 시작 키 포함)
+     */
+    ExpiredSessionChunk deleteExpiredChunk(LocalDateTime cutoff, LocalDateTime afterExpiresAt, Long afterId, int limit);
+
+    /**
+     * 남은 삭제 대상 수 (pixel_events가 참조하지 않는 만료 세션, 키셋 위치 이후만)
+     * 최대 limit개까지만 세므로 밀린 양이 많아도 스캔이 제한됨
+     *
+     * @param cutoff         이 시각 이전에 만료된 세션만 대상
+     * @param afterExpiresAt 마지막 청크의 마지막 expires_at (처음부터면 null)
+     * @param afterId        마지막 청크의 마지막 id (처음부터면 null)
+     * @param limit          셀 최대 개수
+     * @return 삭제 대상 수 (limit 이하)
+     */
+    long countDeletableExpired(LocalDateTime cutoff, LocalDateTime afterExpiresAt, Long afterId, long limit);
+}
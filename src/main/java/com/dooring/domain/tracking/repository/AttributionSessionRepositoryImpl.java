@@ -0,0 +1,85 @@
+package com.dooring.domain.tracking.repository;
+
+import com.dooring.domain.tracking.dto.ExpiredSessionChunk;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+class AttributionSessionRepositoryImpl implements AttributionSessionRepositoryCustom {
+
+    private static final String DELETE_EXPIRED_CHUNK_SQL = """
+            WITH chunk AS (
+                SELECT s.id, s.expires_at
+                FROM attribution_sessions s
+                WHERE s.expires_at < ?
+                  AND (s.expires_at, s.id) > (?, ?)
+                  AND NOT EXISTS (SELECT 1 FROM pixel_events p WHERE p.attribution_session_id = s.id)
+                ORDER BY s.expires_at, s.id
+                LIMIT ?
+            ),
+            deleted AS (
+                DELETE FROM attribution_sessions s
+                USING chunk c
+                WHERE s.id = c.id
+                RETURNING s.id
+            ),
+            last_key AS (
+                SELECT expires_at, id
+                FROM chunk
+                ORDER BY expires_at DESC, id DESC
+                LIMIT 1
+            )
+            SELECT (SELECT COUNT(*) FROM chunk)   AS scanned,
+                   (SELECT COUNT(*) FROM deleted) AS deleted,
+                   (SELECT expires_at FROM last_key) AS last_expires_at,
+                   (SELECT id FROM last_key)      AS last_id
+            """;
+
+    private static final String COUNT_DELETABLE_EXPIRED_SQL = """
+            SELECT COUNT(*)
+            FROM (
+                SELECT 1
+                FROM attribution_sessions s
+                WHERE s.expires_at < ?
+                  AND (s.expires_at, s.id) > (?, ?)
+                  AND NOT EXISTS (SELECT 1 FROM pixel_events p WHERE p.attribution_session_id = s.id)
+                LIMIT ?
+            ) t
+            """;
+
+    /** 첫 청크 시작 키 (모든 행보다 앞) */
+    private static final LocalDateTime FIRST_KEY_EXPIRES_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public ExpiredSessionChunk deleteExpiredChunk(LocalDateTime cutoff, LocalDateTime afterExpiresAt, Long afterId, int limit) {
+        return jdbcTemplate.queryForObject(DELETE_EXPIRED_CHUNK_SQL,
+                (rs, rowNum) -> {
+                    Timestamp lastExpiresAt = rs.getTimestamp("last_expires_at");
+                    long lastId = rs.getLong("last_id");
+                    return new ExpiredSessionChunk(
+                            rs.getInt("scanned"),
+                            rs.getInt("deleted"),
+                            lastExpiresAt != null ? lastExpiresAt.toLocalDateTime() : null,
+                            rs.wasNull() ? null : lastId);
+                },
+                cutoff,
+                afterExpiresAt != null ? afterExpiresAt : FIRST_KEY_EXPIRES_AT,
+                afterId != null ? afterId : 0L,
+                limit);
+    }
+
+    @Override
+    public long countDeletableExpired(LocalDateTime cutoff, LocalDateTime afterExpiresAt, Long afterId, long limit) {
+        Long count = jdbcTemplate.queryForObject(COUNT_DELETABLE_EXPIRED_SQL, Long.class,
+                cutoff,
+                afterExpiresAt != null ? afterExpiresAt : FIRST_KEY_EXPIRES_AT,
+                afterId != null ? afterId : 0L,
+                limit);
+        return count != null ? count : 0L;
+    }
+}
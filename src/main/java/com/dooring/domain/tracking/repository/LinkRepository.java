@@ -1,7 +1,10 @@
 package com.dooring.domain.tracking.repository;
 
 import com.dooring.domain.tracking.entity.Link;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -46,6 +49,32 @@ public interface LinkRepository extends JpaRepository<Link, Long> {
      */
     List<Link> findAllByCreatorId(Long creatorId);
 
+    /**
+     * 크리에이터의 링크 키셋 페이지 — 최근 발급 순 (id < cursor)
+     *
+     * @param creatorId 크리에이터 ID
+     * @param cursor 이 ID보다 작은 링크부터
+     * @param limit 조회 건수
+     * @return 링크 목록 (id 내림차순)
+     */
+    @Query("SELECT l FROM Link l WHERE l.creatorId = :creatorId AND l.id < :cursor ORDER BY l.id DESC")
+    List<Link> findPageByCreatorIdBefore(@Param("creatorId") Long creatorId,
+                                         @Param("cursor") Long cursor,
+                                         Limit limit);
+
+    /**
+     * 크리에이터의 링크 키셋 페이지 — 오래된 발급 순 (id > cursor)
+     *
+     * @param creatorId 크리에이터 ID
+     * @param cursor 이 ID보다 큰 링크부터
+     * @param limit 조회 건수
+     * @return 링크 목록 (id 오름차순)
+     */
+    @Query("SELECT l FROM Link l WHERE l.creatorId = :creatorId AND l.id > :cursor ORDER BY l.id ASC")
+    List<Link> findPageByCreatorIdAfter(@Param("creatorId") Long creatorId,
+                                        @Param("cursor") Long cursor,
+                                        Limit limit);
+
     /**
      * 상품의 모든 링크 조회
      *
@@ -2,6 +2,7 @@ package com.dooring.domain.tracking.repository;
 
 import com.dooring.domain.tracking.entity.PixelEvent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,7 +13,7 @@ import java.util.Optional;
 /**
  * 픽셀 전환 이벤트 Repository
  */
-public interface PixelEventRepository extends JpaRepository<PixelEvent, Long> {
+public interface PixelEventRepository extends JpaRepository<PixelEvent, Long>, PixelEventRepositoryCustom {
 
     /**
      * 스토어 + 외부 주문 ID로 픽셀 이벤트 조회
@@ -34,6 +35,38 @@ public interface PixelEventRepository extends JpaRepository<PixelEvent, Long> {
      */
     boolean existsByStoreIdAndExternalOrderId(Long storeId, String externalOrderId);
 
+    /**
+     * 픽셀 이벤트 저장 (중복 주문이면 무시)
+     * 존재 확인 없이 INSERT 1회 — 동시 중복 요청도 UNIQUE 예외 없이 0 반환
+     * 멱등 키는 pixel_order_keys가 담당 (pixel_events는 월 파티션이라 주문 단위 UNIQUE 불가)
+     *
+     * @param storeId 스토어 ID
+     * @param externalOrderId 외부 주문 ID
+     * @param attributionSessionId 어트리뷰션 세션 ID (미귀속이면 null)
+     * @param sessionToken 세션 토큰 (미귀속이면 null)
+     *                     — ID 없이 토큰만 오면(Redis 세션 저장소) attribution_sessions 감사 행에서 ID를 찾아 채움
+     * @return 저장된 행 수 (1: 신규, 0: 이미 처리된 주문)
+     */
+    @Modifying
+    @Query(value = """
+            WITH new_key AS (
+                INSERT INTO pixel_order_keys (store_id, external_order_id)
+                VALUES (:storeId, :externalOrderId)
+                ON CONFLICT DO NOTHING
+                RETURNING store_id, external_order_id
+            )
+            INSERT INTO pixel_events (store_id, external_order_id, attribution_session_id, session_token)
+            SELECT store_id, external_order_id,
+                   COALESCE(CAST(:attributionSessionId AS bigint),
+                            (SELECT s.id FROM attribution_sessions s WHERE s.session_token = CAST(:sessionToken AS text))),
+                   CAST(:sessionToken AS text)
+            FROM new_key
+            """, nativeQuery = true)
+    int insertIgnoringDuplicate(@Param("storeId") Long storeId,
+                                @Param("externalOrderId") String externalOrderId,
+                                @Param("attributionSessionId") Long attributionSessionId,
+                                @Param("sessionToken") String sessionToken);
+
     /**
      * 어트리뷰션 세션별 픽셀 이벤트 조회
      *
@@ -0,0 +1,21 @@
+package com.dooring.domain.tracking.repository;
+
+import com.dooring.domain.tracking.dto.PixelEventKey;
+import com.dooring.domain.tracking.dto.PixelEventRow;
+
+import java.util.List;
+
+/**
+ * 픽셀 이벤트 Repository — JDBC 구현 메서드 (PixelEventRepositoryImpl)
+ */
+public interface PixelEventRepositoryCustom {
+
+    /**
+     * 픽셀 이벤트 멀티로우 INSERT (SQL 1개)
+     * (store_id, external_order_id) 충돌 행은 무시 — 배치 안의 중복도 첫 행만 저장
+     *
+     * @param rows 저장할 행 목록
+     * @return 실제로 저장된 행의 키
+     */
+    List<PixelEventKey> insertAllIgnoringDuplicates(List<PixelEventRow> rows);
+}
@@ -0,0 +1,64 @@
+package com.dooring.domain.tracking.repository;
+
+import com.dooring.domain.tracking.dto.PixelEventKey;
+import com.dooring.domain.tracking.dto.PixelEventRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+class PixelEventRepositoryImpl implements PixelEventRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<PixelEventKey> insertAllIgnoringDuplicates(List<PixelEventRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        StringBuilder sql = new StringBuilder("""
+                WITH batch (ord, store_id, external_order_id, attribution_session_id, session_token, event_time) AS (
+                VALUES
+                """);
+        List<Object> params = new ArrayList<>(rows.size() * 5);
+        for (int i = 0; i < rows.size(); i++) {
+            PixelEventRow row = rows.get(i);
+            sql.append(i == 0 ? "    " : ",\n    ")
+                    .append('(').append(i)
+                    .append(", CAST(? AS bigint), CAST(? AS text), CAST(? AS bigint), CAST(? AS text), CAST(? AS timestamp))");
+            params.add(row.storeId());
+            params.add(row.externalOrderId());
+            params.add(row.attributionSessionId());
+            params.add(row.sessionToken());
+            params.add(row.eventTime());
+        }
+        sql.append("""
+
+                ),
+                new_keys AS (
+                    INSERT INTO pixel_order_keys (store_id, external_order_id)
+                    SELECT store_id, external_order_id FROM batch
+                    ON CONFLICT DO NOTHING
+                    RETURNING store_id, external_order_id
+                )
+                INSERT INTO pixel_events (store_id, external_order_id, attribution_session_id, session_token,
+                                          event_time, created_at)
+                SELECT DISTINCT ON (b.store_id, b.external_order_id)
+                       b.store_id, b.external_order_id,
+                       COALESCE(b.attribution_session_id,
+                                (SELECT s.id FROM attribution_sessions s WHERE s.session_token = b.session_token)),
+                       b.session_token, b.event_time, now()
+                FROM batch b
+                JOIN new_keys k ON k.store_id = b.store_id AND k.external_order_id = b.external_order_id
+                ORDER BY b.store_id, b.external_order_id, b.ord
+                RETURNING store_id, external_order_id
+                """);
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new PixelEventKey(rs.getLong("store_id"), rs.getString("external_order_id")),
+                params.toArray());
+    }
+}
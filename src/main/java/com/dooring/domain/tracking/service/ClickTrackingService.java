@@ -1,81 +1,108 @@
 package com.dooring.domain.tracking.service;
 
-import com.dooring.common.exception.BusinessException;
-import com.dooring.common.exception.ErrorCode;
-import com.dooring.domain.catalog.entity.Campaign;
-import com.dooring.domain.catalog.entity.Product;
-import com.dooring.domain.catalog.service.CampaignService;
-import com.dooring.domain.catalog.service.ProductService;
+import com.dooring.common.util.ClickTokenGenerator;
+import com.dooring.domain.tracking.dto.ClickLog;
 import com.dooring.domain.tracking.dto.ClickRecordResult;
-import com.dooring.domain.tracking.entity.AttributionSession;
-import com.dooring.domain.tracking.entity.Click;
-import com.dooring.domain.tracking.entity.Link;
-import com.dooring.domain.tracking.repository.AttributionSessionRepository;
-import com.dooring.domain.tracking.repository.ClickRepository;
-import lombok.RequiredArgsConstructor;
+import com.dooring.domain.tracking.dto.ShortCodeResolution;
+import com.dooring.domain.tracking.port.ClickLogWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Optional;
-import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
 public class ClickTrackingService {
 
-    private final LinkService linkService;
-    private final ProductService productService;
-    private final CampaignService campaignService;
-    private final ClickRepository clickRepository;
-    private final AttributionSessionRepository attributionSessionRepository;
+    /** 어트리뷰션 윈도우 (클릭 후 24시간) */
+    static final Duration ATTRIBUTION_WINDOW = Duration.ofHours(24);
+
+    private final ShortCodeResolver shortCodeResolver;
+    private final ClickLogWriter clickLogWriter;
+    private final ClickTokenGenerator clickTokenGenerator;
+    private final DuplicateClickFilter duplicateClickFilter;
+    private final MeterRegistry meterRegistry;
+    /** 태그 조합이 고정 → 생성 시 등록 (요청마다 builder·레지스트리 조회 없음) */
+    private final Timer campaignPresentTimer;
+    private final Timer campaignAbsentTimer;
+    private final Counter suppressedCounter;
+
+    public ClickTrackingService(ShortCodeResolver shortCodeResolver,
+                                ClickLogWriter clickLogWriter,
+                                ClickTokenGenerator clickTokenGenerator,
+                                DuplicateClickFilter duplicateClickFilter,
+                                MeterRegistry meterRegistry) {
+        this.shortCodeResolver = shortCodeResolver;
+        this.clickLogWriter = clickLogWriter;
+        this.clickTokenGenerator = clickTokenGenerator;
+        this.duplicateClickFilter = duplicateClickFilter;
+        this.meterRegistry = meterRegistry;
+        this.campaignPresentTimer = recordTimer("present");
+        this.campaignAbsentTimer = recordTimer("absent");
+        this.suppressedCounter = meterRegistry.counter("dooring.click.suppressed");
+    }
 
     /**
      * 클릭 기록 + AttributionSession 생성
-     * 1. shortCode → Link 조회
-     * 2. Link → Product 조회 (productUrl 검증)
-     * 3. 활성 캠페인 스냅샷 추출 (없으면 null — 비활성 기간 클릭도 저장)
-     * 4. Click 저장
-     * 5. AttributionSession 저장 (sessionToken = clickToken, TTL = 24h)
-     * 6. redirectUrl = productUrl + "?dooring_session=" + sessionToken
+     * 1. shortCode → Link / Product / 캠페인 스냅샷 (ShortCodeResolver 캐시, 미스 시에만 DB 조회)
+     * 2. 클릭 시점에 캠페인 기간이면 커미션 스냅샷 포함 (아니면 null — 비활성 기간 클릭도 저장)
+     * 3. Click + AttributionSession 저장 (sessionToken = clickToken, TTL = 24h) — ClickLogWriter
+     * 4. redirectUrl = productUrl + "?dooring_session=" + sessionToken
+     *
+     * 같은 링크·IP·UA의 연타 클릭은 DuplicateClickFilter에서 걸러 저장하지 않음
+     * → 저장만 건너뛰고 먼저 기록된 클릭의 세션 토큰으로 리다이렉트 (귀속 유지)
+     *
+     * 트랜잭션은 ClickLogWriter 구현체가 연다
+     * (여기서 열면 캐시 적중이어도 요청마다 커넥션을 잡게 됨)
+     *
+     * 메트릭: dooring.click.record (campaign = present | absent) — 해석 실패는 dooring.redirect에서 집계
+     *        dooring.click.suppressed (중복 판정으로 저장하지 않은 클릭 수)
      */
-    @Transactional
     public ClickRecordResult recordClick(String shortCode, String ipAddress, String userAgent) {
-        Link link = linkService.findEntityByShortCode(shortCode);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ShortCodeResolution resolution = shortCodeResolver.resolve(shortCode);
 
-        Product product = productService.findEntityById(link.getProductId());
-
-        String productUrl = product.getProductUrl();
-        if (productUrl == null || productUrl.isBlank()) {
-            throw new BusinessException(ErrorCode.PRODUCT_URL_NOT_FOUND);
+        String recentToken = duplicateClickFilter.findRecentToken(resolution.linkId(), ipAddress, userAgent);
+        if (recentToken != null) {
+            suppressedCounter.increment();
+            return new ClickRecordResult(redirectUrl(resolution, recentToken), recentToken);
         }
 
-        Optional<Campaign> campaignOpt = campaignService.findActiveByProductOptional(link.getProductId());
+        LocalDateTime clickedAt = LocalDateTime.now();
+        boolean campaignActive = resolution.isCampaignActiveAt(clickedAt);
 
-        String clickToken = UUID.randomUUID().toString();
+        String clickToken = clickTokenGenerator.generate();
 
-        Click click = Click.builder()
-                .link(link)
-                .campaignId(campaignOpt.map(Campaign::getId).orElse(null))
-                .commissionSnapshotAmount(campaignOpt.map(Campaign::getCommissionAmount).orElse(null))
-                .commissionSnapshotRate(campaignOpt.map(Campaign::getCommissionRate).orElse(null))
-                .clickToken(clickToken)
-                .ipAddress(ipAddress)
-                .userAgent(userAgent)
-                .build();
+        clickLogWriter.append(new ClickLog(
+                resolution.linkId(),
+                campaignActive ? resolution.campaignId() : null,
+                campaignActive ? resolution.commissionAmount() : null,
+                campaignActive ? resolution.commissionRate() : null,
+                clickToken,
+                ipAddress,
+                userAgent,
+                clickedAt,
+                clickedAt.plus(ATTRIBUTION_WINDOW)
+        ));
 
-        clickRepository.save(click);
+        duplicateClickFilter.remember(resolution.linkId(), ipAddress, userAgent, clickToken);
 
-        AttributionSession session = AttributionSession.builder()
-                .sessionToken(clickToken)
-                .click(click)
-                .expiresAt(LocalDateTime.now().plusHours(24))
-                .build();
+        sample.stop(campaignActive ? campaignPresentTimer : campaignAbsentTimer);
 
-        attributionSessionRepository.save(session);
+        return new ClickRecordResult(redirectUrl(resolution, clickToken), clickToken);
+    }
 
-        String finalRedirectUrl = productUrl + "?dooring_session=" + session.getSessionToken();
+    private Timer recordTimer(String campaign) {
+        return Timer.builder("dooring.click.record")
+                .description("click log + session registration (service)")
+                .tag("campaign", campaign)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
-        return new ClickRecordResult(finalRedirectUrl, session.getSessionToken());
+    private static String redirectUrl(ShortCodeResolution resolution, String sessionToken) {
+        return resolution.productUrl() + "?dooring_session=" + sessionToken;
     }
 }
@@ -0,0 +1,98 @@
+package com.dooring.domain.tracking.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 중복·연타 클릭 필터 (링크 + IP + User-Agent, 인스턴스 로컬)
+ *
+ * - 키 → 첫 클릭 세션 토큰 캐시 하나로 판정 (expireAfterWrite = window)
+ *   → 기록된 클릭 후 window 동안 같은 키는 중복, DB 조회 없음
+ * - 키는 링크·IP·UA의 64비트 해시 (UA 원문을 들고 있지 않음 — 항목당 Long 키 + 토큰 문자열, 충돌 확률은 무시할 수준)
+ * - 캐시가 max-size를 넘으면 오래된 키부터 밀려나고, 밀려난 키의 연타는 새 클릭으로 기록 (중복으로 잘못 보지는 않음)
+ * - 인스턴스마다 따로 판정 → 다른 인스턴스로 간 연타는 걸러지지 않음
+ *
+ * 중복 판정된 클릭은 기록하지 않음 — 첫 클릭 기록 시점부터 창이 시작 (연타가 창을 연장하지 않음)
+ * 저장만 건너뛰고 리다이렉트에는 첫 클릭의 세션 토큰을 다시 붙임 (연타·새로고침·뒤로 가기 후에도 귀속 유지)
+ */
+@Component
+public class DuplicateClickFilter {
+
+    private final boolean enabled;
+    /** hash(linkId, IP, UA) → 기록된 클릭의 세션 토큰 */
+    private final Cache<Long, String> recentTokens;
+
+    public DuplicateClickFilter(
+            @Value("${dooring.tracking.duplicate-click.enabled:true}") boolean enabled,
+            @Value("${dooring.tracking.duplicate-click.window:30s}") Duration window,
+            @Value("${dooring.tracking.duplicate-click.max-size:100000}") long maxSize) {
+        this.enabled = enabled;
+        this.recentTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    /**
+     * 창 안에 같은 키로 기록된 클릭의 세션 토큰 조회
+     *
+     * @return 중복이면 먼저 기록된 클릭의 세션 토큰 (호출부는 저장하지 않고 이 토큰으로 리다이렉트),
+     *         아니면 null (호출부는 클릭을 기록한 뒤 remember)
+     */
+    public String findRecentToken(Long linkId, String ipAddress, String userAgent) {
+        if (!enabled) {
+            return null;
+        }
+        return recentTokens.getIfPresent(key(linkId, ipAddress, userAgent));
+    }
+
+    /**
+     * 기록한 클릭 등록 — 이후 창 안의 같은 키 클릭은 findRecentToken이 이 토큰을 돌려줌
+     */
+    public void remember(Long linkId, String ipAddress, String userAgent, String sessionToken) {
+        if (!enabled) {
+            return;
+        }
+        recentTokens.put(key(linkId, ipAddress, userAgent), sessionToken);
+    }
+
+    private static long key(Long linkId, String ipAddress, String userAgent) {
+        return mix(hash(linkId, ipAddress, userAgent));
+    }
+
+    /** FNV-1a 64 (linkId · IP · UA) */
+    private static long hash(Long linkId, String ipAddress, String userAgent) {
+        long h = 0xcbf29ce484222325L;
+        long id = linkId != null ? linkId : 0L;
+        for (int i = 0; i < 8; i++) {
+            h = (h ^ ((id >>> (i * 8)) & 0xFF)) * 0x100000001b3L;
+        }
+        h = hashString(h, ipAddress);
+        return hashString(h, userAgent);
+    }
+
+    private static long hashString(long h, String value) {
+        h = (h ^ 0x1F) * 0x100000001b3L; // 필드 구분자
+        if (value == null) {
+            return h;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        return h;
+    }
+
+    /** 비트 섞기 (FNV 하위 비트 편중 완화) */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
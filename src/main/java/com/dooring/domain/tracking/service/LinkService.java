@@ -1,33 +1,39 @@
 package com.dooring.domain.tracking.service;
 
+import com.dooring.common.dto.CursorResponse;
 import com.dooring.common.exception.BusinessException;
 import com.dooring.common.exception.ErrorCode;
-import com.dooring.common.util.ShortCodeGenerator;
 import com.dooring.domain.catalog.entity.Campaign;
 import com.dooring.domain.catalog.entity.Product;
 import com.dooring.domain.catalog.service.CampaignService;
 import com.dooring.domain.catalog.service.ProductService;
 import com.dooring.domain.identity.service.CreatorService;
 import com.dooring.domain.tracking.dto.LinkResponse;
+import com.dooring.domain.tracking.dto.LinkSort;
 import com.dooring.domain.tracking.entity.Link;
 import com.dooring.domain.tracking.repository.LinkRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class LinkService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final LinkRepository linkRepository;
     private final CreatorService creatorService;
     private final ProductService productService;
     private final CampaignService campaignService;
-    private final ShortCodeGenerator shortCodeGenerator;
+    private final ShortCodeAllocator shortCodeAllocator;
 
     @Value("${dooring.base-url:http://localhost:8080}")
     private String baseUrl;
@@ -36,6 +42,7 @@ public class LinkService {
      * 어필리에이트 링크 발급
      * - 크리에이터 × 상품 1:1 멱등: 이미 있으면 기존 링크 반환
      * - 활성 캠페인 없으면 발급 불가
+     * - shortCode는 예약된 시퀀스 블록에서 발급 (중복 확인 조회 없이 INSERT 1회)
      */
     @Transactional
     public LinkResponse issueLink(Long creatorId, Long productId) {
@@ -49,7 +56,7 @@ public class LinkService {
                     Link link = Link.builder()
                             .creatorId(creatorId)
                             .productId(productId)
-                            .shortCode(generateUniqueShortCode())
+                            .shortCode(shortCodeAllocator.allocate())
                             .build();
                     return toResponse(linkRepository.save(link), product, campaign);
                 });
@@ -57,19 +64,41 @@ public class LinkService {
 
     /**
      * 크리에이터의 링크 목록 조회
+     * 상품·활성 캠페인은 링크 전체에 대해 한 번씩 일괄 조회 (링크 수와 무관하게 쿼리 4회)
      */
     @Transactional(readOnly = true)
     public List<LinkResponse> getMyLinks(Long creatorId) {
         creatorService.findEntityById(creatorId); // 존재 확인 (없으면 예외)
 
-        return linkRepository.findAllByCreatorId(creatorId).stream()
-                .map(link -> {
-                    Product product = productService.findEntityById(link.getProductId());
-                    Campaign campaign = campaignService.findActiveByProductOptional(link.getProductId())
-                            .orElse(null);
-                    return toResponse(link, product, campaign);
-                })
-                .collect(Collectors.toList());
+        return toResponses(linkRepository.findAllByCreatorId(creatorId));
+    }
+
+    /**
+     * 크리에이터의 링크 목록 키셋 페이지 조회
+     * - 링크 ID 키셋 (발급 순서 = ID 순서) → OFFSET 없이 어느 페이지든 (creator_id, id) 인덱스 범위 스캔
+     * - size + 1건 조회해 다음 페이지 존재 여부 판단
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<LinkResponse> getMyLinkPage(Long creatorId, Long cursor, int size, LinkSort sort) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        creatorService.findEntityById(creatorId); // 존재 확인 (없으면 예외)
+
+        List<Link> links = switch (sort) {
+            case NEWEST -> linkRepository.findPageByCreatorIdBefore(
+                    creatorId, cursor != null ? cursor : Long.MAX_VALUE, Limit.of(size + 1));
+            case OLDEST -> linkRepository.findPageByCreatorIdAfter(
+                    creatorId, cursor != null ? cursor : 0L, Limit.of(size + 1));
+        };
+
+        boolean hasNext = links.size() > size;
+        List<Link> page = hasNext ? links.subList(0, size) : links;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+        return CursorResponse.of(toResponses(page), nextCursor);
     }
 
     /** 다른 도메인 서비스용 — shortCode로 Link Entity 반환 */
@@ -79,12 +108,25 @@ public class LinkService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.LINK_NOT_FOUND));
     }
 
-    private String generateUniqueShortCode() {
-        String code;
-        do {
-            code = shortCodeGenerator.generate();
-        } while (linkRepository.findByShortCode(code).isPresent());
-        return code;
+    /**
+     * 링크 목록 → 응답 (상품 IN 조회 1회 + 활성 캠페인 IN 조회 1회)
+     */
+    private List<LinkResponse> toResponses(List<Link> links) {
+        Set<Long> productIds = links.stream()
+                .map(Link::getProductId)
+                .collect(Collectors.toSet());
+        Map<Long, Product> products = productService.findEntitiesByIds(productIds);
+        Map<Long, Campaign> campaigns = campaignService.findActiveByProducts(productIds);
+
+        return links.stream()
+                .map(link -> {
+                    Product product = products.get(link.getProductId());
+                    if (product == null) {
+                        throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+                    }
+                    return toResponse(link, product, campaigns.get(link.getProductId()));
+                })
+                .collect(Collectors.toList());
     }
 
     private LinkResponse toResponse(Link link, Product product, Campaign campaign) {
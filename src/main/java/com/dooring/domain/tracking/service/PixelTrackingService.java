@@ -1,48 +1,161 @@
 package com.dooring.domain.tracking.service;
 
-import com.dooring.domain.tracking.entity.AttributionSession;
-import com.dooring.domain.tracking.entity.PixelEvent;
-import com.dooring.domain.tracking.repository.AttributionSessionRepository;
+import com.dooring.domain.tracking.dto.AttributionSessionRef;
+import com.dooring.domain.tracking.dto.PixelEventBatchResponse;
+import com.dooring.domain.tracking.dto.PixelEventKey;
+import com.dooring.domain.tracking.dto.PixelEventRequest;
+import com.dooring.domain.tracking.dto.PixelEventRow;
+import com.dooring.domain.tracking.port.AttributionSessionStore;
 import com.dooring.domain.tracking.repository.PixelEventRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class PixelTrackingService {
 
+    /** dooring.pixel.record session 태그 — recordTimers 첫 번째 인덱스 */
+    private static final String[] SESSION_TAGS = {"none", "hit", "miss"};
+    /** dooring.pixel.record outcome 태그 — recordTimers 두 번째 인덱스 */
+    private static final String[] OUTCOME_TAGS = {"recorded", "duplicate"};
+
     private final PixelEventRepository pixelEventRepository;
-    private final AttributionSessionRepository attributionSessionRepository;
+    private final AttributionSessionStore attributionSessionStore;
+    private final MeterRegistry meterRegistry;
+    /** 태그 조합이 고정 → 생성 시 등록 (요청마다 builder·레지스트리 조회 없음) */
+    private final Timer[][] recordTimers = new Timer[SESSION_TAGS.length][OUTCOME_TAGS.length];
+    private final Timer batchTimer;
+    private final Counter batchRecordedCounter;
+    private final Counter batchDuplicateCounter;
+
+    public PixelTrackingService(PixelEventRepository pixelEventRepository,
+                                AttributionSessionStore attributionSessionStore,
+                                MeterRegistry meterRegistry) {
+        this.pixelEventRepository = pixelEventRepository;
+        this.attributionSessionStore = attributionSessionStore;
+        this.meterRegistry = meterRegistry;
+        for (int session = 0; session < SESSION_TAGS.length; session++) {
+            for (int outcome = 0; outcome < OUTCOME_TAGS.length; outcome++) {
+                recordTimers[session][outcome] = Timer.builder("dooring.pixel.record")
+                        .description("pixel event session lookup + insert (service)")
+                        .tag("session", SESSION_TAGS[session])
+                        .tag("outcome", OUTCOME_TAGS[outcome])
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+            }
+        }
+        this.batchTimer = Timer.builder("dooring.pixel.batch")
+                .description("pixel batch session lookup + insert (service)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchRecordedCounter = meterRegistry.counter("dooring.pixel.batch.events", "outcome", "recorded");
+        this.batchDuplicateCounter = meterRegistry.counter("dooring.pixel.batch.events", "outcome", "duplicate");
+    }
 
     /**
      * 픽셀 전환 이벤트 수신 (idempotent)
-     * 1. 이미 처리된 주문(storeId + externalOrderId 중복)이면 그냥 반환
-     * 2. sessionToken 있으면 만료되지 않은 AttributionSession 조회
-     * 3. PixelEvent 저장 (session null이어도 저장 — 미귀속 이벤트)
+     * 1. sessionToken 있으면 세션 저장소에서 만료되지 않은 세션 조회
+     * 2. INSERT ... ON CONFLICT DO NOTHING 1회 (session null이어도 저장 — 미귀속 이벤트)
+     *    이미 처리된 주문(storeId + externalOrderId 중복)이면 0행 — 동시 중복 요청도 예외 없음
+     *
+     * 메트릭: dooring.pixel.record (session = hit | miss | none, outcome = recorded | duplicate)
+     *
+     * @return 새로 저장됐으면 true, 이미 처리된 주문이면 false
      */
     @Transactional
-    public void recordPixelEvent(Long storeId, String externalOrderId, String sessionToken) {
-        if (pixelEventRepository.existsByStoreIdAndExternalOrderId(storeId, externalOrderId)) {
-            return;
-        }
+    public boolean recordPixelEvent(Long storeId, String externalOrderId, String sessionToken) {
+        Timer.Sample sample = Timer.start(meterRegistry);
 
-        Optional<AttributionSession> sessionOpt = Optional.empty();
+        Optional<AttributionSessionRef> sessionOpt = Optional.empty();
         if (StringUtils.hasText(sessionToken)) {
-            sessionOpt = attributionSessionRepository.findValidSessionByToken(
-                    sessionToken, LocalDateTime.now());
+            sessionOpt = attributionSessionStore.findValid(sessionToken, LocalDateTime.now());
         }
 
-        PixelEvent pixelEvent = PixelEvent.builder()
-                .storeId(storeId)
-                .externalOrderId(externalOrderId)
-                .attributionSession(sessionOpt.orElse(null))
-                .build();
+        int inserted = pixelEventRepository.insertIgnoringDuplicate(
+                storeId,
+                externalOrderId,
+                sessionOpt.map(AttributionSessionRef::sessionId).orElse(null),
+                sessionOpt.map(AttributionSessionRef::sessionToken).orElse(null));
+
+        int session = !StringUtils.hasText(sessionToken) ? 0 : sessionOpt.isPresent() ? 1 : 2;
+        sample.stop(recordTimers[session][inserted > 0 ? 0 : 1]);
+
+        return inserted > 0;
+    }
+
+    /**
+     * 픽셀 전환 이벤트 배치 수신 (idempotent)
+     * 1. 세션 토큰 일괄 조회 (세션 저장소 왕복 1회)
+     * 2. 배치 안 중복 주문은 첫 이벤트만 INSERT 대상
+     * 3. INSERT ... ON CONFLICT DO NOTHING 1회 — RETURNING으로 실제 저장된 주문 확인
+     * 4. 요청 순서대로 이벤트별 결과 반환
+     *
+     * 메트릭: dooring.pixel.batch (배치 1회), dooring.pixel.batch.events (outcome = recorded | duplicate)
+     */
+    @Transactional
+    public PixelEventBatchResponse recordPixelEvents(List<PixelEventRequest> events) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        LocalDateTime now = LocalDateTime.now();
+
+        Set<String> sessionTokens = events.stream()
+                .map(PixelEventRequest::sessionToken)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toSet());
+        Map<String, AttributionSessionRef> sessions = attributionSessionStore.findAllValid(sessionTokens, now);
+
+        Map<PixelEventKey, PixelEventRow> rows = new LinkedHashMap<>();
+        for (PixelEventRequest event : events) {
+            AttributionSessionRef session = StringUtils.hasText(event.sessionToken())
+                    ? sessions.get(event.sessionToken())
+                    : null;
+            PixelEventRow row = new PixelEventRow(
+                    event.storeId(),
+                    event.externalOrderId(),
+                    session != null ? session.sessionId() : null,
+                    session != null ? session.sessionToken() : null,
+                    now);
+            rows.putIfAbsent(row.key(), row);
+        }
+
+        Set<PixelEventKey> inserted = new HashSet<>(
+                pixelEventRepository.insertAllIgnoringDuplicates(new ArrayList<>(rows.values())));
 
-        pixelEventRepository.save(pixelEvent);
+        List<PixelEventBatchResponse.Outcome> outcomes = new ArrayList<>(events.size());
+        Set<PixelEventKey> seen = new HashSet<>();
+        for (PixelEventRequest event : events) {
+            PixelEventKey key = new PixelEventKey(event.storeId(), event.externalOrderId());
+            boolean recorded = seen.add(key) && inserted.contains(key);
+            outcomes.add(PixelEventBatchResponse.Outcome.builder()
+                    .storeId(event.storeId())
+                    .externalOrderId(event.externalOrderId())
+                    .status(recorded ? PixelEventBatchResponse.Status.RECORDED : PixelEventBatchResponse.Status.DUPLICATE)
+                    .attributed(recorded && rows.get(key).sessionToken() != null)
+                    .build());
+        }
+
+        int recordedCount = inserted.size();
+
+        sample.stop(batchTimer);
+        batchRecordedCounter.increment(recordedCount);
+        batchDuplicateCounter.increment(events.size() - recordedCount);
+
+        return PixelEventBatchResponse.builder()
+                .recordedCount(recordedCount)
+                .duplicateCount(events.size() - recordedCount)
+                .outcomes(outcomes)
+                .build();
     }
 }
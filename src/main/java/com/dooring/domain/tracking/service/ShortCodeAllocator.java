@@ -0,0 +1,47 @@
+package com.dooring.domain.tracking.service;
+
+import com.dooring.common.util.ShortCodeGenerator;
+import com.dooring.domain.tracking.port.ShortCodeSequence;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * shortCode 발급기 (읽기 없이 쓰기만)
+ *
+ * - 인스턴스마다 시퀀스 블록(1000개)을 예약해 두고 메모리에서 순번 발급
+ * - 블록 소진 시에만 DB 왕복 1회 (nextval)
+ * - 순번 → ShortCodeGenerator 인코딩은 전단사 → 발급된 코드는 항상 유일, 중복 확인 조회 불필요
+ *
+ * 블록 교체 구간만 잠금 (synchronized 대신 ReentrantLock — 가상 스레드 핀닝 방지)
+ */
+@Component
+public class ShortCodeAllocator {
+
+    private final ShortCodeSequence shortCodeSequence;
+    private final ShortCodeGenerator shortCodeGenerator;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long next;
+    private long limit;
+
+    public ShortCodeAllocator(ShortCodeSequence shortCodeSequence, ShortCodeGenerator shortCodeGenerator) {
+        this.shortCodeSequence = shortCodeSequence;
+        this.shortCodeGenerator = shortCodeGenerator;
+    }
+
+    public String allocate() {
+        long sequence;
+        lock.lock();
+        try {
+            if (next >= limit) {
+                next = shortCodeSequence.reserveBlock();
+                limit = next + ShortCodeSequence.BLOCK_SIZE;
+            }
+            sequence = next++;
+        } finally {
+            lock.unlock();
+        }
+        return shortCodeGenerator.generate(sequence);
+    }
+}
@@ -0,0 +1,148 @@
+package com.dooring.domain.tracking.service;
+
+import com.dooring.common.exception.BusinessException;
+import com.dooring.common.exception.ErrorCode;
+import com.dooring.domain.catalog.entity.Campaign;
+import com.dooring.domain.catalog.entity.Product;
+import com.dooring.domain.catalog.event.ProductChangedEvent;
+import com.dooring.domain.catalog.event.ProductsSyncedEvent;
+import com.dooring.domain.catalog.service.CampaignService;
+import com.dooring.domain.catalog.service.ProductService;
+import com.dooring.domain.tracking.dto.ShortCodeResolution;
+import com.dooring.domain.tracking.entity.Link;
+import com.dooring.domain.tracking.event.LinkChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * shortCode 리다이렉트 정보 해석기 (로컬 캐시)
+ *
+ * - 캐시 적중 시 DB 조회 0회 (리다이렉트 경로 전용)
+ * - 미스 시 Link → Product → 캠페인 3회 조회 후 스냅샷 적재
+ * - 무효화: Product/Campaign/Link 변경·카탈로그 동기화 커밋 후 이벤트로 즉시 제거
+ *   (productId → shortCode 보조 인덱스로 해당 키만 제거 — 캠페인은 상품 기준으로 해석하므로 같은 인덱스 사용)
+ * - TTL: 다른 인스턴스에서 일어난 변경·직접 SQL 변경은 이벤트가 오지 않으므로 ttl 안에 반영
+ * - 존재하지 않는 shortCode는 캐시하지 않음 (무작위 코드로 캐시를 밀어내는 것 방지)
+ * - 메트릭: cache.gets / cache.evictions 등 (cache = shortCode)
+ */
+@Service
+public class ShortCodeResolver {
+
+    private final LinkService linkService;
+    private final ProductService productService;
+    private final CampaignService campaignService;
+    private final Cache<String, ShortCodeResolution> cache;
+    /**
+     * productId → 캐시에 올린 shortCode
+     * - 적재 중 Link 조회 직후 등록 (상품·캠페인 조회보다 먼저 → 그 사이 커밋된 변경도 무효화 대상에 잡힘)
+     * - 크기·TTL 축출은 evictionListener(축출과 같은 원자 구간)에서 제거, 상품 무효화 시 키째 제거
+     * - 링크 단건 무효화로 남는 항목은 다음 상품 무효화 때 함께 정리 (없는 키 invalidate는 무해)
+     */
+    private final Map<Long, Set<String>> shortCodesByProduct = new ConcurrentHashMap<>();
+
+    public ShortCodeResolver(
+            LinkService linkService,
+            ProductService productService,
+            CampaignService campaignService,
+            MeterRegistry meterRegistry,
+            @Value("${dooring.tracking.short-code-cache.max-size:100000}") long maxSize,
+            @Value("${dooring.tracking.short-code-cache.ttl:5m}") Duration ttl) {
+        this.linkService = linkService;
+        this.productService = productService;
+        this.campaignService = campaignService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .evictionListener((String shortCode, ShortCodeResolution resolution, RemovalCause cause) -> {
+                    if (shortCode != null && resolution != null) {
+                        unindex(resolution.productId(), shortCode);
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "shortCode");
+    }
+
+    /**
+     * shortCode → 스냅샷
+     *
+     * @throws BusinessException LINK_NOT_FOUND, PRODUCT_URL_NOT_FOUND
+     */
+    public ShortCodeResolution resolve(String shortCode) {
+        return cache.get(shortCode, this::load);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidateProduct(event.productId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsSynced(ProductsSyncedEvent event) {
+        event.productIds().forEach(this::invalidateProduct);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLinkChanged(LinkChangedEvent event) {
+        cache.invalidate(event.shortCode());
+    }
+
+    private void invalidateProduct(Long productId) {
+        Set<String> shortCodes = shortCodesByProduct.remove(productId);
+        if (shortCodes != null) {
+            cache.invalidateAll(shortCodes);
+        }
+    }
+
+    private void index(Long productId, String shortCode) {
+        shortCodesByProduct.compute(productId, (id, shortCodes) -> {
+            Set<String> codes = shortCodes != null ? shortCodes : ConcurrentHashMap.newKeySet();
+            codes.add(shortCode);
+            return codes;
+        });
+    }
+
+    private void unindex(Long productId, String shortCode) {
+        shortCodesByProduct.computeIfPresent(productId, (id, shortCodes) -> {
+            shortCodes.remove(shortCode);
+            return shortCodes.isEmpty() ? null : shortCodes;
+        });
+    }
+
+    private ShortCodeResolution load(String shortCode) {
+        Link link = linkService.findEntityByShortCode(shortCode);
+        index(link.getProductId(), shortCode);
+
+        Product product = productService.findEntityById(link.getProductId());
+
+        String productUrl = product.getProductUrl();
+        if (productUrl == null || productUrl.isBlank()) {
+            throw new BusinessException(ErrorCode.PRODUCT_URL_NOT_FOUND);
+        }
+
+        Optional<Campaign> campaignOpt = campaignService.findEnabledByProductOptional(link.getProductId());
+
+        return new ShortCodeResolution(
+                link.getId(),
+                product.getId(),
+                productUrl,
+                campaignOpt.map(Campaign::getId).orElse(null),
+                campaignOpt.map(Campaign::getCommissionAmount).orElse(null),
+                campaignOpt.map(Campaign::getCommissionRate).orElse(null),
+                campaignOpt.map(Campaign::getStartsAt).orElse(null),
+                campaignOpt.map(Campaign::getEndsAt).orElse(null)
+        );
+    }
+}
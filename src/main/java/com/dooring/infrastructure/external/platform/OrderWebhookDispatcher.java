@@ -0,0 +1,230 @@
+package com.dooring.infrastructure.external.platform;
+
+import com.dooring.common.exception.BusinessException;
+import com.dooring.common.exception.ErrorCode;
+import com.dooring.domain.order.dto.OrderWebhookEvent;
+import com.dooring.domain.order.port.OrderWebhookParser;
+import com.dooring.domain.order.service.OrderIngestionService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 웹훅 수신 큐 + 워커
+ *
+ * 흐름:
+ * 1. submit : 요청 스레드는 본문 변환 후 워커 큐에 넣고 즉시 반환 (DB 반영을 기다리지 않음)
+ * 2. 분배   : 같은 주문(플랫폼 + 스토어 + 주문 ID)은 항상 같은 워커 → 주문별 수신 순서대로 반영
+ * 3. 워커   : 큐를 batch-size 단위로 비워 OrderIngestionService.apply (배치 1개 = 트랜잭션 1개)
+ * 4. 실패   : 배치가 실패하면 이벤트 1건씩 다시 반영 → 문제 이벤트만 버리고 나머지는 반영
+ * 5. 백프레셔: 큐가 가득 차면 submit이 503 → 플랫폼 재전송에 맡김 (반영은 멱등)
+ *
+ * dooring.webhook.enabled=true 일 때만 생성 (서명 시크릿을 설정하기 전에는 엔드포인트 자체가 없음)
+ * 종료 시 웹 서버가 먼저 멈춘 뒤(phase) 큐에 남은 이벤트를 모두 반영하고 내려감
+ * 비정상 종료 시 큐에 남은 이벤트는 유실 — 플랫폼 주문 조회 API로 보정 필요
+ *
+ * 메트릭: dooring.webhook.queue (워커 큐 적재량 합), dooring.webhook.received (platform, outcome = accepted | rejected),
+ *        dooring.webhook.apply (배치 반영, outcome = ok | retried)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "dooring.webhook.enabled", havingValue = "true")
+public class OrderWebhookDispatcher implements SmartLifecycle {
+
+    /** 웹 서버(DEFAULT_PHASE - 2048)보다 먼저 시작하고 나중에 종료 */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final Map<String, OrderWebhookParser> parsers;
+    private final OrderIngestionService orderIngestionService;
+    private final List<BlockingQueue<OrderWebhookEvent>> queues;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration shutdownTimeout;
+    private final boolean virtualThreads;
+    private final MeterRegistry meterRegistry;
+    /** 태그 조합이 고정 → 생성 시 등록 (요청·배치마다 builder·레지스트리 조회 없음) */
+    private final Map<String, Counter> acceptedCounters;
+    private final Map<String, Counter> rejectedCounters;
+    private final Counter failedCounter;
+    private final Timer applyOkTimer;
+    private final Timer applyRetriedTimer;
+
+    private volatile boolean running;
+    private final List<Thread> workers = new ArrayList<>();
+
+    public OrderWebhookDispatcher(
+            List<OrderWebhookParser> parsers,
+            OrderIngestionService orderIngestionService,
+            MeterRegistry meterRegistry,
+            @Value("${dooring.webhook.workers:4}") int workerCount,
+            @Value("${dooring.webhook.queue-capacity:10000}") int queueCapacity,
+            @Value("${dooring.webhook.batch-size:200}") int batchSize,
+            @Value("${dooring.webhook.flush-interval:20ms}") Duration flushInterval,
+            @Value("${dooring.webhook.shutdown-timeout:30s}") Duration shutdownTimeout,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.parsers = parsers.stream()
+                .collect(Collectors.toMap(OrderWebhookParser::platformCode, Function.identity()));
+        this.orderIngestionService = orderIngestionService;
+        this.queues = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            queues.add(new ArrayBlockingQueue<>(queueCapacity));
+        }
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.shutdownTimeout = shutdownTimeout;
+        this.virtualThreads = virtualThreads;
+        this.meterRegistry = meterRegistry;
+        this.acceptedCounters = this.parsers.keySet().stream().collect(Collectors.toMap(Function.identity(),
+                platform -> meterRegistry.counter("dooring.webhook.received", "platform", platform, "outcome", "accepted")));
+        this.rejectedCounters = this.parsers.keySet().stream().collect(Collectors.toMap(Function.identity(),
+                platform -> meterRegistry.counter("dooring.webhook.received", "platform", platform, "outcome", "rejected")));
+        this.failedCounter = meterRegistry.counter("dooring.webhook.events", "outcome", "failed");
+        this.applyOkTimer = applyTimer("ok");
+        this.applyRetriedTimer = applyTimer("retried");
+        Gauge.builder("dooring.webhook.queue", queues, qs -> qs.stream().mapToInt(BlockingQueue::size).sum())
+                .description("order webhook events waiting for workers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 웹훅 본문 접수
+     *
+     * @throws BusinessException UNSUPPORTED_PLATFORM, INVALID_WEBHOOK_PAYLOAD, WEBHOOK_QUEUE_FULL
+     */
+    public void submit(String platformCode, String body) {
+        OrderWebhookParser parser = parsers.get(platformCode);
+        if (parser == null) {
+            throw new BusinessException(ErrorCode.UNSUPPORTED_PLATFORM);
+        }
+
+        List<OrderWebhookEvent> events;
+        try {
+            events = parser.parse(body);
+        } catch (RuntimeException e) {
+            log.warn("{} 주문 웹훅 본문을 해석할 수 없습니다: {}", platformCode, e.getMessage());
+            throw new BusinessException(ErrorCode.INVALID_WEBHOOK_PAYLOAD);
+        }
+
+        for (OrderWebhookEvent event : events) {
+            BlockingQueue<OrderWebhookEvent> queue = queues.get(Math.floorMod(event.routingKey().hashCode(), queues.size()));
+            if (!running || !queue.offer(event)) {
+                // 일부만 들어갔어도 재전송분 반영은 멱등
+                rejectedCounters.get(platformCode).increment();
+                throw new BusinessException(ErrorCode.WEBHOOK_QUEUE_FULL);
+            }
+        }
+        acceptedCounters.get(platformCode).increment();
+    }
+
+    // ----------------------------------------------------------------
+    // SmartLifecycle
+    // ----------------------------------------------------------------
+
+    @Override
+    public void start() {
+        running = true;
+        Thread.Builder builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon(true);
+        for (int i = 0; i < queues.size(); i++) {
+            BlockingQueue<OrderWebhookEvent> queue = queues.get(i);
+            workers.add(builder.name("order-webhook-" + i).start(() -> runWorkerLoop(queue)));
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        long deadline = System.currentTimeMillis() + shutdownTimeout.toMillis();
+        for (Thread worker : workers) {
+            try {
+                worker.join(Math.max(1L, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        int remaining = queues.stream().mapToInt(BlockingQueue::size).sum();
+        if (remaining > 0) {
+            log.warn("주문 웹훅 {}건을 {} 안에 반영하지 못했습니다.", remaining, shutdownTimeout);
+        }
+        workers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    // ----------------------------------------------------------------
+    // worker
+    // ----------------------------------------------------------------
+
+    private void runWorkerLoop(BlockingQueue<OrderWebhookEvent> queue) {
+        List<OrderWebhookEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                OrderWebhookEvent first = queue.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    apply(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("주문 웹훅 워커 루프 오류", e);
+                batch.clear();
+            }
+        }
+    }
+
+    private void apply(List<OrderWebhookEvent> batch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean retried = false;
+        try {
+            orderIngestionService.apply(batch);
+        } catch (RuntimeException e) {
+            retried = true;
+            log.warn("주문 웹훅 {}건 배치 반영 실패 — 1건씩 다시 반영합니다.", batch.size(), e);
+            for (OrderWebhookEvent event : batch) {
+                try {
+                    orderIngestionService.apply(List.of(event));
+                } catch (RuntimeException single) {
+                    log.error("주문 웹훅 반영 실패 — 버립니다: {}", event.routingKey(), single);
+                    failedCounter.increment();
+                }
+            }
+        } finally {
+            sample.stop(retried ? applyRetriedTimer : applyOkTimer);
+        }
+    }
+
+    private Timer applyTimer(String outcome) {
+        return Timer.builder("dooring.webhook.apply")
+                .description("order webhook batch apply (lock + multi-row upsert)")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,70 @@
+package com.dooring.infrastructure.external.platform;
+
+import com.dooring.common.exception.BusinessException;
+import com.dooring.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * 주문 웹훅 서명 검증 (큐에 넣기 전)
+ *
+ * 서명 = Base64(HMAC-SHA256(플랫폼 앱 시크릿, 원본 본문 바이트)) — 플랫폼별 헤더 이름은 설정
+ * 서명이 없거나 다르면 401 (본문은 해석하지 않음), 시크릿이 설정되지 않은 플랫폼도 모두 401
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "dooring.webhook.enabled", havingValue = "true")
+@EnableConfigurationProperties(WebhookSignatureProperties.class)
+public class OrderWebhookSignatureVerifier {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final WebhookSignatureProperties properties;
+
+    public OrderWebhookSignatureVerifier(WebhookSignatureProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * @throws BusinessException UNSUPPORTED_PLATFORM, INVALID_WEBHOOK_SIGNATURE
+     */
+    public void verify(String platformCode, HttpHeaders headers, byte[] body) {
+        WebhookSignatureProperties.Platform platform = properties.platforms().get(platformCode);
+        if (platform == null) {
+            throw new BusinessException(ErrorCode.UNSUPPORTED_PLATFORM);
+        }
+        if (platform.secret() == null || platform.secret().isBlank() || platform.header() == null) {
+            log.warn("{} 웹훅 시크릿이 설정되지 않아 요청을 거절합니다.", platformCode);
+            throw new BusinessException(ErrorCode.INVALID_WEBHOOK_SIGNATURE);
+        }
+
+        String signature = headers.getFirst(platform.header());
+        if (signature == null || signature.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_WEBHOOK_SIGNATURE);
+        }
+        byte[] expected = Base64.getEncoder().encode(sign(platform.secret(), body));
+        if (!MessageDigest.isEqual(expected, signature.trim().getBytes(StandardCharsets.US_ASCII))) {
+            throw new BusinessException(ErrorCode.INVALID_WEBHOOK_SIGNATURE);
+        }
+    }
+
+    static byte[] sign(String secret, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return mac.doFinal(body);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.dooring.infrastructure.external.platform;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * 주문 웹훅 서명 설정 (dooring.webhook.signature)
+ *
+ * @param platforms platforms.code → 서명 헤더·앱 시크릿 (설정이 없는 플랫폼은 404, 시크릿이 비어 있으면 모두 401)
+ */
+@ConfigurationProperties("dooring.webhook.signature")
+public record WebhookSignatureProperties(
+        @DefaultValue Map<String, Platform> platforms
+) {
+
+    /**
+     * @param header 서명 헤더 이름 (값 = Base64(HMAC-SHA256(secret, 원본 본문)))
+     * @param secret 플랫폼 앱 시크릿
+     */
+    public record Platform(String header, String secret) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.dooring.infrastructure.external.platform.cafe24;
+
+import com.dooring.domain.catalog.dto.CatalogPage;
+import com.dooring.domain.catalog.dto.CatalogProduct;
+import com.dooring.domain.catalog.entity.Store;
+import com.dooring.domain.catalog.port.CatalogClient;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cafe24 Admin API 상품 목록 (GET /api/v2/admin/products)
+ *
+ * - base_api_url 예: https://{mallId}.cafe24api.com ({mallId} → stores.external_store_id)
+ * - 페이지: since_product_no 커서 (offset 한도 없이 끝까지 조회)
+ * - 증분: updated_start_date (Asia/Seoul 오프셋 시각)
+ * - 판매 여부: display = T 이고 selling = T
+ */
+@Component
+public class Cafe24CatalogClient implements CatalogClient {
+
+    private static final String API_VERSION = "2024-06-01";
+    private static final DateTimeFormatter UPDATED_START_DATE = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+    private final RestClient restClient;
+    private final double requestsPerSecond;
+
+    public Cafe24CatalogClient(
+            RestClient.Builder restClientBuilder,
+            @Value("${dooring.catalog-sync.rate-limit.cafe24:2}") double requestsPerSecond) {
+        this.restClient = restClientBuilder.build();
+        this.requestsPerSecond = requestsPerSecond;
+    }
+
+    @Override
+    public String platformCode() {
+        return "cafe24";
+    }
+
+    @Override
+    public double requestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    @Override
+    public CatalogPage fetchPage(Store store, String baseApiUrl, LocalDateTime updatedSince, String cursor, int pageSize) {
+        String mallId = store.getExternalStoreId();
+        UriComponentsBuilder uri = UriComponentsBuilder
+                .fromUriString(baseApiUrl.replace("{mallId}", mallId))
+                .path("/api/v2/admin/products")
+                .queryParam("limit", pageSize)
+                .queryParam("since_product_no", cursor != null ? cursor : "0");
+        if (updatedSince != null) {
+            uri.queryParam("updated_start_date",
+                    updatedSince.atZone(ZoneId.systemDefault())
+                            .withZoneSameInstant(ZoneId.of("Asia/Seoul"))
+                            .format(UPDATED_START_DATE));
+        }
+
+        JsonNode body = restClient.get()
+                .uri(uri.encode().build().toUri())
+                .header("Authorization", "Bearer " + store.getAccessToken())
+                .header("X-Cafe24-Api-Version", API_VERSION)
+                .retrieve()
+                .body(JsonNode.class);
+        if (body == null) {
+            return new CatalogPage(List.of(), null);
+        }
+
+        List<CatalogProduct> products = new ArrayList<>();
+        String lastProductNo = null;
+        for (JsonNode product : body.path("products")) {
+            String productNo = product.path("product_no").asText();
+            products.add(new CatalogProduct(
+                    productNo,
+                    product.path("product_name").asText(null),
+                    product.path("detail_image").asText(null),
+                    "https://" + mallId + ".cafe24.com/product/detail.html?product_no=" + productNo,
+                    product.hasNonNull("price") ? new BigDecimal(product.path("price").asText()) : null,
+                    "T".equals(product.path("display").asText()) && "T".equals(product.path("selling").asText())));
+            lastProductNo = productNo;
+        }
+        return new CatalogPage(products, products.size() < pageSize ? null : lastProductNo);
+    }
+}
@@ -0,0 +1,107 @@
+package com.dooring.infrastructure.external.platform.cafe24;
+
+import com.dooring.domain.order.dto.OrderWebhookEvent;
+import com.dooring.domain.order.entity.OrderStatus;
+import com.dooring.domain.order.port.OrderWebhookParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cafe24 주문 웹훅 본문 변환
+ *
+ * 사용 필드: resource.mall_id, order_id, order_status, payment_amount, order_date,
+ *           items[].product_no / product_name / quantity / payment_amount
+ * 주문 상태 코드:
+ *   N00 입금전 → CREATED, N10~N30 결제 후 배송 전·중 → PAID, N40 배송완료 → DELIVERED,
+ *   N50 구매확정 → CONFIRMED, C40 취소완료 · C47~C49 입금전취소 → CANCELLED, R40 반품완료 → REFUNDED
+ *   그 외(C00 취소신청, R00 반품신청 등 처리 중 단계, 교환) → null
+ *   — 신청은 철회될 수 있으므로 종료 상태(CANCELLED / REFUNDED)로 잠그지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class Cafe24OrderWebhookParser implements OrderWebhookParser {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String platformCode() {
+        return "cafe24";
+    }
+
+    @Override
+    public List<OrderWebhookEvent> parse(String body) {
+        JsonNode resource;
+        try {
+            resource = objectMapper.readTree(body).path("resource");
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cafe24 웹훅 본문이 JSON이 아닙니다", e);
+        }
+        String mallId = resource.path("mall_id").asText(null);
+        String orderId = resource.path("order_id").asText(null);
+        if (mallId == null || orderId == null) {
+            throw new IllegalArgumentException("Cafe24 웹훅에 mall_id / order_id가 없습니다");
+        }
+
+        List<OrderWebhookEvent.Item> items = new ArrayList<>();
+        for (JsonNode item : resource.path("items")) {
+            items.add(new OrderWebhookEvent.Item(
+                    item.path("product_no").asText(),
+                    item.path("product_name").asText(null),
+                    item.hasNonNull("quantity") ? item.path("quantity").asInt() : null,
+                    decimal(item.path("payment_amount"))));
+        }
+
+        return List.of(new OrderWebhookEvent(
+                platformCode(),
+                mallId,
+                orderId,
+                toStatus(resource.path("order_status").asText("")),
+                decimal(resource.path("payment_amount")),
+                dateTime(resource.path("order_date")),
+                items));
+    }
+
+    static OrderStatus toStatus(String code) {
+        if (code.isEmpty()) {
+            return null;
+        }
+        return switch (code.charAt(0)) {
+            case 'N' -> switch (code) {
+                case "N00" -> OrderStatus.CREATED;
+                case "N40" -> OrderStatus.DELIVERED;
+                case "N50" -> OrderStatus.CONFIRMED;
+                default -> OrderStatus.PAID;
+            };
+            case 'C' -> switch (code) {
+                case "C40", "C47", "C48", "C49" -> OrderStatus.CANCELLED;
+                default -> null;
+            };
+            case 'R' -> "R40".equals(code) ? OrderStatus.REFUNDED : null;
+            default -> null;
+        };
+    }
+
+    private static BigDecimal decimal(JsonNode node) {
+        return node.isMissingNode() || node.isNull() || node.asText().isEmpty() ? null : new BigDecimal(node.asText());
+    }
+
+    /** ISO-8601 오프셋 시각 (예: 2025-01-15T10:30:00+09:00) → 서버 시간대 */
+    private static LocalDateTime dateTime(JsonNode node) {
+        if (node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        return OffsetDateTime.parse(node.asText())
+                .atZoneSameInstant(ZoneId.systemDefault())
+                .toLocalDateTime();
+    }
+}
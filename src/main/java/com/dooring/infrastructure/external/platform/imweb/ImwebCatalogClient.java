@@ -0,0 +1,84 @@
+package com.dooring.infrastructure.external.platform.imweb;
+
+import com.dooring.domain.catalog.dto.CatalogPage;
+import com.dooring.domain.catalog.dto.CatalogProduct;
+import com.dooring.domain.catalog.entity.Store;
+import com.dooring.domain.catalog.port.CatalogClient;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 아임웹 API 상품 목록 (GET /v2/shop/products)
+ *
+ * - base_api_url 예: https://api.imweb.me
+ * - 페이지: offset 커서
+ * - 증분: 목록 API에 수정 시각 조건이 없어 전체 페이지를 받고 edit_time 으로 걸러냄
+ *   (API 호출 수는 줄지 않지만 DB 반영은 변경분만)
+ * - 판매 여부: prod_status = sale
+ */
+@Component
+public class ImwebCatalogClient implements CatalogClient {
+
+    private final RestClient restClient;
+    private final double requestsPerSecond;
+
+    public ImwebCatalogClient(
+            RestClient.Builder restClientBuilder,
+            @Value("${dooring.catalog-sync.rate-limit.imweb:5}") double requestsPerSecond) {
+        this.restClient = restClientBuilder.build();
+        this.requestsPerSecond = requestsPerSecond;
+    }
+
+    @Override
+    public String platformCode() {
+        return "imweb";
+    }
+
+    @Override
+    public double requestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    @Override
+    public CatalogPage fetchPage(Store store, String baseApiUrl, LocalDateTime updatedSince, String cursor, int pageSize) {
+        int offset = cursor != null ? Integer.parseInt(cursor) : 0;
+        JsonNode body = restClient.get()
+                .uri(UriComponentsBuilder.fromUriString(baseApiUrl)
+                        .path("/v2/shop/products")
+                        .queryParam("offset", offset)
+                        .queryParam("limit", pageSize)
+                        .encode().build().toUri())
+                .header("access-token", store.getAccessToken())
+                .retrieve()
+                .body(JsonNode.class);
+        if (body == null) {
+            return new CatalogPage(List.of(), null);
+        }
+
+        JsonNode list = body.path("data").path("list");
+        long sinceEpoch = updatedSince != null ? updatedSince.atZone(ZoneId.systemDefault()).toEpochSecond() : Long.MIN_VALUE;
+        List<CatalogProduct> products = new ArrayList<>();
+        for (JsonNode product : list) {
+            if (product.path("edit_time").asLong(Long.MAX_VALUE) < sinceEpoch) {
+                continue;
+            }
+            String prodNo = product.path("no").asText();
+            products.add(new CatalogProduct(
+                    prodNo,
+                    product.path("name").asText(null),
+                    product.path("image_url").asText(null),
+                    "https://" + store.getExternalStoreId() + ".imweb.me/shop_view/?idx=" + prodNo,
+                    product.hasNonNull("price") ? product.path("price").decimalValue() : null,
+                    "sale".equals(product.path("prod_status").asText())));
+        }
+        return new CatalogPage(products, list.size() < pageSize ? null : String.valueOf(offset + list.size()));
+    }
+}
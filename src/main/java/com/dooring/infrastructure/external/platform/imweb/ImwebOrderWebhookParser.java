@@ -0,0 +1,87 @@
+package com.dooring.infrastructure.external.platform.imweb;
+
+import com.dooring.domain.order.dto.OrderWebhookEvent;
+import com.dooring.domain.order.entity.OrderStatus;
+import com.dooring.domain.order.port.OrderWebhookParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 아임웹 주문 웹훅 본문 변환
+ *
+ * 사용 필드: site_code, data.order_no, data.status, data.total_price, data.order_time(epoch 초),
+ *           data.items[].prod_no / prod_name / count / price
+ * 주문 상태:
+ *   PAY_WAIT → CREATED, PAY_COMPLETE / STANDBY / DELIVERING → PAID, COMPLETE → DELIVERED,
+ *   PURCHASE_CONFIRMATION → CONFIRMED, CANCEL_COMPLETE → CANCELLED, RETURN_COMPLETE / REFUND_COMPLETE → REFUNDED,
+ *   그 외(CANCEL_REQUEST, RETURN_REQUEST 등 처리 중 단계, 교환) → null — 철회될 수 있는 신청은 종료 상태로 잠그지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class ImwebOrderWebhookParser implements OrderWebhookParser {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String platformCode() {
+        return "imweb";
+    }
+
+    @Override
+    public List<OrderWebhookEvent> parse(String body) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아임웹 웹훅 본문이 JSON이 아닙니다", e);
+        }
+        JsonNode data = root.path("data");
+        String siteCode = root.path("site_code").asText(null);
+        String orderNo = data.path("order_no").asText(null);
+        if (siteCode == null || orderNo == null) {
+            throw new IllegalArgumentException("아임웹 웹훅에 site_code / order_no가 없습니다");
+        }
+
+        List<OrderWebhookEvent.Item> items = new ArrayList<>();
+        for (JsonNode item : data.path("items")) {
+            items.add(new OrderWebhookEvent.Item(
+                    item.path("prod_no").asText(),
+                    item.path("prod_name").asText(null),
+                    item.hasNonNull("count") ? item.path("count").asInt() : null,
+                    item.hasNonNull("price") ? item.path("price").decimalValue() : null));
+        }
+
+        return List.of(new OrderWebhookEvent(
+                platformCode(),
+                siteCode,
+                orderNo,
+                toStatus(data.path("status").asText("")),
+                data.hasNonNull("total_price") ? data.path("total_price").decimalValue() : null,
+                data.hasNonNull("order_time")
+                        ? LocalDateTime.ofInstant(Instant.ofEpochSecond(data.path("order_time").asLong()), ZoneId.systemDefault())
+                        : null,
+                items));
+    }
+
+    static OrderStatus toStatus(String status) {
+        return switch (status) {
+            case "PAY_WAIT" -> OrderStatus.CREATED;
+            case "PAY_COMPLETE", "STANDBY", "DELIVERING" -> OrderStatus.PAID;
+            case "COMPLETE" -> OrderStatus.DELIVERED;
+            case "PURCHASE_CONFIRMATION" -> OrderStatus.CONFIRMED;
+            case "CANCEL_COMPLETE" -> OrderStatus.CANCELLED;
+            case "RETURN_COMPLETE", "REFUND_COMPLETE" -> OrderStatus.REFUNDED;
+            default -> null;
+        };
+    }
+}
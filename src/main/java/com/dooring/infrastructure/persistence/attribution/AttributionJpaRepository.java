@@ -1,11 +1,16 @@
 package com.dooring.infrastructure.persistence.attribution;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Attribution JPA Repository
@@ -44,4 +49,63 @@ public interface AttributionJpaRepository extends JpaRepository<AttributionJpaEn
      */
     @Query("SELECT a FROM AttributionJpaEntity a JOIN FETCH a.commissionLedger cl WHERE cl.sellerId = :sellerId")
     List<AttributionJpaEntity> findAllBySellerId(@Param("sellerId") Long sellerId);
+
+    // ==================== 키셋 페이지 (id < beforeId, id 내림차순) ====================
+    // 크리에이터·셀러 조건은 commission_ledgers (creator_id|seller_id, attribution_id) 인덱스로 범위 스캔
+
+    @Query("""
+        SELECT a FROM AttributionJpaEntity a JOIN FETCH a.commissionLedger cl
+        WHERE a.campaignId = :campaignId AND a.id < :beforeId
+        ORDER BY a.id DESC""")
+    List<AttributionJpaEntity> findPageByCampaignId(@Param("campaignId") Long campaignId,
+                                                    @Param("beforeId") Long beforeId,
+                                                    Limit limit);
+
+    @Query("""
+        SELECT a FROM AttributionJpaEntity a JOIN FETCH a.commissionLedger cl
+        WHERE cl.creatorId = :creatorId AND cl.attribution.id < :beforeId
+        ORDER BY cl.attribution.id DESC""")
+    List<AttributionJpaEntity> findPageByCreatorId(@Param("creatorId") Long creatorId,
+                                                   @Param("beforeId") Long beforeId,
+                                                   Limit limit);
+
+    @Query("""
+        SELECT a FROM AttributionJpaEntity a JOIN FETCH a.commissionLedger cl
+        WHERE cl.sellerId = :sellerId AND cl.attribution.id < :beforeId
+        ORDER BY cl.attribution.id DESC""")
+    List<AttributionJpaEntity> findPageBySellerId(@Param("sellerId") Long sellerId,
+                                                  @Param("beforeId") Long beforeId,
+                                                  Limit limit);
+
+    // ==================== 스트리밍 (fetch size 단위 커서, 읽기 전용 엔티티) ====================
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT a FROM AttributionJpaEntity a JOIN FETCH a.commissionLedger cl
+        WHERE a.campaignId = :campaignId
+        ORDER BY a.id DESC""")
+    Stream<AttributionJpaEntity> streamByCampaignId(@Param("campaignId") Long campaignId);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT a FROM AttributionJpaEntity a JOIN FETCH a.commissionLedger cl
+        WHERE cl.creatorId = :creatorId
+        ORDER BY cl.attribution.id DESC""")
+    Stream<AttributionJpaEntity> streamByCreatorId(@Param("creatorId") Long creatorId);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT a FROM AttributionJpaEntity a JOIN FETCH a.commissionLedger cl
+        WHERE cl.sellerId = :sellerId
+        ORDER BY cl.attribution.id DESC""")
+    Stream<AttributionJpaEntity> streamBySellerId(@Param("sellerId") Long sellerId);
 }
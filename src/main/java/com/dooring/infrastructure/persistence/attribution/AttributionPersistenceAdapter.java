@@ -2,16 +2,31 @@ package com.dooring.infrastructure.persistence.attribution;
 
 import com.dooring.domain.attribution.aggregate.Attribution;
 import com.dooring.domain.attribution.aggregate.CommissionLedger;
+import com.dooring.domain.attribution.aggregate.CommissionStatus;
+import com.dooring.domain.attribution.dto.AttributionPage;
 import com.dooring.domain.attribution.port.AttributionReader;
 import com.dooring.domain.attribution.port.AttributionWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Attribution Persistence Adapter
@@ -21,12 +36,42 @@ import java.util.stream.Collectors;
  * 1. 원자성: Attribution + CommissionLedger 동시 저장 (CascadeType.ALL)
  * 2. 멱등성: 같은 orderId 중복 방지 (UNIQUE 제약 + 체크)
  * 3. 변환: 도메인 모델 ↔ JPA Entity
+ * 4. 일괄 전이: 커미션 상태를 조건부 UPDATE 1회로 전이 (JdbcTemplate)
+ * 5. 대량 조회: id 키셋 페이지 / 스트리밍 (변환 후 엔티티 분리 → 영속성 컨텍스트가 쌓이지 않음)
  */
 @Repository
 @RequiredArgsConstructor
 public class AttributionPersistenceAdapter implements AttributionWriter, AttributionReader {
 
     private final AttributionJpaRepository attributionJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    /** outcome → dooring.attribution.save 타이머 (처음 나올 때 1회 등록 후 재사용) */
+    private final Map<String, Timer> saveTimers = new ConcurrentHashMap<>();
+    /** "target:by" → dooring.commission.transition 타이머 */
+    private final Map<String, Timer> transitionTimers = new ConcurrentHashMap<>();
+    /** target → dooring.commission.transition.ledgers 카운터 */
+    private final Map<CommissionStatus, Counter> transitionCounters = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private final EntityManager em;
+
+    /**
+     * 커미션 일괄 전이 (%1$s: 상태별 추가 SET, %2$s: 대상 원장 조건)
+     * - status = ANY(전이 가능한 이전 상태) 로 단건 전이와 같은 규칙 강제
+     * - updated_at은 트리거가 갱신, link_daily_stats 롤업은 statement 트리거가 1회에 반영
+     */
+    private static final String TRANSITION_SQL = """
+            UPDATE commission_ledgers cl
+            SET status = CAST(? AS commission_status_enum)%1$s
+            WHERE cl.status = ANY(CAST(? AS commission_status_enum[]))
+              AND %2$s
+            """;
+
+    private static final String BY_ORDER_IDS =
+            "cl.attribution_id IN (SELECT a.id FROM attributions a WHERE a.order_id = ANY(?))";
+    private static final String BY_CAMPAIGN_IDS = "cl.campaign_id = ANY(?)";
+    private static final String BY_CREATOR_ID = "cl.creator_id = ?";
 
     // ==================== AttributionWriter ====================
 
@@ -59,10 +104,14 @@ public class AttributionPersistenceAdapter implements AttributionWriter, Attribu
      * 동시성 환경에서도 안전:
      * - UNIQUE 제약으로 DB 레벨 보장
      * - 충돌 시 기존 데이터 조회 후 반환
+     *
+     * 메트릭: dooring.attribution.save (outcome = created | existing | race_recovered | error)
      */
     @Override
     @Transactional
     public Attribution saveIdempotent(Attribution attribution) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
             // 이미 존재하는지 먼저 확인
             Optional<AttributionJpaEntity> existing =
@@ -70,12 +119,14 @@ public class AttributionPersistenceAdapter implements AttributionWriter, Attribu
 
             if (existing.isPresent()) {
                 // 이미 존재하면 기존 것 반환
+                outcome = "existing";
                 return toDomain(existing.get());
             }
 
             // 없으면 저장
             AttributionJpaEntity entity = toEntity(attribution);
             AttributionJpaEntity saved = attributionJpaRepository.save(entity);
+            outcome = "created";
             return toDomain(saved);
 
         } catch (DataIntegrityViolationException e) {
@@ -86,10 +137,42 @@ public class AttributionPersistenceAdapter implements AttributionWriter, Attribu
                     .orElseThrow(() -> new IllegalStateException(
                         "UNIQUE 제약 위반했지만 데이터를 찾을 수 없음 (DB 정합성 문제)", e
                     ));
+            outcome = "race_recovered";
             return toDomain(existing);
+        } finally {
+            sample.stop(saveTimers.computeIfAbsent(outcome, tag -> Timer.builder("dooring.attribution.save")
+                .description("idempotent attribution + commission ledger save")
+                .tag("outcome", tag)
+                .publishPercentileHistogram()
+                .register(meterRegistry)));
         }
     }
 
+    @Override
+    @Transactional
+    public int confirmCommissionsByOrderIds(Collection<Long> orderIds) {
+        return transitionByIds(CommissionStatus.CONFIRMED, "order", BY_ORDER_IDS, orderIds);
+    }
+
+    @Override
+    @Transactional
+    public int confirmCommissionsByCampaignIds(Collection<Long> campaignIds) {
+        return transitionByIds(CommissionStatus.CONFIRMED, "campaign", BY_CAMPAIGN_IDS, campaignIds);
+    }
+
+    @Override
+    @Transactional
+    public int markCommissionsAsPaidByCreatorId(Long creatorId) {
+        return transition(CommissionStatus.PAID, "creator", BY_CREATOR_ID,
+            ps -> ps.setLong(3, creatorId));
+    }
+
+    @Override
+    @Transactional
+    public int cancelCommissionsByOrderIds(Collection<Long> orderIds) {
+        return transitionByIds(CommissionStatus.CANCELLED, "order", BY_ORDER_IDS, orderIds);
+    }
+
     // ==================== AttributionReader ====================
 
     @Override
@@ -146,6 +229,127 @@ public class AttributionPersistenceAdapter implements AttributionWriter, Attribu
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public AttributionPage findPageByCampaignId(Long campaignId, Long cursor, int size) {
+        return toPage(attributionJpaRepository.findPageByCampaignId(campaignId, beforeId(cursor), Limit.of(size + 1)), size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AttributionPage findPageByCreatorId(Long creatorId, Long cursor, int size) {
+        return toPage(attributionJpaRepository.findPageByCreatorId(creatorId, beforeId(cursor), Limit.of(size + 1)), size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AttributionPage findPageBySellerId(Long sellerId, Long cursor, int size) {
+        return toPage(attributionJpaRepository.findPageBySellerId(sellerId, beforeId(cursor), Limit.of(size + 1)), size);
+    }
+
+    /**
+     * 스트림은 호출 측 트랜잭션 안에서 소비되어야 하므로 MANDATORY
+     * (메서드 트랜잭션이 끝나면 커서가 닫혀 이후 읽기가 실패함)
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<Attribution> streamByCampaignId(Long campaignId) {
+        return attributionJpaRepository.streamByCampaignId(campaignId).map(this::toDomainDetached);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<Attribution> streamByCreatorId(Long creatorId) {
+        return attributionJpaRepository.streamByCreatorId(creatorId).map(this::toDomainDetached);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<Attribution> streamBySellerId(Long sellerId) {
+        return attributionJpaRepository.streamBySellerId(sellerId).map(this::toDomainDetached);
+    }
+
+    // ==================== 키셋 페이지 / 스트리밍 ====================
+
+    /**
+     * 첫 페이지(cursor null)는 상한 없이 — id는 BIGSERIAL이므로 Long.MAX_VALUE 미만
+     */
+    private Long beforeId(Long cursor) {
+        return cursor != null ? cursor : Long.MAX_VALUE;
+    }
+
+    /**
+     * size + 1건 조회 결과 → 페이지 (초과분이 있으면 다음 페이지 존재)
+     */
+    private AttributionPage toPage(List<AttributionJpaEntity> entities, int size) {
+        boolean hasNext = entities.size() > size;
+        List<Attribution> attributions = entities.stream()
+            .limit(size)
+            .map(this::toDomain)
+            .toList();
+        Long nextCursor = hasNext ? attributions.get(attributions.size() - 1).getId() : null;
+        return new AttributionPage(attributions, nextCursor);
+    }
+
+    /**
+     * 변환 후 엔티티 분리 (CascadeType.ALL → CommissionLedger도 함께 분리)
+     * 스트리밍 중 영속성 컨텍스트에 엔티티가 누적되지 않도록
+     */
+    private Attribution toDomainDetached(AttributionJpaEntity entity) {
+        Attribution attribution = toDomain(entity);
+        em.detach(entity);
+        return attribution;
+    }
+
+    // ==================== 일괄 전이 ====================
+
+    /**
+     * ID 목록 조건 일괄 전이 — ID는 배열 파라미터 1개로 전달 (IN 목록 바인드 수 제한 없음)
+     */
+    private int transitionByIds(CommissionStatus target, String by, String condition, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return transition(target, by, condition,
+            ps -> ps.setArray(3, ps.getConnection().createArrayOf("bigint", ids.toArray())));
+    }
+
+    /**
+     * 조건부 UPDATE 1회로 target 상태 전이
+     * JPA 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 미리 로드한 Attribution에는 반영되지 않음
+     *
+     * 메트릭: dooring.commission.transition (target, by), dooring.commission.transition.ledgers (target)
+     */
+    private int transition(CommissionStatus target, String by, String condition,
+                           PreparedStatementSetter conditionParams) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String extraSet = switch (target) {
+            case CONFIRMED -> ", confirmed_at = now()";
+            case PAID -> ", paid_at = now()";
+            default -> "";
+        };
+        Object[] sources = CommissionStatus.sourcesOf(target).stream()
+            .map(Enum::name)
+            .toArray();
+
+        int updated = jdbcTemplate.update(TRANSITION_SQL.formatted(extraSet, condition), ps -> {
+            ps.setString(1, target.name());
+            ps.setArray(2, ps.getConnection().createArrayOf("varchar", sources));
+            conditionParams.setValues(ps);
+        });
+
+        sample.stop(transitionTimers.computeIfAbsent(target + ":" + by, key -> Timer.builder("dooring.commission.transition")
+            .description("set-based commission ledger state transition")
+            .tag("target", target.name().toLowerCase())
+            .tag("by", by)
+            .publishPercentileHistogram()
+            .register(meterRegistry)));
+        transitionCounters.computeIfAbsent(target, key -> meterRegistry.counter(
+                "dooring.commission.transition.ledgers", "target", key.name().toLowerCase()))
+            .increment(updated);
+        return updated;
+    }
+
     // ==================== 변환 로직 ====================
 
     /**
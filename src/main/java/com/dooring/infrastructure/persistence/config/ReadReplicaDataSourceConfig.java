@@ -0,0 +1,101 @@
+package com.dooring.infrastructure.persistence.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (dooring.datasource.replica.enabled=true 일 때만)
+ *
+ * - @ReplicaRead + @Transactional(readOnly = true) → 레플리카 (ReplicaRoutingDataSource가 지연 확인 후 분배, 없으면 primary)
+ *   대시보드·리포트 어댑터만 해당 — 리다이렉트 캐시 적재·픽셀 세션 조회 등 방금 커밋된 행을 봐야 하는 조회는 primary
+ * - 그 외 (@ReplicaRead 없는 읽기 전용 트랜잭션, 쓰기 트랜잭션, 트랜잭션 밖 JDBC, Flyway) → primary
+ *
+ * LazyConnectionDataSourceProxy가 실제 커넥션을 첫 쿼리 시점까지 미룸
+ * → 트랜잭션 시작 시 설정된 read-only 플래그를 보고 readOnlyDataSource(레플리카)에서 커넥션을 가져옴
+ * 쓰기 트랜잭션 안에서 호출된 readOnly 메서드는 바깥 트랜잭션 커넥션(primary)을 그대로 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "dooring.datasource.replica.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReadReplicaDataSourceConfig {
+
+    /**
+     * primary 풀 — 설정은 기본 구성과 동일 (spring.datasource.*, spring.datasource.hikari.*)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties dataSourceProperties,
+                                                             ReplicaProperties replicaProperties,
+                                                             MeterRegistry meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.urls().size(); i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + i);
+            config.setJdbcUrl(replicaProperties.urls().get(i));
+            config.setUsername(StringUtils.hasText(replicaProperties.username())
+                    ? replicaProperties.username() : dataSourceProperties.determineUsername());
+            config.setPassword(StringUtils.hasText(replicaProperties.password())
+                    ? replicaProperties.password() : dataSourceProperties.determinePassword());
+            config.setMaximumPoolSize(replicaProperties.poolSize());
+            config.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            config.setReadOnly(true);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, replicaProperties.maxLag(), meterRegistry);
+    }
+
+    /**
+     * @ReplicaRead (클래스·메서드) 인터셉터 — 트랜잭션 어드바이저와 같은 인프라 역할로 등록해
+     * AspectJ 자동 프록시 없이도 적용되게 함
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor replicaReadAdvisor() {
+        Pointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(ReplicaRead.class, true))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(ReplicaRead.class));
+        return new DefaultPointcutAdvisor(pointcut, new ReplicaReadInterceptor());
+    }
+
+    /**
+     * 애플리케이션 전체(JPA, JdbcTemplate, Flyway)가 쓰는 DataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(replicaRoutingDataSource);
+        return proxy;
+    }
+}
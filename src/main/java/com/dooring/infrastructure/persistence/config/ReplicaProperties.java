@@ -0,0 +1,30 @@
+package com.dooring.infrastructure.persistence.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기 전용 레플리카 설정 (dooring.datasource.replica)
+ *
+ * @param enabled          false면 라우팅 없이 spring.datasource 하나만 사용
+ * @param urls             레플리카 JDBC URL 목록 (읽기 전용 트랜잭션을 라운드로빈 분배)
+ * @param username         비어 있으면 spring.datasource.username
+ * @param password         비어 있으면 spring.datasource.password
+ * @param poolSize         레플리카별 Hikari 풀 크기
+ * @param maxLag           이보다 뒤처진 레플리카는 제외 (모두 제외되면 primary로 읽음)
+ * @param lagCheckInterval 레플리카 지연 확인 주기
+ */
+@ConfigurationProperties("dooring.datasource.replica")
+public record ReplicaProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<String> urls,
+        String username,
+        String password,
+        @DefaultValue("10") int poolSize,
+        @DefaultValue("5s") Duration maxLag,
+        @DefaultValue("5s") Duration lagCheckInterval
+) {
+}
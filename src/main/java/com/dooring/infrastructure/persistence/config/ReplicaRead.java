@@ -0,0 +1,21 @@
+package com.dooring.infrastructure.persistence.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 레플리카에서 읽어도 되는 조회 (클래스에 붙이면 모든 public 메서드)
+ *
+ * - @Transactional(readOnly = true)와 함께 써야 레플리카로 감 — 이 표시가 없는 읽기 전용 트랜잭션은 primary
+ * - 몇 초 늦은 결과가 허용되는 대시보드·리포트 조회에만 사용
+ *   (리다이렉트 캐시 적재, 픽셀 세션 조회, 정산처럼 방금 커밋된 행을 봐야 하는 조회에는 붙이지 않음)
+ * - dooring.datasource.replica.enabled=false 면 아무 효과 없음
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReplicaRead {
+}
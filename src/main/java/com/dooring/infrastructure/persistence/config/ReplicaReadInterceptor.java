@@ -0,0 +1,35 @@
+package com.dooring.infrastructure.persistence.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * @ReplicaRead 메서드 실행 동안 현재 스레드를 레플리카 읽기 허용 상태로 표시
+ *
+ * 커넥션은 LazyConnectionDataSourceProxy가 첫 쿼리 시점에 가져오므로
+ * 트랜잭션 인터셉터와의 순서와 무관하게 ReplicaRoutingDataSource가 이 표시를 봄
+ */
+public class ReplicaReadInterceptor implements MethodInterceptor {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    /** 현재 스레드가 @ReplicaRead 메서드 안인지 */
+    static boolean isActive() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Boolean previous = ACTIVE.get();
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return invocation.proceed();
+        } finally {
+            if (previous == null) {
+                ACTIVE.remove();
+            } else {
+                ACTIVE.set(previous);
+            }
+        }
+    }
+}
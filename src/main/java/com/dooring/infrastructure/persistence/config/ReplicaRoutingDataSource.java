@@ -0,0 +1,152 @@
+package com.dooring.infrastructure.persistence.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽기 전용 커넥션 분배 (레플리카 라운드로빈, 지연 시 primary 대체)
+ *
+ * - @ReplicaRead 조회만 레플리카로 — 표시 없는 읽기 전용 트랜잭션은 primary (primary_pinned)
+ * - 지연(lag)이 maxLag 이하인 레플리카만 후보 — lagCheckInterval마다 각 레플리카에 직접 확인
+ * - 후보가 없으면 (전부 뒤처짐 / 장애 / 첫 확인 전) primary로 읽음
+ * - 지연 = WAL 수신분을 모두 재생했으면 0, 아니면 마지막 재생 트랜잭션 이후 경과 시간
+ *   (primary 쓰기가 없을 때 경과 시간만 늘어나 지연으로 오판하지 않도록)
+ * - WAL 수신기가 streaming 상태가 아니면 (primary 연결 끊김) 재생할 WAL이 없어 0처럼 보이므로 후보에서 제외
+ *   → 확인 계정에 pg_read_all_stats 권한 필요 (없으면 pg_stat_wal_receiver.status가 보이지 않아 모두 제외)
+ *
+ * 메트릭: dooring.datasource.replica.lag (replica),
+ *        dooring.datasource.read_route (target = replica | primary_fallback | primary_pinned)
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+
+    private static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END::bigint
+            """;
+
+    private final List<DataSource> replicas;
+    private final long maxLagMillis;
+    private final AtomicLong[] lagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter replicaRoutes;
+    private final Counter fallbackRoutes;
+    private final Counter pinnedRoutes;
+
+    /** 현재 후보 레플리카 인덱스 (checkLag가 통째로 교체) */
+    private volatile int[] healthy = new int[0];
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                    Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.maxLagMillis = maxLag.toMillis();
+        this.lagMillis = new AtomicLong[replicas.size()];
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+            lagMillis[i] = new AtomicLong(Long.MAX_VALUE);
+            Gauge.builder("dooring.datasource.replica.lag", lagMillis[i], AtomicLong::get)
+                    .description("replica replay lag in ms (Long.MAX_VALUE = unreachable or not checked yet)")
+                    .tag("replica", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.replicaRoutes = Counter.builder("dooring.datasource.read_route")
+                .tag("target", "replica")
+                .register(meterRegistry);
+        this.fallbackRoutes = Counter.builder("dooring.datasource.read_route")
+                .tag("target", "primary_fallback")
+                .register(meterRegistry);
+        this.pinnedRoutes = Counter.builder("dooring.datasource.read_route")
+                .tag("target", "primary_pinned")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!ReplicaReadInterceptor.isActive()) {
+            pinnedRoutes.increment();
+            return PRIMARY;
+        }
+        int[] candidates = healthy;
+        if (candidates.length == 0) {
+            fallbackRoutes.increment();
+            return PRIMARY;
+        }
+        replicaRoutes.increment();
+        return candidates[Math.floorMod(next.getAndIncrement(), candidates.length)];
+    }
+
+    @Scheduled(fixedDelayString = "${dooring.datasource.replica.lag-check-interval:5s}")
+    public void checkLag() {
+        List<Integer> candidates = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            long lag = measureLag(i);
+            lagMillis[i].set(lag);
+            if (lag <= maxLagMillis) {
+                candidates.add(i);
+            }
+        }
+
+        int[] updated = candidates.stream().mapToInt(Integer::intValue).toArray();
+        if (updated.length != healthy.length) {
+            log.info("[ReplicaRouting] 읽기 후보 레플리카 변경: {}/{} (maxLag={}ms)",
+                    updated.length, replicas.size(), maxLagMillis);
+        }
+        healthy = updated;
+    }
+
+    /**
+     * 레플리카 풀은 빈이 아니므로 컨텍스트 종료 시 여기서 닫음 (@Bean 추론 destroy 메서드)
+     */
+    public void close() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private long measureLag(int index) {
+        try (Connection con = replicas.get(index).getConnection();
+             Statement st = con.createStatement();
+             ResultSet rs = st.executeQuery(LAG_SQL)) {
+            rs.next();
+            long lag = rs.getLong(1);
+            if (rs.wasNull()) {
+                log.warn("[ReplicaRouting] 레플리카 {} WAL 수신이 streaming 상태가 아님 — 후보에서 제외", index);
+                return Long.MAX_VALUE;
+            }
+            return lag;
+        } catch (Exception e) {
+            log.warn("[ReplicaRouting] 레플리카 {} 지연 확인 실패 — 후보에서 제외: {}", index, e.getMessage());
+            return Long.MAX_VALUE;
+        }
+    }
+}
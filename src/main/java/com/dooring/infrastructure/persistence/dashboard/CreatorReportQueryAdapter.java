@@ -3,11 +3,13 @@ package com.dooring.infrastructure.persistence.dashboard;
 import com.dooring.domain.dashboard.port.CreatorReportQueryPort;
 import com.dooring.domain.dashboard.querymodel.CreatorReport;
 import com.dooring.domain.dashboard.querymodel.LinkPerformance;
+import com.dooring.infrastructure.persistence.config.ReplicaRead;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -17,11 +19,16 @@ import java.util.Optional;
 /**
  * CreatorReport QueryPort 구현체
  *
- * 여러 테이블을 조인해서 집계 데이터를 직접 조회
+ * 롤업 뷰(link_daily_stats_live)에서 집계 데이터를 조회
+ * - clicks/attributions/commission_ledgers 원본은 트리거가 롤업에 반영 (V4 마이그레이션)
+ * - 클릭은 delta 테이블에 쌓였다가 LinkDailyStatsRollup이 합산 (V14) — 뷰가 둘을 합쳐 보여줌
+ *   → 조회 비용이 누적 클릭 수가 아닌 링크 × 일자 수에 비례
+ * - 기간 조회는 일 단위 (startDate ~ endDate의 날짜 포함, Asia/Seoul 기준)
  * - Native Query로 성능 최적화
  * - 다른 도메인 Service 호출 금지
  */
 @Repository
+@ReplicaRead
 @RequiredArgsConstructor
 public class CreatorReportQueryAdapter implements CreatorReportQueryPort {
 
@@ -29,6 +36,7 @@ public class CreatorReportQueryAdapter implements CreatorReportQueryPort {
     private final EntityManager em;
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<CreatorReport> findCreatorReport(Long creatorId) {
         // Native Query로 여러 테이블 조인/집계
         String sql = """
@@ -36,16 +44,14 @@ public class CreatorReportQueryAdapter implements CreatorReportQueryPort {
                 c.id AS creator_id,
                 c.nickname,
                 COUNT(DISTINCT l.id) AS total_links,
-                COUNT(DISTINCT cl.id) AS total_clicks,
-                COUNT(DISTINCT a.id) AS total_conversions,
-                COALESCE(SUM(CASE WHEN comm.status = 'PENDING' THEN comm.amount ELSE 0 END), 0) AS pending_commission,
-                COALESCE(SUM(CASE WHEN comm.status = 'CONFIRMED' THEN comm.amount ELSE 0 END), 0) AS confirmed_commission,
-                COALESCE(SUM(CASE WHEN comm.status = 'PAID' THEN comm.amount ELSE 0 END), 0) AS paid_commission
+                COALESCE(SUM(s.clicks), 0) AS total_clicks,
+                COALESCE(SUM(s.conversions), 0) AS total_conversions,
+                COALESCE(SUM(s.pending_commission), 0) AS pending_commission,
+                COALESCE(SUM(s.confirmed_commission), 0) AS confirmed_commission,
+                COALESCE(SUM(s.paid_commission), 0) AS paid_commission
             FROM creators c
             LEFT JOIN links l ON l.creator_id = c.id
-            LEFT JOIN clicks cl ON cl.link_id = l.id
-            LEFT JOIN attributions a ON a.click_id = cl.id
-            LEFT JOIN commission_ledgers comm ON comm.attribution_id = a.id
+            LEFT JOIN link_daily_stats_live s ON s.link_id = l.id
             WHERE c.id = :creatorId
             GROUP BY c.id, c.nickname
         """;
@@ -82,6 +88,7 @@ public class CreatorReportQueryAdapter implements CreatorReportQueryPort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<CreatorReport> findCreatorReportByPeriod(Long creatorId,
                                                              LocalDateTime startDate,
                                                              LocalDateTime endDate) {
@@ -90,24 +97,23 @@ public class CreatorReportQueryAdapter implements CreatorReportQueryPort {
                 c.id AS creator_id,
                 c.nickname,
                 COUNT(DISTINCT l.id) AS total_links,
-                COUNT(DISTINCT cl.id) AS total_clicks,
-                COUNT(DISTINCT a.id) AS total_conversions,
-                COALESCE(SUM(CASE WHEN comm.status = 'PENDING' THEN comm.amount ELSE 0 END), 0) AS pending_commission,
-                COALESCE(SUM(CASE WHEN comm.status = 'CONFIRMED' THEN comm.amount ELSE 0 END), 0) AS confirmed_commission,
-                COALESCE(SUM(CASE WHEN comm.status = 'PAID' THEN comm.amount ELSE 0 END), 0) AS paid_commission
+                COALESCE(SUM(s.clicks), 0) AS total_clicks,
+                COALESCE(SUM(s.conversions), 0) AS total_conversions,
+                COALESCE(SUM(s.pending_commission), 0) AS pending_commission,
+                COALESCE(SUM(s.confirmed_commission), 0) AS confirmed_commission,
+                COALESCE(SUM(s.paid_commission), 0) AS paid_commission
             FROM creators c
             LEFT JOIN links l ON l.creator_id = c.id
-            LEFT JOIN clicks cl ON cl.link_id = l.id AND cl.clicked_at BETWEEN :startDate AND :endDate
-            LEFT JOIN attributions a ON a.click_id = cl.id AND a.attributed_at BETWEEN :startDate AND :endDate
-            LEFT JOIN commission_ledgers comm ON comm.attribution_id = a.id
+            LEFT JOIN link_daily_stats_live s ON s.link_id = l.id
+                AND s.stat_date BETWEEN :startDate AND :endDate
             WHERE c.id = :creatorId
             GROUP BY c.id, c.nickname
         """;
 
         Query query = em.createNativeQuery(sql);
         query.setParameter("creatorId", creatorId);
-        query.setParameter("startDate", startDate);
-        query.setParameter("endDate", endDate);
+        query.setParameter("startDate", startDate.toLocalDate());
+        query.setParameter("endDate", endDate.toLocalDate());
 
         @SuppressWarnings("unchecked")
         List<Object[]> results = query.getResultList();
@@ -137,20 +143,20 @@ public class CreatorReportQueryAdapter implements CreatorReportQueryPort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<LinkPerformance> findLinkPerformancesByCreator(Long creatorId) {
         String sql = """
             SELECT
                 l.id AS link_id,
                 l.short_code,
                 p.name AS product_name,
-                COUNT(DISTINCT cl.id) AS clicks,
-                COUNT(DISTINCT a.id) AS conversions,
-                COALESCE(SUM(comm.amount), 0) AS total_commission
+                COALESCE(SUM(s.clicks), 0) AS clicks,
+                COALESCE(SUM(s.conversions), 0) AS conversions,
+                COALESCE(SUM(s.pending_commission + s.confirmed_commission
+                             + s.paid_commission + s.cancelled_commission), 0) AS total_commission
             FROM links l
             JOIN products p ON l.product_id = p.id
-            LEFT JOIN clicks cl ON cl.link_id = l.id
-            LEFT JOIN attributions a ON a.click_id = cl.id
-            LEFT JOIN commission_ledgers comm ON comm.attribution_id = a.id
+            LEFT JOIN link_daily_stats_live s ON s.link_id = l.id
             WHERE l.creator_id = :creatorId
             GROUP BY l.id, l.short_code, p.name
             ORDER BY total_commission DESC
@@ -175,6 +181,7 @@ public class CreatorReportQueryAdapter implements CreatorReportQueryPort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<LinkPerformance> findLinkPerformancesByCreatorAndPeriod(Long creatorId,
                                                                         LocalDateTime startDate,
                                                                         LocalDateTime endDate) {
@@ -183,14 +190,14 @@ public class CreatorReportQueryAdapter implements CreatorReportQueryPort {
                 l.id AS link_id,
                 l.short_code,
                 p.name AS product_name,
-                COUNT(DISTINCT cl.id) AS clicks,
-                COUNT(DISTINCT a.id) AS conversions,
-                COALESCE(SUM(comm.amount), 0) AS total_commission
+                COALESCE(SUM(s.clicks), 0) AS clicks,
+                COALESCE(SUM(s.conversions), 0) AS conversions,
+                COALESCE(SUM(s.pending_commission + s.confirmed_commission
+                             + s.paid_commission + s.cancelled_commission), 0) AS total_commission
             FROM links l
             JOIN products p ON l.product_id = p.id
-            LEFT JOIN clicks cl ON cl.link_id = l.id AND cl.clicked_at BETWEEN :startDate AND :endDate
-            LEFT JOIN attributions a ON a.click_id = cl.id AND a.attributed_at BETWEEN :startDate AND :endDate
-            LEFT JOIN commission_ledgers comm ON comm.attribution_id = a.id
+            LEFT JOIN link_daily_stats_live s ON s.link_id = l.id
+                AND s.stat_date BETWEEN :startDate AND :endDate
             WHERE l.creator_id = :creatorId
             GROUP BY l.id, l.short_code, p.name
             ORDER BY total_commission DESC
@@ -198,8 +205,8 @@ public class CreatorReportQueryAdapter implements CreatorReportQueryPort {
 
         Query query = em.createNativeQuery(sql);
         query.setParameter("creatorId", creatorId);
-        query.setParameter("startDate", startDate);
-        query.setParameter("endDate", endDate);
+        query.setParameter("startDate", startDate.toLocalDate());
+        query.setParameter("endDate", endDate.toLocalDate());
 
         @SuppressWarnings("unchecked")
         List<Object[]> results = query.getResultList();
@@ -217,20 +224,20 @@ public class CreatorReportQueryAdapter implements CreatorReportQueryPort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<LinkPerformance> findLinkPerformance(Long linkId) {
         String sql = """
             SELECT
                 l.id AS link_id,
                 l.short_code,
                 p.name AS product_name,
-                COUNT(DISTINCT cl.id) AS clicks,
-                COUNT(DISTINCT a.id) AS conversions,
-                COALESCE(SUM(comm.amount), 0) AS total_commission
+                COALESCE(SUM(s.clicks), 0) AS clicks,
+                COALESCE(SUM(s.conversions), 0) AS conversions,
+                COALESCE(SUM(s.pending_commission + s.confirmed_commission
+                             + s.paid_commission + s.cancelled_commission), 0) AS total_commission
             FROM links l
             JOIN products p ON l.product_id = p.id
-            LEFT JOIN clicks cl ON cl.link_id = l.id
-            LEFT JOIN attributions a ON a.click_id = cl.id
-            LEFT JOIN commission_ledgers comm ON comm.attribution_id = a.id
+            LEFT JOIN link_daily_stats_live s ON s.link_id = l.id
             WHERE l.id = :linkId
             GROUP BY l.id, l.short_code, p.name
         """;
@@ -0,0 +1,88 @@
+package com.dooring.infrastructure.persistence.dashboard;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클릭 delta(V14 link_daily_stats_click_deltas) → link_daily_stats 합산
+ *
+ * - clicks 트리거는 delta INSERT만 하므로 리다이렉트끼리 롤업 행 잠금을 두고 경합하지 않음
+ * - 청크마다 DELETE ... RETURNING + UPSERT 한 문장 → 옮기는 도중에도 link_daily_stats_live 합계가 변하지 않음
+ * - SKIP LOCKED → 여러 인스턴스가 동시에 돌아도 같은 delta를 두 번 합산하지 않음
+ * - 삭제된 링크의 delta는 버림 (링크 삭제 시 롤업 행도 CASCADE 삭제)
+ *
+ * 메트릭: dooring.link_daily_stats.rollup.merged (합산한 delta 행 수)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "dooring.dashboard.rollup.enabled", havingValue = "true", matchIfMissing = true)
+public class LinkDailyStatsRollup {
+
+    private static final String ROLLUP_CHUNK_SQL = """
+            WITH moved AS (
+                DELETE FROM link_daily_stats_click_deltas
+                WHERE id IN (
+                    SELECT id FROM link_daily_stats_click_deltas
+                    ORDER BY id
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING link_id, campaign_id, stat_date, clicks
+            ),
+            merged AS (
+                INSERT INTO link_daily_stats (link_id, campaign_id, stat_date, clicks)
+                SELECT m.link_id, m.campaign_id, m.stat_date, SUM(m.clicks)
+                FROM moved m
+                WHERE EXISTS (SELECT 1 FROM links l WHERE l.id = m.link_id)
+                GROUP BY 1, 2, 3
+                ORDER BY 1, 2, 3
+                ON CONFLICT (link_id, campaign_id, stat_date)
+                    DO UPDATE SET clicks = link_daily_stats.clicks + EXCLUDED.clicks
+            )
+            SELECT COUNT(*) FROM moved
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Counter mergedCounter;
+
+    public LinkDailyStatsRollup(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${dooring.dashboard.rollup.batch-size:5000}") int batchSize,
+            @Value("${dooring.dashboard.rollup.max-batches:100}") int maxBatches) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.mergedCounter = Counter.builder("dooring.link_daily_stats.rollup.merged")
+                .description("click delta rows merged into link_daily_stats")
+                .register(meterRegistry);
+    }
+
+    /** 청크가 가득 차는 동안 반복, 실행 1회당 max-batches 까지 (나머지는 다음 실행) */
+    @Scheduled(fixedDelayString = "${dooring.dashboard.rollup.interval:10s}",
+               initialDelayString = "${dooring.dashboard.rollup.initial-delay:10s}")
+    public void rollUp() {
+        long merged = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Long moved = jdbcTemplate.queryForObject(ROLLUP_CHUNK_SQL, Long.class, batchSize);
+            long count = moved == null ? 0 : moved;
+            merged += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        mergedCounter.increment(merged);
+
+        if (merged > 0) {
+            log.debug("클릭 delta {}건 롤업 합산", merged);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.dooring.infrastructure.persistence.dashboard;
+
+import com.dooring.domain.dashboard.port.ReportExportQueryPort;
+import com.dooring.domain.dashboard.querymodel.ReportExportType;
+import com.dooring.infrastructure.persistence.config.ReplicaRead;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * ReportExport QueryPort 구현체
+ *
+ * 원본 테이블(clicks / attributions / commission_ledgers)에서 행 단위로 조회
+ * - fetch size 단위 서버 측 커서 (PostgreSQL은 autocommit off에서만 커서 사용 → 읽기 전용 트랜잭션 필수)
+ * - ResultSet 행을 바로 RowHandler로 넘기므로 메모리 사용량은 행 수와 무관
+ * - IP / User-Agent 등 개인정보 컬럼은 내보내지 않음
+ *
+ * 클릭 조회는 clicks (link_id, clicked_at) 인덱스 + 월 파티션 프루닝, 전환 조회는 V10 키셋 인덱스 사용
+ */
+@Repository
+@ReplicaRead
+@RequiredArgsConstructor
+public class ReportExportQueryAdapter implements ReportExportQueryPort {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final ZoneId REPORT_ZONE = ZoneId.of("Asia/Seoul");
+
+    /**
+     * 클릭 단위 (%s: 대상 조건) — 전환되지 않은 클릭은 전환 컬럼이 비어 있음
+     */
+    private static final String CLICKS_SQL = """
+            SELECT c.clicked_at, l.id, l.short_code, p.name, c.campaign_id, l.creator_id,
+                   a.attributed_at, o.external_order_id, cl.amount, cl.status::text
+            FROM clicks c
+            JOIN links l ON l.id = c.link_id
+            JOIN products p ON p.id = l.product_id
+            LEFT JOIN attributions a ON a.click_id = c.id
+            LEFT JOIN orders o ON o.id = a.order_id
+            LEFT JOIN commission_ledgers cl ON cl.attribution_id = a.id
+            WHERE %s
+              AND c.clicked_at >= ? AND c.clicked_at < ?
+            ORDER BY c.link_id, c.clicked_at
+        """;
+
+    private static final String CLICKS_BY_CREATOR =
+        "c.link_id IN (SELECT id FROM links WHERE creator_id = ?)";
+    private static final String CLICKS_BY_SELLER =
+        "c.campaign_id IN (SELECT id FROM campaigns WHERE seller_id = ?)";
+
+    /**
+     * 전환 단위 (%s: 대상 조건)
+     */
+    private static final String CONVERSIONS_SQL = """
+            SELECT a.attributed_at, o.external_order_id, o.status::text, a.campaign_id, p.name, cl.creator_id,
+                   cl.amount, cl.status::text, cl.confirmed_at, cl.paid_at
+            FROM commission_ledgers cl
+            JOIN attributions a ON a.id = cl.attribution_id
+            JOIN orders o ON o.id = a.order_id
+            JOIN campaigns cam ON cam.id = a.campaign_id
+            JOIN products p ON p.id = cam.product_id
+            WHERE %s
+              AND a.attributed_at >= ? AND a.attributed_at < ?
+            ORDER BY cl.attribution_id
+        """;
+
+    private static final String CONVERSIONS_BY_CREATOR = "cl.creator_id = ?";
+    private static final String CONVERSIONS_BY_SELLER = "cl.seller_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportCreatorRows(Long creatorId, ReportExportType type,
+                                  LocalDateTime startDate, LocalDateTime endDate, RowHandler handler) {
+        String sql = switch (type) {
+            case CLICKS -> CLICKS_SQL.formatted(CLICKS_BY_CREATOR);
+            case CONVERSIONS -> CONVERSIONS_SQL.formatted(CONVERSIONS_BY_CREATOR);
+        };
+        return export(sql, creatorId, type, startDate, endDate, handler);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportSellerRows(Long sellerId, ReportExportType type,
+                                 LocalDateTime startDate, LocalDateTime endDate, RowHandler handler) {
+        String sql = switch (type) {
+            case CLICKS -> CLICKS_SQL.formatted(CLICKS_BY_SELLER);
+            case CONVERSIONS -> CONVERSIONS_SQL.formatted(CONVERSIONS_BY_SELLER);
+        };
+        return export(sql, sellerId, type, startDate, endDate, handler);
+    }
+
+    // ----------------------------------------------------------------
+
+    private long export(String sql, Long ownerId, ReportExportType type,
+                        LocalDateTime startDate, LocalDateTime endDate, RowHandler handler) {
+        int columnCount = type.columns().size();
+        long[] rows = {0};
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setLong(1, ownerId);
+            ps.setObject(2, startDate.atZone(REPORT_ZONE).toOffsetDateTime());
+            ps.setObject(3, endDate.atZone(REPORT_ZONE).toOffsetDateTime());
+            return ps;
+        }, rs -> {
+            Object[] values = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                values[i] = toValue(rs.getObject(i + 1));
+            }
+            handler.handle(values);
+            rows[0]++;
+        });
+
+        return rows[0];
+    }
+
+    private Object toValue(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant().atZone(REPORT_ZONE).toLocalDateTime();
+        }
+        return value;
+    }
+}
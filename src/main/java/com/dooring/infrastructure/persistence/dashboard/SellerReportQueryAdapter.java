@@ -3,6 +3,7 @@ package com.dooring.infrastructure.persistence.dashboard;
 import com.dooring.domain.dashboard.port.SellerReportQueryPort;
 import com.dooring.domain.dashboard.querymodel.CampaignPerformance;
 import com.dooring.domain.dashboard.querymodel.SellerReport;
+import com.dooring.infrastructure.persistence.config.ReplicaRead;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
@@ -19,93 +20,176 @@ import java.util.Optional;
 /**
  * SellerReport QueryPort 구현체
  *
- * 여러 테이블을 조인해서 셀러 실적 데이터를 직접 조회
+ * 롤업 뷰(link_daily_stats_live = 롤업 + 아직 합산 안 된 클릭 delta, V14)에서 셀러 실적 데이터를 조회
+ * - 전환·커미션은 어트리뷰션의 캠페인 기준, 클릭은 클릭 시점 캠페인 스냅샷 기준
+ * - 기간 조회는 일 단위 (startDate ~ endDate의 날짜 포함, Asia/Seoul 기준)
  * - Native Query로 성능 최적화
  * - 읽기 전용, 동시성 고려 불필요
+ *
+ * 집계 차원(캠페인 수 / 링크 수 / 롤업 합계)은 각자 CTE에서 GROUP BY 한 뒤 1:1로 조인
+ * → 차원끼리 곱해지는 행 폭증(fan-out) 없이 COUNT(DISTINCT) 불필요
  */
 @Repository
+@ReplicaRead
 @RequiredArgsConstructor
 public class SellerReportQueryAdapter implements SellerReportQueryPort {
 
+    /**
+     * 캠페인별 성과 쿼리 (campaign_filter / stats_period 자리에 조건 삽입)
+     * - target_campaigns : 대상 캠페인
+     * - link_counts      : 상품별 링크 수
+     * - campaign_stats   : 캠페인별 롤업 합계
+     */
+    private static final String CAMPAIGN_PERFORMANCE_SQL = """
+            WITH target_campaigns AS (
+                SELECT cam.id, cam.product_id, cam.commission_amount, cam.starts_at, cam.ends_at
+                FROM campaigns cam
+                WHERE %s
+            ),
+            link_counts AS (
+                SELECT l.product_id, COUNT(*) AS total_links
+                FROM links l
+                WHERE l.product_id IN (SELECT product_id FROM target_campaigns)
+                GROUP BY l.product_id
+            ),
+            campaign_stats AS (
+                SELECT
+                    st.campaign_id,
+                    SUM(st.clicks) AS total_clicks,
+                    SUM(st.conversions) AS total_conversions,
+                    SUM(st.pending_commission + st.confirmed_commission
+                        + st.paid_commission + st.cancelled_commission) AS total_commission
+                FROM link_daily_stats_live st
+                WHERE st.campaign_id IN (SELECT id FROM target_campaigns)%s
+                GROUP BY st.campaign_id
+            )
+            SELECT
+                tc.id AS campaign_id,
+                p.name AS product_name,
+                tc.commission_amount,
+                tc.starts_at,
+                tc.ends_at,
+                COALESCE(lc.total_links, 0) AS total_links,
+                COALESCE(cs.total_clicks, 0) AS total_clicks,
+                COALESCE(cs.total_conversions, 0) AS total_conversions,
+                COALESCE(cs.total_commission, 0) AS total_commission
+            FROM target_campaigns tc
+            JOIN products p ON tc.product_id = p.id
+            LEFT JOIN link_counts lc ON lc.product_id = tc.product_id
+            LEFT JOIN campaign_stats cs ON cs.campaign_id = tc.id
+            ORDER BY tc.starts_at DESC
+        """;
+
+    private static final String STATS_PERIOD_CONDITION = """
+
+                  AND st.stat_date BETWEEN :startDate AND :endDate""";
+
     @PersistenceContext
     private final EntityManager em;
 
     @Override
     @Transactional(readOnly = true)
     public Optional<SellerReport> findSellerReport(Long sellerId) {
-        String sql = """
-            SELECT
-                s.id AS seller_id,
-                s.name,
-                COUNT(DISTINCT cam.id) AS total_campaigns,
-                COUNT(DISTINCT a.id) AS total_conversions,
-                COALESCE(SUM(CASE WHEN cl.status = 'PENDING' THEN cl.amount ELSE 0 END), 0) AS pending_commission,
-                COALESCE(SUM(CASE WHEN cl.status = 'CONFIRMED' THEN cl.amount ELSE 0 END), 0) AS confirmed_commission,
-                COALESCE(SUM(CASE WHEN cl.status = 'PAID' THEN cl.amount ELSE 0 END), 0) AS paid_commission
-            FROM sellers s
-            LEFT JOIN campaigns cam ON cam.seller_id = s.id
-            LEFT JOIN attributions a ON a.campaign_id = cam.id
-            LEFT JOIN commission_ledgers cl ON cl.attribution_id = a.id
-            WHERE s.id = :sellerId
-            GROUP BY s.id, s.name
-        """;
+        return findSellerReport(sellerId, null, null);
+    }
 
-        Query query = em.createNativeQuery(sql);
-        query.setParameter("sellerId", sellerId);
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<SellerReport> findSellerReportByPeriod(Long sellerId,
+                                                           LocalDateTime startDate,
+                                                           LocalDateTime endDate) {
+        return findSellerReport(sellerId, startDate, endDate);
+    }
 
-        @SuppressWarnings("unchecked")
-        List<Object[]> results = query.getResultList();
+    @Override
+    @Transactional(readOnly = true)
+    public List<CampaignPerformance> findCampaignPerformancesBySeller(Long sellerId) {
+        Query query = em.createNativeQuery(
+            CAMPAIGN_PERFORMANCE_SQL.formatted("cam.seller_id = :sellerId", ""));
+        query.setParameter("sellerId", sellerId);
 
-        if (results.isEmpty()) {
-            return Optional.empty();
-        }
+        return toCampaignPerformances(query);
+    }
 
-        Object[] row = results.get(0);
+    @Override
+    @Transactional(readOnly = true)
+    public List<CampaignPerformance> findCampaignPerformancesBySellerAndPeriod(Long sellerId,
+                                                                               LocalDateTime startDate,
+                                                                               LocalDateTime endDate) {
+        Query query = em.createNativeQuery(
+            CAMPAIGN_PERFORMANCE_SQL.formatted("cam.seller_id = :sellerId", STATS_PERIOD_CONDITION));
+        query.setParameter("sellerId", sellerId);
+        query.setParameter("startDate", startDate.toLocalDate());
+        query.setParameter("endDate", endDate.toLocalDate());
 
-        // 캠페인별 성과 조회
-        List<CampaignPerformance> campaignPerformances = findCampaignPerformancesBySeller(sellerId);
+        return toCampaignPerformances(query);
+    }
 
-        SellerReport report = new SellerReport(
-            ((Number) row[0]).longValue(),      // seller_id
-            (String) row[1],                     // name
-            ((Number) row[2]).longValue(),       // total_campaigns
-            ((Number) row[3]).longValue(),       // total_conversions
-            (BigDecimal) row[4],                 // pending_commission
-            (BigDecimal) row[5],                 // confirmed_commission
-            (BigDecimal) row[6],                 // paid_commission
-            campaignPerformances
-        );
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CampaignPerformance> findCampaignPerformance(Long campaignId) {
+        Query query = em.createNativeQuery(
+            CAMPAIGN_PERFORMANCE_SQL.formatted("cam.id = :campaignId", ""));
+        query.setParameter("campaignId", campaignId);
 
-        return Optional.of(report);
+        return toCampaignPerformances(query).stream().findFirst();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Optional<SellerReport> findSellerReportByPeriod(Long sellerId,
-                                                           LocalDateTime startDate,
-                                                           LocalDateTime endDate) {
+    public List<CampaignPerformance> findActiveCampaignPerformancesBySeller(Long sellerId) {
+        Query query = em.createNativeQuery(CAMPAIGN_PERFORMANCE_SQL.formatted("""
+            cam.seller_id = :sellerId
+                    AND cam.is_active = true
+                    AND cam.starts_at <= :now
+                    AND cam.ends_at >= :now""", ""));
+        query.setParameter("sellerId", sellerId);
+        query.setParameter("now", LocalDateTime.now());
+
+        return toCampaignPerformances(query);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * 셀러 리포트 (startDate/endDate가 null이면 전체 기간)
+     */
+    private Optional<SellerReport> findSellerReport(Long sellerId, LocalDateTime startDate, LocalDateTime endDate) {
+        boolean byPeriod = startDate != null;
         String sql = """
+            WITH seller_campaigns AS (
+                SELECT cam.id
+                FROM campaigns cam
+                WHERE cam.seller_id = :sellerId
+            ),
+            seller_stats AS (
+                SELECT
+                    SUM(st.conversions) AS total_conversions,
+                    SUM(st.pending_commission) AS pending_commission,
+                    SUM(st.confirmed_commission) AS confirmed_commission,
+                    SUM(st.paid_commission) AS paid_commission
+                FROM link_daily_stats_live st
+                WHERE st.campaign_id IN (SELECT id FROM seller_campaigns)%s
+            )
             SELECT
                 s.id AS seller_id,
                 s.name,
-                COUNT(DISTINCT cam.id) AS total_campaigns,
-                COUNT(DISTINCT a.id) AS total_conversions,
-                COALESCE(SUM(CASE WHEN cl.status = 'PENDING' THEN cl.amount ELSE 0 END), 0) AS pending_commission,
-                COALESCE(SUM(CASE WHEN cl.status = 'CONFIRMED' THEN cl.amount ELSE 0 END), 0) AS confirmed_commission,
-                COALESCE(SUM(CASE WHEN cl.status = 'PAID' THEN cl.amount ELSE 0 END), 0) AS paid_commission
+                (SELECT COUNT(*) FROM seller_campaigns) AS total_campaigns,
+                COALESCE(ss.total_conversions, 0) AS total_conversions,
+                COALESCE(ss.pending_commission, 0) AS pending_commission,
+                COALESCE(ss.confirmed_commission, 0) AS confirmed_commission,
+                COALESCE(ss.paid_commission, 0) AS paid_commission
             FROM sellers s
-            LEFT JOIN campaigns cam ON cam.seller_id = s.id
-            LEFT JOIN attributions a ON a.campaign_id = cam.id
-                AND a.attributed_at BETWEEN :startDate AND :endDate
-            LEFT JOIN commission_ledgers cl ON cl.attribution_id = a.id
+            CROSS JOIN seller_stats ss
             WHERE s.id = :sellerId
-            GROUP BY s.id, s.name
-        """;
+        """.formatted(byPeriod ? STATS_PERIOD_CONDITION : "");
 
         Query query = em.createNativeQuery(sql);
         query.setParameter("sellerId", sellerId);
-        query.setParameter("startDate", startDate);
-        query.setParameter("endDate", endDate);
+        if (byPeriod) {
+            query.setParameter("startDate", startDate.toLocalDate());
+            query.setParameter("endDate", endDate.toLocalDate());
+        }
 
         @SuppressWarnings("unchecked")
         List<Object[]> results = query.getResultList();
@@ -116,51 +200,26 @@ public class SellerReportQueryAdapter implements SellerReportQueryPort {
 
         Object[] row = results.get(0);
 
-        List<CampaignPerformance> campaignPerformances =
-            findCampaignPerformancesBySellerAndPeriod(sellerId, startDate, endDate);
+        // 캠페인별 성과 조회
+        List<CampaignPerformance> campaignPerformances = byPeriod
+            ? findCampaignPerformancesBySellerAndPeriod(sellerId, startDate, endDate)
+            : findCampaignPerformancesBySeller(sellerId);
 
         SellerReport report = new SellerReport(
-            ((Number) row[0]).longValue(),
-            (String) row[1],
-            ((Number) row[2]).longValue(),
-            ((Number) row[3]).longValue(),
-            (BigDecimal) row[4],
-            (BigDecimal) row[5],
-            (BigDecimal) row[6],
+            ((Number) row[0]).longValue(),      // seller_id
+            (String) row[1],                     // name
+            ((Number) row[2]).longValue(),       // total_campaigns
+            ((Number) row[3]).longValue(),       // total_conversions
+            (BigDecimal) row[4],                 // pending_commission
+            (BigDecimal) row[5],                 // confirmed_commission
+            (BigDecimal) row[6],                 // paid_commission
             campaignPerformances
         );
 
         return Optional.of(report);
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public List<CampaignPerformance> findCampaignPerformancesBySeller(Long sellerId) {
-        String sql = """
-            SELECT
-                cam.id AS campaign_id,
-                p.name AS product_name,
-                cam.commission_amount,
-                cam.starts_at,
-                cam.ends_at,
-                COUNT(DISTINCT l.id) AS total_links,
-                COUNT(DISTINCT cl.id) AS total_clicks,
-                COUNT(DISTINCT a.id) AS total_conversions,
-                COALESCE(SUM(comm.amount), 0) AS total_commission
-            FROM campaigns cam
-            JOIN products p ON cam.product_id = p.id
-            LEFT JOIN links l ON l.product_id = cam.product_id
-            LEFT JOIN clicks cl ON cl.link_id = l.id AND cl.campaign_id = cam.id
-            LEFT JOIN attributions a ON a.campaign_id = cam.id
-            LEFT JOIN commission_ledgers comm ON comm.attribution_id = a.id
-            WHERE cam.seller_id = :sellerId
-            GROUP BY cam.id, p.name, cam.commission_amount, cam.starts_at, cam.ends_at
-            ORDER BY cam.starts_at DESC
-        """;
-
-        Query query = em.createNativeQuery(sql);
-        query.setParameter("sellerId", sellerId);
-
+    private List<CampaignPerformance> toCampaignPerformances(Query query) {
         @SuppressWarnings("unchecked")
         List<Object[]> results = query.getResultList();
 
@@ -178,158 +237,4 @@ public class SellerReportQueryAdapter implements SellerReportQueryPort {
             ))
             .toList();
     }
-
-    @Override
-    @Transactional(readOnly = true)
-    public List<CampaignPerformance> findCampaignPerformancesBySellerAndPeriod(Long sellerId,
-                                                                               LocalDateTime startDate,
-                                                                               LocalDateTime endDate) {
-        String sql = """
-            SELECT
-                cam.id AS campaign_id,
-                p.name AS product_name,
-                cam.commission_amount,
-                cam.starts_at,
-                cam.ends_at,
-                COUNT(DISTINCT l.id) AS total_links,
-                COUNT(DISTINCT cl.id) AS total_clicks,
-                COUNT(DISTINCT a.id) AS total_conversions,
-                COALESCE(SUM(comm.amount), 0) AS total_commission
-            FROM campaigns cam
-            JOIN products p ON cam.product_id = p.id
-            LEFT JOIN links l ON l.product_id = cam.product_id
-            LEFT JOIN clicks cl ON cl.link_id = l.id
-                AND cl.campaign_id = cam.id
-                AND cl.clicked_at BETWEEN :startDate AND :endDate
-            LEFT JOIN attributions a ON a.campaign_id = cam.id
-                AND a.attributed_at BETWEEN :startDate AND :endDate
-            LEFT JOIN commission_ledgers comm ON comm.attribution_id = a.id
-            WHERE cam.seller_id = :sellerId
-            GROUP BY cam.id, p.name, cam.commission_amount, cam.starts_at, cam.ends_at
-            ORDER BY cam.starts_at DESC
-        """;
-
-        Query query = em.createNativeQuery(sql);
-        query.setParameter("sellerId", sellerId);
-        query.setParameter("startDate", startDate);
-        query.setParameter("endDate", endDate);
-
-        @SuppressWarnings("unchecked")
-        List<Object[]> results = query.getResultList();
-
-        return results.stream()
-            .map(row -> new CampaignPerformance(
-                ((Number) row[0]).longValue(),
-                (String) row[1],
-                (BigDecimal) row[2],
-                ((Timestamp) row[3]).toLocalDateTime(),
-                ((Timestamp) row[4]).toLocalDateTime(),
-                ((Number) row[5]).longValue(),
-                ((Number) row[6]).longValue(),
-                ((Number) row[7]).longValue(),
-                (BigDecimal) row[8]
-            ))
-            .toList();
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public Optional<CampaignPerformance> findCampaignPerformance(Long campaignId) {
-        String sql = """
-            SELECT
-                cam.id AS campaign_id,
-                p.name AS product_name,
-                cam.commission_amount,
-                cam.starts_at,
-                cam.ends_at,
-                COUNT(DISTINCT l.id) AS total_links,
-                COUNT(DISTINCT cl.id) AS total_clicks,
-                COUNT(DISTINCT a.id) AS total_conversions,
-                COALESCE(SUM(comm.amount), 0) AS total_commission
-            FROM campaigns cam
-            JOIN products p ON cam.product_id = p.id
-            LEFT JOIN links l ON l.product_id = cam.product_id
-            LEFT JOIN clicks cl ON cl.link_id = l.id AND cl.campaign_id = cam.id
-            LEFT JOIN attributions a ON a.campaign_id = cam.id
-            LEFT JOIN commission_ledgers comm ON comm.attribution_id = a.id
-            WHERE cam.id = :campaignId
-            GROUP BY cam.id, p.name, cam.commission_amount, cam.starts_at, cam.ends_at
-        """;
-
-        Query query = em.createNativeQuery(sql);
-        query.setParameter("campaignId", campaignId);
-
-        @SuppressWarnings("unchecked")
-        List<Object[]> results = query.getResultList();
-
-        if (results.isEmpty()) {
-            return Optional.empty();
-        }
-
-        Object[] row = results.get(0);
-
-        CampaignPerformance performance = new CampaignPerformance(
-            ((Number) row[0]).longValue(),
-            (String) row[1],
-            (BigDecimal) row[2],
-            ((Timestamp) row[3]).toLocalDateTime(),
-            ((Timestamp) row[4]).toLocalDateTime(),
-            ((Number) row[5]).longValue(),
-            ((Number) row[6]).longValue(),
-            ((Number) row[7]).longValue(),
-            (BigDecimal) row[8]
-        );
-
-        return Optional.of(performance);
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public List<CampaignPerformance> findActiveCampaignPerformancesBySeller(Long sellerId) {
-        String sql = """
-            SELECT
-                cam.id AS campaign_id,
-                p.name AS product_name,
-                cam.commission_amount,
-                cam.starts_at,
-                cam.ends_at,
-                COUNT(DISTINCT l.id) AS total_links,
-                COUNT(DISTINCT cl.id) AS total_clicks,
-                COUNT(DISTINCT a.id) AS total_conversions,
-                COALESCE(SUM(comm.amount), 0) AS total_commission
-            FROM campaigns cam
-            JOIN products p ON cam.product_id = p.id
-            LEFT JOIN links l ON l.product_id = cam.product_id
-            LEFT JOIN clicks cl ON cl.link_id = l.id AND cl.campaign_id = cam.id
-            LEFT JOIN attributions a ON a.campaign_id = cam.id
-            LEFT JOIN commission_ledgers comm ON comm.attribution_id = a.id
-            WHERE cam.seller_id = :sellerId
-                AND cam.is_active = true
-                AND cam.starts_at <= :now
-                AND cam.ends_at >= :now
-            GROUP BY cam.id, p.name, cam.commission_amount, cam.starts_at, cam.ends_at
-            ORDER BY cam.starts_at DESC
-        """;
-
-        Query query = em.createNativeQuery(sql);
-        query.setParameter("sellerId", sellerId);
-        query.setParameter("now", LocalDateTime.now());
-
-        @SuppressWarnings("unchecked")
-        List<Object[]> results = query.getResultList();
-
-        return results.stream()
-            .map(row -> new CampaignPerformance(
-                ((Number) row[0]).longValue(),
-                (String) row[1],
-                (BigDecimal) row[2],
-                ((Timestamp) row[3]).toLocalDateTime(),
-                ((Timestamp) row[4]).toLocalDateTime(),
-                ((Number) row[5]).longValue(),
-                ((Number) row[6]).longValue(),
-                ((Number) row[7]).longValue(),
-                (BigDecimal) row[8]
-            ))
-            .toList();
-    }
 }
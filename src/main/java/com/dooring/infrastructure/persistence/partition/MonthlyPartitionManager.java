@@ -0,0 +1,251 @@
+package com.dooring.infrastructure.persistence.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * clicks / pixel_events 월 파티션 관리 (V6)
+ *
+ * 1. 사전 생성 : 이번 달 ~ premake-months 뒤까지 파티션이 없으면 생성 (create_monthly_partition)
+ * 2. 보존     : retention-months 보다 오래된 파티션은 retention-action 에 따라 DROP 또는 DETACH
+ *              (행 DELETE 없음 — 롤업 link_daily_stats는 그대로 남음)
+ * 3. 키 정리   : 파티션 밖 키 테이블(V13 click_keys, V6 pixel_order_keys)에서 제거한 달의 키를 청크 단위로 삭제
+ *              (파티션 DROP/DETACH는 트리거가 돌지 않으므로 직접 삭제)
+ * 4. 클릭 보관 : clicks 파티션은 제거 전에 아직 참조되는 클릭(어트리뷰션, 픽셀이 참조하는 세션)을
+ *              V15 archived_clicks로 복사하고 그 click_keys는 남김 → 나머지 클릭의 키만 삭제한 뒤 파티션 제거
+ *              (FK를 풀지 않고 환불·분쟁 대응용 원본 클릭을 유지, 전환이 있는 달도 보존 기간이 지나면 제거됨)
+ *
+ * - 기동 직후 1회 + 매일 cron 실행
+ * - 여러 인스턴스가 동시에 돌아도 advisory lock을 잡은 1곳만 수행
+ * - 실행 전체를 한 트랜잭션으로 묶지 않음: 세션 advisory lock을 잡은 커넥션에서 autocommit으로
+ *   문장마다 커밋 (파티션 생성, 보관 INSERT, 키 삭제 청크, DROP/DETACH 각각)
+ *   → clicks DROP/DETACH의 ACCESS EXCLUSIVE 잠금이 그 문장 직후 풀려 리다이렉트 INSERT가 뒤 작업을 기다리지 않음
+ * - DROP/DETACH는 lock_timeout 안에 잠금을 못 얻으면 포기하고 다음 실행에서 재시도
+ *   (긴 조회 뒤에 줄 서 있는 동안 뒤따르는 INSERT까지 막지 않도록)
+ * - 보관 후 새로 참조가 생긴 클릭(보존 기간이 지난 클릭이라 정상 흐름에서는 없음)은
+ *   click_keys FK(attributions ON DELETE RESTRICT)가 키 삭제를 막아 그 파티션은 다음 실행에서 다시 시도
+ * - pixel_order_keys는 created_at 기준으로 pixel_events 보존 기간이 지난 키를 삭제
+ *   (그 뒤 같은 주문 픽셀이 다시 오면 새 이벤트로 저장됨)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "dooring.partition.enabled", havingValue = "true", matchIfMissing = true)
+public class MonthlyPartitionManager {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    /** 키 테이블 DELETE 1회당 최대 행 수 */
+    private static final int KEY_DELETE_CHUNK = 10_000;
+
+    /** 파티션 DROP/DETACH 잠금 대기 한도 */
+    private static final String DDL_LOCK_TIMEOUT = "5s";
+
+    /** 파티션(%s)에서 아직 참조되는 클릭을 archived_clicks로 복사 (재실행 시 이미 옮긴 행은 건너뜀) */
+    private static final String ARCHIVE_REFERENCED_CLICKS_SQL = """
+            INSERT INTO archived_clicks (id, link_id, campaign_id, commission_snapshot_amount, commission_snapshot_rate,
+                                         click_token, ip_address, user_agent, clicked_at)
+            SELECT c.id, c.link_id, c.campaign_id, c.commission_snapshot_amount, c.commission_snapshot_rate,
+                   c.click_token, c.ip_address, c.user_agent, c.clicked_at
+            FROM %s c
+            WHERE EXISTS (SELECT 1 FROM attributions a WHERE a.click_id = c.id)
+               OR EXISTS (
+                   SELECT 1
+                   FROM attribution_sessions s
+                   JOIN pixel_events p ON p.attribution_session_id = s.id
+                   WHERE s.click_id = c.id
+               )
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    /** 해당 달 클릭 키 삭제 — 보관한 클릭의 키는 남김 (나머지의 attribution_sessions CASCADE) */
+    private static final String DELETE_CLICK_KEYS_SQL = """
+            DELETE FROM click_keys
+            WHERE id IN (
+                SELECT k.id FROM click_keys k
+                WHERE k.clicked_at >= ? AND k.clicked_at < ?
+                  AND NOT EXISTS (SELECT 1 FROM archived_clicks r WHERE r.id = k.id)
+                LIMIT ?
+            )
+            """;
+
+    /** 보존 기간이 지난 픽셀 주문 키 삭제 (파티션이 이미 제거된 달의 남은 키 포함) */
+    private static final String DELETE_PIXEL_ORDER_KEYS_SQL = """
+            DELETE FROM pixel_order_keys
+            WHERE ctid = ANY (ARRAY(
+                SELECT ctid FROM pixel_order_keys
+                WHERE created_at < ?
+                LIMIT ?
+            ))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int premakeMonths;
+    private final boolean detachOnly;
+    private final List<PartitionedTable> tables;
+
+    public MonthlyPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            @Value("${dooring.partition.premake-months:3}") int premakeMonths,
+            @Value("${dooring.partition.retention-action:drop}") String retentionAction,
+            @Value("${dooring.partition.retention-months.clicks:13}") int clicksRetentionMonths,
+            @Value("${dooring.partition.retention-months.pixel-events:13}") int pixelEventsRetentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.premakeMonths = premakeMonths;
+        this.detachOnly = "detach".equalsIgnoreCase(retentionAction);
+        this.tables = List.of(
+                new PartitionedTable("clicks", clicksRetentionMonths,
+                        ARCHIVE_REFERENCED_CLICKS_SQL, DELETE_CLICK_KEYS_SQL, null),
+                new PartitionedTable("pixel_events", pixelEventsRetentionMonths,
+                        null, null, DELETE_PIXEL_ORDER_KEYS_SQL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        maintain();
+    }
+
+    /**
+     * 세션 advisory lock을 잡은 커넥션 1개로 실행 (트랜잭션 밖 → 문장마다 커밋), 끝나면 lock 해제
+     */
+    @Scheduled(cron = "${dooring.partition.cron:0 10 3 * * *}", zone = "Asia/Seoul")
+    public void maintain() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            Boolean locked = session.queryForObject(
+                    "SELECT pg_try_advisory_lock(hashtext('dooring.partition'))", Boolean.class);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.info("다른 인스턴스가 파티션 관리 중 — 건너뜁니다.");
+                return null;
+            }
+            try {
+                maintain(session);
+            } finally {
+                session.queryForObject("SELECT pg_advisory_unlock(hashtext('dooring.partition'))", Boolean.class);
+            }
+            return null;
+        });
+    }
+
+    private void maintain(JdbcTemplate session) {
+        YearMonth current = YearMonth.now(ZONE);
+        for (PartitionedTable table : tables) {
+            createUpcoming(session, table, current);
+            if (table.retentionMonths() > 0) {
+                YearMonth cutoff = current.minusMonths(table.retentionMonths());
+                removeExpired(session, table, cutoff);
+                if (table.expiredKeysSql() != null) {
+                    int keys = deleteKeys(session, table.expiredKeysSql(), monthStart(cutoff));
+                    if (keys > 0) {
+                        log.info("{} 보존 기간이 지난 키 {}건 삭제", table.name(), keys);
+                    }
+                }
+            }
+        }
+    }
+
+    private void createUpcoming(JdbcTemplate session, PartitionedTable table, YearMonth current) {
+        for (int i = 0; i <= premakeMonths; i++) {
+            LocalDate monthStart = current.plusMonths(i).atDay(1);
+            session.queryForObject(
+                    "SELECT create_monthly_partition(CAST(? AS text), CAST(? AS date))",
+                    String.class, table.name(), monthStart);
+        }
+    }
+
+    /** cutoff 달보다 이전 달의 파티션 제거 (cutoff 달 자체는 보존) — 실패한 파티션은 건너뛰고 다음 실행에서 재시도 */
+    private void removeExpired(JdbcTemplate session, PartitionedTable table, YearMonth cutoff) {
+        Pattern pattern = Pattern.compile(Pattern.quote(table.name()) + "_p(\\d{4})_(\\d{2})");
+        List<String> partitions = session.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = CAST(? AS regclass)
+                ORDER BY c.relname
+                """, String.class, table.name());
+
+        for (String partition : partitions) {
+            Matcher matcher = pattern.matcher(partition);
+            if (!matcher.matches()) {
+                continue; // DEFAULT 파티션 등
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (!month.isBefore(cutoff)) {
+                continue;
+            }
+            try {
+                removePartition(session, table, partition, month);
+            } catch (DataAccessException e) {
+                log.warn("파티션 {} 제거 실패 — 다음 실행에서 재시도합니다.", partition, e);
+            }
+        }
+    }
+
+    private void removePartition(JdbcTemplate session, PartitionedTable table, String partition, YearMonth month) {
+        int archived = table.archiveSql() == null ? 0
+                : session.update(table.archiveSql().formatted(partition));
+        if (archived > 0) {
+            log.info("파티션 {} 에서 참조 중인 행 {}건 보관", partition, archived);
+        }
+
+        int keys = table.partitionKeysSql() == null ? 0
+                : deleteKeys(session, table.partitionKeysSql(), monthStart(month), monthStart(month.plusMonths(1)));
+
+        session.execute("SET lock_timeout = '" + DDL_LOCK_TIMEOUT + "'");
+        try {
+            if (detachOnly) {
+                session.execute("ALTER TABLE " + table.name() + " DETACH PARTITION " + partition);
+                log.info("파티션 {} 분리 (보존 기간 {}개월 경과, 아카이브 후 수동 삭제), 키 {}건 삭제",
+                        partition, table.retentionMonths(), keys);
+            } else {
+                session.execute("DROP TABLE " + partition);
+                log.info("파티션 {} 삭제 (보존 기간 {}개월 경과), 키 {}건 삭제", partition, table.retentionMonths(), keys);
+            }
+        } finally {
+            session.execute("RESET lock_timeout");
+        }
+    }
+
+    /** 키 테이블 청크 삭제 — 청크마다 커밋 (한 달 치 삭제가 트랜잭션 1개·긴 잠금이 되지 않도록), 삭제한 행 수 */
+    private int deleteKeys(JdbcTemplate session, String sql, Object... bounds) {
+        Object[] args = Arrays.copyOf(bounds, bounds.length + 1);
+        args[bounds.length] = KEY_DELETE_CHUNK;
+        int total = 0;
+        int deleted;
+        do {
+            deleted = session.update(sql, args);
+            total += deleted;
+        } while (deleted == KEY_DELETE_CHUNK);
+        return total;
+    }
+
+    private static OffsetDateTime monthStart(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZONE).toOffsetDateTime();
+    }
+
+    /**
+     * @param retentionMonths  보존 개월 수 (0이면 제거하지 않음)
+     * @param archiveSql       파티션 제거 직전 남겨야 할 행을 보관 테이블로 복사 (%s = 파티션 이름) — 없으면 null
+     * @param partitionKeysSql 파티션 제거 직전 그 달 [시작, 다음 달 시작)의 키 삭제 (?, ?, LIMIT ?) — 없으면 null
+     * @param expiredKeysSql   보존 기준 달 시작보다 오래된 키 삭제 (?, LIMIT ?) — 없으면 null
+     */
+    private record PartitionedTable(String name, int retentionMonths, String archiveSql,
+                                    String partitionKeysSql, String expiredKeysSql) {}
+}
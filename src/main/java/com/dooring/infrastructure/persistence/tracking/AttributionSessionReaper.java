@@ -0,0 +1,150 @@
+package com.dooring.infrastructure.persistence.tracking;
+
+import com.dooring.domain.tracking.dto.ExpiredSessionChunk;
+import com.dooring.domain.tracking.repository.AttributionSessionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 만료된 attribution_sessions 정리
+ *
+ * - 한 번에 지우지 않고 (expires_at, id) 키셋 청크 단위로 삭제 → 청크마다 커밋, 짧은 잠금
+ * - 청크 사이 pause 만큼 쉬고, 실행 1회당 max-chunks 까지만 처리 (나머지는 다음 실행)
+ * - pixel_events가 참조하는 세션은 남김 (FK + 전환 근거) — 청크를 고를 때부터 제외하므로
+ *   참조 세션이 pixel_events 보존 기간(13개월) 동안 쌓여도 청크·실행 한도를 차지하지 않음
+ * - max-chunks에서 멈추면 다음 실행은 그 키셋 위치부터 이어서, 끝까지 처리하면 다음 실행은 처음부터
+ *   (pixel_events 파티션 제거로 참조가 풀린 세션도 다시 대상이 됨)
+ * - grace: 막 만료된 세션은 픽셀 수신과 경합할 수 있으므로 만료 후 grace 지난 것만 대상
+ * - 청크 사이 sleep이 공유 스케줄러 스레드를 붙잡지 않도록 실행은 전용 스레드(session-reaper)에서
+ *   (이전 실행이 아직 돌고 있으면 이번 트리거는 건너뜀)
+ *
+ * 메트릭: dooring.attribution_session.reaper.deleted,
+ *        dooring.attribution_session.reaper.backlog (실행 후 남은 삭제 대상 수 — 픽셀 참조 세션 제외,
+ *        끝까지 처리했으면 0, max-chunks에서 멈췄으면 남은 키 구간만 chunk-size × max-chunks 한도로 셈),
+ *        dooring.attribution_session.reaper.run
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "dooring.tracking.session-reaper.enabled", havingValue = "true", matchIfMissing = true)
+public class AttributionSessionReaper {
+
+    private final AttributionSessionRepository attributionSessionRepository;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Duration pause;
+    private final Duration grace;
+    private final Counter deletedCounter;
+    private final Timer runTimer;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService runner =
+            Executors.newSingleThreadExecutor(Thread.ofVirtual().name("session-reaper").factory());
+
+    /** 이전 실행이 멈춘 키셋 위치 (null이면 처음부터) — 실행은 한 번에 하나라 동기화 불필요 */
+    private LocalDateTime resumeExpiresAt;
+    private Long resumeId;
+
+    public AttributionSessionReaper(
+            AttributionSessionRepository attributionSessionRepository,
+            MeterRegistry meterRegistry,
+            @Value("${dooring.tracking.session-reaper.chunk-size:1000}") int chunkSize,
+            @Value("${dooring.tracking.session-reaper.max-chunks:500}") int maxChunks,
+            @Value("${dooring.tracking.session-reaper.pause:100ms}") Duration pause,
+            @Value("${dooring.tracking.session-reaper.grace:1h}") Duration grace) {
+        this.attributionSessionRepository = attributionSessionRepository;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.pause = pause;
+        this.grace = grace;
+        this.deletedCounter = Counter.builder("dooring.attribution_session.reaper.deleted")
+                .description("expired attribution sessions deleted")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("dooring.attribution_session.reaper.run")
+                .description("expired attribution session reaper run")
+                .register(meterRegistry);
+        Gauge.builder("dooring.attribution_session.reaper.backlog", backlog, AtomicLong::get)
+                .description("deletable expired attribution sessions left after the last run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${dooring.tracking.session-reaper.interval:5m}",
+               initialDelayString = "${dooring.tracking.session-reaper.initial-delay:1m}")
+    public void scheduledReap() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("만료 세션 정리가 아직 실행 중입니다 — 이번 실행은 건너뜁니다.");
+            return;
+        }
+        runner.execute(() -> {
+            try {
+                reap();
+            } catch (RuntimeException e) {
+                log.error("만료 세션 정리 실패", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+    }
+
+    /** 정리 1회 실행 (호출 스레드에서 — 청크 사이 pause 동안 잠듦) */
+    public void reap() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        LocalDateTime cutoff = LocalDateTime.now().minus(grace);
+        LocalDateTime afterExpiresAt = resumeExpiresAt;
+        Long afterId = resumeId;
+        long deleted = 0;
+        int chunks = 0;
+        boolean exhausted = false;
+
+        try {
+            while (chunks < maxChunks) {
+                ExpiredSessionChunk chunk = attributionSessionRepository.deleteExpiredChunk(
+                        cutoff, afterExpiresAt, afterId, chunkSize);
+                chunks++;
+                deleted += chunk.deleted();
+                deletedCounter.increment(chunk.deleted());
+
+                if (chunk.scanned() < chunkSize) {
+                    exhausted = true;
+                    break;
+                }
+                afterExpiresAt = chunk.lastExpiresAt();
+                afterId = chunk.lastId();
+                Thread.sleep(pause.toMillis());
+            }
+            resumeExpiresAt = exhausted ? null : afterExpiresAt;
+            resumeId = exhausted ? null : afterId;
+            backlog.set(exhausted ? 0 : attributionSessionRepository.countDeletableExpired(
+                    cutoff, afterExpiresAt, afterId, (long) chunkSize * maxChunks));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            sample.stop(runTimer);
+        }
+
+        if (deleted > 0) {
+            log.info("만료 세션 {}건 삭제 (청크 {}회, 남은 삭제 대상 {}건)", deleted, chunks, backlog.get());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.dooring.infrastructure.persistence.tracking;
+
+import com.dooring.domain.tracking.dto.ClickLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * clicks (+ attribution_sessions) 멀티로우 INSERT
+ *
+ * 배치 1개 = SQL 1개 (세션까지 기록할 때는 data-modifying CTE)
+ * - clicks INSERT ... RETURNING 으로 받은 id를 그대로 attribution_sessions에 연결
+ * - (click_token, clicked_at) 충돌 행은 건너뜀 → 스필 파일 재처리 시에도 멱등
+ *   (clicks는 월 파티션 테이블 → UNIQUE에 파티션 키 clicked_at 포함)
+ * - click_token 전역 UNIQUE와 세션 FK 대상은 트리거가 채우는 click_keys (V13)
+ */
+@Component
+@RequiredArgsConstructor
+public class ClickLogJdbcWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 클릭 로그 배치 저장
+     *
+     * @param logs 클릭 로그 목록 (한 번에 보낼 크기로 잘라서 전달)
+     * @param withSessions attribution_sessions 행도 함께 기록할지
+     * @return 새로 저장된 클릭 수 (이미 있던 click_token 제외)
+     */
+    public int insertAll(List<ClickLog> logs, boolean withSessions) {
+        if (logs.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder clickInsert = new StringBuilder("""
+                INSERT INTO clicks (link_id, campaign_id, commission_snapshot_amount, commission_snapshot_rate,
+                                    click_token, ip_address, user_agent, clicked_at)
+                VALUES
+                """);
+        appendRows(clickInsert, logs.size(), "(?, ?, ?, ?, ?, ?, ?, ?)");
+        clickInsert.append("ON CONFLICT (click_token, clicked_at) DO NOTHING\n");
+
+        List<Object> params = new ArrayList<>(logs.size() * 10);
+        for (ClickLog log : logs) {
+            params.add(log.linkId());
+            params.add(log.campaignId());
+            params.add(log.commissionSnapshotAmount());
+            params.add(log.commissionSnapshotRate());
+            params.add(log.clickToken());
+            params.add(log.ipAddress());
+            params.add(log.userAgent());
+            params.add(log.clickedAt());
+        }
+
+        if (!withSessions) {
+            return jdbcTemplate.update(clickInsert.toString(), params.toArray());
+        }
+
+        StringBuilder sql = new StringBuilder("WITH inserted AS (\n")
+                .append(clickInsert)
+                .append("""
+                        RETURNING id, click_token, clicked_at
+                        )
+                        INSERT INTO attribution_sessions (session_token, click_id, expires_at, created_at)
+                        SELECT i.click_token, i.id, s.expires_at, i.clicked_at
+                        FROM inserted i
+                        JOIN (VALUES
+                        """);
+        appendRows(sql, logs.size(), "(?, CAST(? AS timestamptz))");
+        sql.append(") AS s (session_token, expires_at) ON s.session_token = i.click_token\n");
+
+        for (ClickLog log : logs) {
+            params.add(log.clickToken());
+            params.add(log.expiresAt());
+        }
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+
+    private void appendRows(StringBuilder sql, int count, String row) {
+        for (int i = 0; i < count; i++) {
+            sql.append(i == 0 ? "    " : ",\n    ").append(row);
+        }
+        sql.append('\n');
+    }
+}
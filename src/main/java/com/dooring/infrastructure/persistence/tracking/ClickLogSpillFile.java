@@ -0,0 +1,158 @@
+package com.dooring.infrastructure.persistence.tracking;
+
+import com.dooring.domain.tracking.dto.ClickLog;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * write-behind 큐가 가득 찼거나 DB 반영이 실패한 클릭 로그를 보관하는 파일 (JSON Lines)
+ *
+ * - append: 기록 후 fsync → 프로세스가 죽어도 유실 없음
+ * - replay: 파일을 {path}.replaying 으로 옮긴 뒤 배치 단위로 다시 흘려보냄
+ *           중간에 실패하면 .replaying 파일이 남아 다음 replay에서 이어서 처리
+ *           ((click_token, clicked_at) ON CONFLICT DO NOTHING 이라 중복 반영 없음)
+ */
+@Slf4j
+class ClickLogSpillFile {
+
+    private final Path path;
+    private final Path replayingPath;
+    private final ObjectMapper objectMapper;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private FileChannel channel;
+
+    ClickLogSpillFile(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.replayingPath = path.resolveSibling(path.getFileName() + ".replaying");
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 클릭 로그를 파일 끝에 기록 (fsync까지 완료 후 반환)
+     */
+    void append(List<ClickLog> logs) {
+        StringBuilder lines = new StringBuilder();
+        for (ClickLog clickLog : logs) {
+            try {
+                lines.append(objectMapper.writeValueAsString(clickLog)).append('\n');
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("클릭 로그 직렬화 실패", e);
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+
+        lock.lock();
+        try {
+            FileChannel out = openChannel();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스필 파일 기록 실패: " + path, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 보관 중인 클릭 로그를 batchSize 단위로 sink에 전달
+     * sink가 예외를 던지면 남은 로그는 다음 replay로 미뤄짐
+     *
+     * @return 전달한 로그 수
+     */
+    int replay(int batchSize, Consumer<List<ClickLog>> sink) throws IOException {
+        lock.lock();
+        try {
+            if (!Files.exists(replayingPath)) {
+                if (!Files.exists(path) || Files.size(path) == 0) {
+                    return 0;
+                }
+                closeChannel();
+                Files.move(path, replayingPath, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        int replayed = 0;
+        List<ClickLog> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = Files.newBufferedReader(replayingPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    batch.add(objectMapper.readValue(line, ClickLog.class));
+                } catch (JsonProcessingException e) {
+                    // 기록 도중 프로세스가 죽어 잘린 마지막 줄
+                    log.warn("스필 파일의 손상된 행을 건너뜁니다: {}", line);
+                    continue;
+                }
+                if (batch.size() == batchSize) {
+                    sink.accept(batch);
+                    replayed += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            sink.accept(batch);
+            replayed += batch.size();
+        }
+
+        Files.delete(replayingPath);
+        return replayed;
+    }
+
+    void close() {
+        lock.lock();
+        try {
+            closeChannel();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private FileChannel openChannel() throws IOException {
+        if (channel == null || !channel.isOpen()) {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("스필 파일 닫기 실패: {}", path, e);
+        }
+        channel = null;
+    }
+}
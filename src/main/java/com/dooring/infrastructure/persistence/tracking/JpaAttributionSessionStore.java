@@ -0,0 +1,59 @@
+package com.dooring.infrastructure.persistence.tracking;
+
+import com.dooring.domain.tracking.dto.AttributionSessionRef;
+import com.dooring.domain.tracking.dto.ClickLog;
+import com.dooring.domain.tracking.entity.AttributionSession;
+import com.dooring.domain.tracking.port.AttributionSessionStore;
+import com.dooring.domain.tracking.repository.AttributionSessionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * attribution_sessions 테이블 기반 세션 저장소 (기본값)
+ * 행 INSERT는 ClickLogWriter가 클릭과 함께 처리하므로 saveAll은 할 일이 없음
+ */
+@Component
+@ConditionalOnProperty(name = "dooring.tracking.session-store.type", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaAttributionSessionStore implements AttributionSessionStore {
+
+    private final AttributionSessionRepository attributionSessionRepository;
+
+    @Override
+    public void saveAll(List<ClickLog> clickLogs) {
+        // ClickLogWriter가 clicks와 같은 트랜잭션(또는 같은 SQL)으로 기록
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<AttributionSessionRef> findValid(String sessionToken, LocalDateTime now) {
+        return attributionSessionRepository.findValidSessionByToken(sessionToken, now)
+                .map(session -> new AttributionSessionRef(session.getSessionToken(), session.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, AttributionSessionRef> findAllValid(Collection<String> sessionTokens, LocalDateTime now) {
+        if (sessionTokens.isEmpty()) {
+            return Map.of();
+        }
+        return attributionSessionRepository.findAllValidSessionsByTokens(sessionTokens, now).stream()
+                .collect(Collectors.toMap(
+                        AttributionSession::getSessionToken,
+                        session -> new AttributionSessionRef(session.getSessionToken(), session.getId())));
+    }
+
+    @Override
+    public boolean usesSessionTable() {
+        return true;
+    }
+}
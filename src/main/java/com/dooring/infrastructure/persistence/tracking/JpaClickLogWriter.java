@@ -0,0 +1,60 @@
+package com.dooring.infrastructure.persistence.tracking;
+
+import com.dooring.domain.tracking.dto.ClickLog;
+import com.dooring.domain.tracking.entity.AttributionSession;
+import com.dooring.domain.tracking.entity.Click;
+import com.dooring.domain.tracking.port.AttributionSessionStore;
+import com.dooring.domain.tracking.port.ClickLogWriter;
+import com.dooring.domain.tracking.repository.AttributionSessionRepository;
+import com.dooring.domain.tracking.repository.ClickRepository;
+import com.dooring.domain.tracking.repository.LinkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 클릭 로그 동기 저장 (기본값)
+ * Click + AttributionSession을 한 트랜잭션으로 INSERT 후 반환
+ * attribution_sessions 행은 세션 저장소가 테이블을 쓸 때만 기록
+ */
+@Component
+@ConditionalOnProperty(name = "dooring.tracking.click-write-mode", havingValue = "sync", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaClickLogWriter implements ClickLogWriter {
+
+    private final LinkRepository linkRepository;
+    private final ClickRepository clickRepository;
+    private final AttributionSessionRepository attributionSessionRepository;
+    private final AttributionSessionStore attributionSessionStore;
+
+    @Override
+    @Transactional
+    public void append(ClickLog clickLog) {
+        Click click = Click.builder()
+                .link(linkRepository.getReferenceById(clickLog.linkId())) // SELECT 없이 FK 참조만
+                .campaignId(clickLog.campaignId())
+                .commissionSnapshotAmount(clickLog.commissionSnapshotAmount())
+                .commissionSnapshotRate(clickLog.commissionSnapshotRate())
+                .clickToken(clickLog.clickToken())
+                .ipAddress(clickLog.ipAddress())
+                .userAgent(clickLog.userAgent())
+                .build();
+
+        clickRepository.save(click);
+
+        if (attributionSessionStore.usesSessionTable()) {
+            AttributionSession session = AttributionSession.builder()
+                    .sessionToken(clickLog.clickToken())
+                    .click(click)
+                    .expiresAt(clickLog.expiresAt())
+                    .build();
+
+            attributionSessionRepository.save(session);
+        }
+
+        attributionSessionStore.saveAll(List.of(clickLog));
+    }
+}
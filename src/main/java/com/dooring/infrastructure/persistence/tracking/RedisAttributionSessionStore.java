@@ -0,0 +1,112 @@
+package com.dooring.infrastructure.persistence.tracking;
+
+import com.dooring.domain.tracking.dto.AttributionSessionRef;
+import com.dooring.domain.tracking.dto.ClickLog;
+import com.dooring.domain.tracking.port.AttributionSessionStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis 기반 세션 저장소
+ * key   : attribution:session:{sessionToken}
+ * value : 만료 시각 (epoch ms)
+ * TTL   : expiresAt까지 남은 시간 (PX) — 만료 정리는 Redis가 담당
+ *
+ * - 등록: 배치 단위 파이프라인 SET (write-behind flush 1회 = 왕복 1회)
+ * - 조회: GET 1회 (배치는 MGET 1회)
+ * - audit-table=true 면 ClickLogWriter가 attribution_sessions에도 기록 (정산 대조·감사용)
+ * - 조회 결과에 세션 ID는 없음 → pixel_events.attribution_session_id는 INSERT 시 토큰으로 감사 행을 찾아 채움
+ *   (audit-table=false 이거나 write-behind 감사 행이 아직 안 써졌으면 null, session_token은 항상 저장)
+ */
+@Component
+@ConditionalOnProperty(name = "dooring.tracking.session-store.type", havingValue = "redis")
+public class RedisAttributionSessionStore implements AttributionSessionStore {
+
+    private static final String KEY_PREFIX = "attribution:session:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean auditTable;
+
+    public RedisAttributionSessionStore(
+            StringRedisTemplate redisTemplate,
+            @Value("${dooring.tracking.session-store.audit-table:true}") boolean auditTable) {
+        this.redisTemplate = redisTemplate;
+        this.auditTable = auditTable;
+    }
+
+    @Override
+    public void saveAll(List<ClickLog> clickLogs) {
+        long nowMillis = System.currentTimeMillis();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (ClickLog clickLog : clickLogs) {
+                long expiresAtMillis = toEpochMillis(clickLog.expiresAt());
+                long ttlMillis = expiresAtMillis - nowMillis;
+                if (ttlMillis <= 0) {
+                    continue; // 스필 재처리 등으로 이미 윈도우가 지난 세션
+                }
+                stringConnection.set(
+                        KEY_PREFIX + clickLog.clickToken(),
+                        Long.toString(expiresAtMillis),
+                        Expiration.milliseconds(ttlMillis),
+                        RedisStringCommands.SetOption.upsert());
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<AttributionSessionRef> findValid(String sessionToken, LocalDateTime now) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + sessionToken);
+        if (value == null || Long.parseLong(value) <= toEpochMillis(now)) {
+            return Optional.empty();
+        }
+        return Optional.of(new AttributionSessionRef(sessionToken, null));
+    }
+
+    @Override
+    public Map<String, AttributionSessionRef> findAllValid(Collection<String> sessionTokens, LocalDateTime now) {
+        if (sessionTokens.isEmpty()) {
+            return Map.of();
+        }
+        List<String> tokens = List.copyOf(sessionTokens);
+        List<String> values = redisTemplate.opsForValue().multiGet(
+                tokens.stream().map(token -> KEY_PREFIX + token).toList());
+        if (values == null) {
+            return Map.of();
+        }
+
+        long nowMillis = toEpochMillis(now);
+        Map<String, AttributionSessionRef> valid = new HashMap<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            String value = values.get(i);
+            if (value != null && Long.parseLong(value) > nowMillis) {
+                valid.put(tokens.get(i), new AttributionSessionRef(tokens.get(i), null));
+            }
+        }
+        return valid;
+    }
+
+    @Override
+    public boolean usesSessionTable() {
+        return auditTable;
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,28 @@
+package com.dooring.infrastructure.persistence.tracking;
+
+import com.dooring.domain.tracking.port.ShortCodeSequence;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * ShortCodeSequence 구현체 — short_code_seq (INCREMENT BY 1000)
+ *
+ * nextval은 트랜잭션과 무관하게 즉시 확정 → 발급 트랜잭션이 롤백돼도 다른 인스턴스와 겹치지 않음
+ * (롤백된 번호는 버려짐, 번호 공간은 충분)
+ */
+@Component
+@RequiredArgsConstructor
+public class ShortCodeSequenceJdbcAdapter implements ShortCodeSequence {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long reserveBlock() {
+        Long start = jdbcTemplate.queryForObject("SELECT nextval('short_code_seq')", Long.class);
+        if (start == null) {
+            throw new IllegalStateException("short_code_seq nextval returned null");
+        }
+        return start;
+    }
+}
@@ -0,0 +1,241 @@
+package com.dooring.infrastructure.persistence.tracking;
+
+import com.dooring.domain.tracking.dto.ClickLog;
+import com.dooring.domain.tracking.port.AttributionSessionStore;
+import com.dooring.domain.tracking.port.ClickLogWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클릭 로그 write-behind 저장소
+ *
+ * 흐름:
+ * 1. append   : 요청 스레드는 큐에 넣고 즉시 반환 (리다이렉트 응답이 DB 커밋을 기다리지 않음)
+ * 2. flusher  : 단일 스레드가 큐를 batch-size 단위로 비워 세션 저장소 등록 + ClickLogJdbcWriter 멀티로우 INSERT
+ * 3. 백프레셔 : 큐가 가득 차면 offer-timeout 만큼 대기, 그래도 자리가 없으면 스필 파일에 fsync 후 반환
+ * 4. 장애     : 세션 등록·DB 반영 실패 배치도 스필 파일로 → replay-interval 마다 재처리 (둘 다 멱등)
+ *
+ * 종료 시 웹 서버가 먼저 멈춘 뒤(phase) 큐에 남은 로그를 모두 반영하고 내려감
+ * flusher 스레드는 spring.threads.virtual.enabled 를 따름 (가상 스레드 모드면 JDBC 대기 중 캐리어 반납)
+ *
+ * 메트릭: dooring.click.write_behind.queue (큐 적재량), dooring.click.write_behind.spilled (스필 건수),
+ *        dooring.click.write_behind.flush (배치 반영, outcome = ok | spilled)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "dooring.tracking.click-write-mode", havingValue = "write-behind")
+public class WriteBehindClickLogWriter implements ClickLogWriter, SmartLifecycle {
+
+    /** 웹 서버(DEFAULT_PHASE - 2048)보다 먼저 시작하고 나중에 종료 */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final ClickLogJdbcWriter jdbcWriter;
+    private final AttributionSessionStore attributionSessionStore;
+    private final ClickLogSpillFile spillFile;
+    private final BlockingQueue<ClickLog> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration offerTimeout;
+    private final Duration replayInterval;
+    private final Duration shutdownTimeout;
+    private final boolean virtualThreads;
+    private final MeterRegistry meterRegistry;
+    private final Counter spilledCounter;
+    private final Timer flushOkTimer;
+    private final Timer flushSpilledTimer;
+
+    private volatile boolean running;
+    private Thread flusher;
+    private long nextReplayAt;
+
+    public WriteBehindClickLogWriter(
+            ClickLogJdbcWriter jdbcWriter,
+            AttributionSessionStore attributionSessionStore,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${dooring.tracking.write-behind.queue-capacity:50000}") int queueCapacity,
+            @Value("${dooring.tracking.write-behind.batch-size:500}") int batchSize,
+            @Value("${dooring.tracking.write-behind.flush-interval:50ms}") Duration flushInterval,
+            @Value("${dooring.tracking.write-behind.offer-timeout:5ms}") Duration offerTimeout,
+            @Value("${dooring.tracking.write-behind.spill-path:./data/click-spill.jsonl}") Path spillPath,
+            @Value("${dooring.tracking.write-behind.replay-interval:30s}") Duration replayInterval,
+            @Value("${dooring.tracking.write-behind.shutdown-timeout:30s}") Duration shutdownTimeout,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.jdbcWriter = jdbcWriter;
+        this.attributionSessionStore = attributionSessionStore;
+        this.spillFile = new ClickLogSpillFile(spillPath, objectMapper);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.offerTimeout = offerTimeout;
+        this.replayInterval = replayInterval;
+        this.shutdownTimeout = shutdownTimeout;
+        this.virtualThreads = virtualThreads;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("dooring.click.write_behind.queue", queue, BlockingQueue::size)
+                .description("click logs waiting for flush")
+                .register(meterRegistry);
+        this.spilledCounter = Counter.builder("dooring.click.write_behind.spilled")
+                .description("click logs written to the spill file")
+                .register(meterRegistry);
+        this.flushOkTimer = flushTimer(meterRegistry, "ok");
+        this.flushSpilledTimer = flushTimer(meterRegistry, "spilled");
+    }
+
+    private static Timer flushTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("dooring.click.write_behind.flush")
+                .description("write-behind batch flush (session store + multi-row insert)")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    // ----------------------------------------------------------------
+    // ClickLogWriter
+    // ----------------------------------------------------------------
+
+    @Override
+    public void append(ClickLog clickLog) {
+        if (running && queue.offer(clickLog)) {
+            return;
+        }
+        if (running) {
+            try {
+                if (queue.offer(clickLog, offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 큐 포화 또는 종료 중 → 디스크에 남기고 반환 (replay에서 반영)
+        spillFile.append(List.of(clickLog));
+        spilledCounter.increment();
+    }
+
+    // ----------------------------------------------------------------
+    // SmartLifecycle
+    // ----------------------------------------------------------------
+
+    @Override
+    public void start() {
+        running = true;
+        nextReplayAt = 0L; // 기동 직후 이전 프로세스가 남긴 스필 파일부터 처리
+        Thread.Builder builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon(true);
+        flusher = builder
+                .name("click-write-behind")
+                .start(this::runFlushLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            flusher.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (flusher.isAlive()) {
+            log.warn("클릭 로그 flush가 {} 안에 끝나지 않았습니다. 남은 로그는 스필 파일로 넘깁니다.", shutdownTimeout);
+        }
+        List<ClickLog> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            spillFile.append(remaining);
+            spilledCounter.increment(remaining.size());
+        }
+        spillFile.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    // ----------------------------------------------------------------
+    // flusher
+    // ----------------------------------------------------------------
+
+    private void runFlushLoop() {
+        List<ClickLog> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ClickLog first = queue.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    flush(batch);
+                    batch.clear();
+                } else if (running) {
+                    replaySpillIfDue();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("클릭 로그 flush 루프 오류", e);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<ClickLog> batch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Timer timer = flushOkTimer;
+        try {
+            write(batch);
+        } catch (RuntimeException e) {
+            timer = flushSpilledTimer;
+            log.warn("클릭 로그 {}건 반영 실패 — 스필 파일로 보관합니다.", batch.size(), e);
+            spillFile.append(batch);
+            spilledCounter.increment(batch.size());
+            nextReplayAt = System.currentTimeMillis() + replayInterval.toMillis();
+        } finally {
+            sample.stop(timer);
+        }
+    }
+
+    /** 세션 저장소 등록 → DB 반영 (세션을 먼저 올려 픽셀이 바로 찾을 수 있게) */
+    private void write(List<ClickLog> batch) {
+        attributionSessionStore.saveAll(batch);
+        jdbcWriter.insertAll(batch, attributionSessionStore.usesSessionTable());
+    }
+
+    /** 큐가 한가할 때만 스필 파일 재처리 (실시간 클릭보다 우선하지 않음) */
+    private void replaySpillIfDue() {
+        long now = System.currentTimeMillis();
+        if (now < nextReplayAt) {
+            return;
+        }
+        nextReplayAt = now + replayInterval.toMillis();
+        try {
+            int replayed = spillFile.replay(batchSize, this::write);
+            if (replayed > 0) {
+                log.info("스필 파일에서 클릭 로그 {}건을 반영했습니다.", replayed);
+            }
+        } catch (Exception e) {
+            log.warn("스필 파일 재처리 실패 — {} 후 재시도합니다.", replayInterval, e);
+        }
+    }
+}
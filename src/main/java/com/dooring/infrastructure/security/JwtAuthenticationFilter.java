@@ -13,13 +13,14 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * JWT 인증 필터 — 요청마다 1회 실행
  *
  * 처리 흐름:
  * 1. Authorization: Bearer {AT} 헤더 추출
- * 2. AT 서명 검증 + 만료 확인
+ * 2. AT 서명 검증 + 만료 확인 (1회 파싱, 검증된 토큰은 exp까지 캐시)
  * 3. Claims에서 userId, type(seller|creator), status 파싱
  * 4. type에 따라 SellerPrincipal / CreatorPrincipal 생성
  * 5. status == ACTIVE 인 경우에만 SecurityContext에 Authentication 설정
@@ -41,8 +42,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = extractToken(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.isTokenValid(token)) {
-            Claims claims = jwtTokenProvider.parseToken(token);
+        Optional<Claims> claimsOpt = StringUtils.hasText(token)
+                ? jwtTokenProvider.verifyAccessToken(token)
+                : Optional.empty();
+
+        if (claimsOpt.isPresent()) {
+            Claims claims = claimsOpt.get();
 
             Long userId     = Long.parseLong(claims.getSubject());
             String type     = claims.get("type", String.class);
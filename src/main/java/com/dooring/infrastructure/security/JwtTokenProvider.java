@@ -1,35 +1,63 @@
 package com.dooring.infrastructure.security;
 
+import com.dooring.common.util.Sha256;
 import com.dooring.domain.identity.entity.UserStatus;
 import com.dooring.domain.identity.entity.UserType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 액세스 토큰 / 리프레시 토큰 생성 및 검증
  *
  * AT payload: sub(userId), type(seller|creator), status(active|...), iat, exp
  * RT payload: sub(userId), type(seller|creator), family(tokenFamily UUID), iat, exp
+ *
+ * 서명 키·파서는 기동 시 1회 생성해 재사용 (JwtParser는 불변·스레드 안전)
+ * AT 검증 결과는 토큰 SHA-256 → Claims 로컬 캐시에 보관, 토큰 exp 시각에 제거
+ * → 대시보드 폴링처럼 같은 AT로 반복 요청하면 서명 검증은 토큰당 1회
  */
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String secret;
-
-    @Value("${jwt.access-token-expiration}")
-    private long accessTokenExpirationMs;
-
-    @Value("${jwt.refresh-token-expiration}")
-    private long refreshTokenExpirationMs;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long accessTokenExpirationMs;
+    private final long refreshTokenExpirationMs;
+    private final Cache<String, Claims> verifiedClaims;
+
+    public JwtTokenProvider(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.access-token-expiration}") long accessTokenExpirationMs,
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpirationMs,
+            @Value("${jwt.claims-cache.max-size:50000}") long claimsCacheMaxSize,
+            MeterRegistry meterRegistry) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.accessTokenExpirationMs = accessTokenExpirationMs;
+        this.refreshTokenExpirationMs = refreshTokenExpirationMs;
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new ExpireAtTokenExp())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaims, "jwtClaims");
+    }
 
     // ----------------------------------------------------------------
     // 토큰 생성
@@ -43,7 +71,7 @@ public class JwtTokenProvider {
                 .claim("status", status.name().toLowerCase())
                 .issuedAt(now)
                 .expiration(new Date(now.getTime() + accessTokenExpirationMs))
-                .signWith(signingKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -55,7 +83,7 @@ public class JwtTokenProvider {
                 .claim("family", tokenFamily)
                 .issuedAt(now)
                 .expiration(new Date(now.getTime() + refreshTokenExpirationMs))
-                .signWith(signingKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -68,25 +96,28 @@ public class JwtTokenProvider {
      * 유효하지 않으면 JwtException 던짐 — 호출부에서 처리.
      */
     public Claims parseToken(String token) {
-        return Jwts.parser()
-                .verifyWith(signingKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /**
-     * 토큰이 유효한지 boolean 반환 (필터에서 사용).
+     * AT 검증 (필터에서 사용) — 요청당 파싱 최대 1회, 캐시 적중 시 0회.
+     * 유효하지 않은 토큰은 캐시하지 않음 (무작위 토큰으로 캐시를 밀어내는 것 방지).
      */
-    public boolean isTokenValid(String token) {
+    public Optional<Claims> verifyAccessToken(String token) {
         try {
-            parseToken(token);
-            return true;
+            return Optional.of(verifiedClaims.get(Sha256.hex(token), key -> parseToken(token)));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
+    /**
+     * 토큰이 유효한지 boolean 반환.
+     */
+    public boolean isTokenValid(String token) {
+        return verifyAccessToken(token).isPresent();
+    }
+
     // ----------------------------------------------------------------
     // Getter (서비스 레이어에서 TTL 계산용)
     // ----------------------------------------------------------------
@@ -103,7 +134,27 @@ public class JwtTokenProvider {
     // 내부 유틸
     // ----------------------------------------------------------------
 
-    private SecretKey signingKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    /** 캐시 항목 수명 = 토큰 exp까지 남은 시간 (읽기·갱신으로 연장하지 않음) */
+    private static class ExpireAtTokenExp implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0L;
+            }
+            long remainingMs = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0L));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,88 @@
+package com.dooring.infrastructure.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경로별 요청 제한 필터 (IP 기반, 토큰 버킷)
+ * - 규칙: dooring.rate-limit.rules (로그인 브루트포스, 리다이렉트·픽셀 남용 방어)
+ * - 판정: RedisRateLimiter (Lua 스크립트 1회, 로컬 차단 캐시)
+ * - 초과 시 429 + Retry-After (초)
+ * - 클라이언트 IP는 request.getRemoteAddr() — server.forward-headers-strategy=native 이면 Tomcat RemoteIpValve가
+ *   신뢰 프록시(internal-proxies / trusted-proxies)를 오른쪽부터 건너뛴 X-Forwarded-For 주소로 바꿔 둠
+ *   (헤더 첫 값은 클라이언트가 임의로 넣을 수 있어 직접 읽지 않음)
+ * - 메트릭: dooring.rate_limit (rule, outcome = allowed | blocked | blocked_local | fail_open)
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimitProperties properties;
+    private final RedisRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    /** rule → outcome → 타이머 (규칙·결과 종류가 고정 → 처음 나올 때 1회 등록 후 재사용) */
+    private final Map<String, Map<RedisRateLimiter.Outcome, Timer>> timers = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RateLimitProperties.Rule rule = properties.enabled() ? findRule(request.getRequestURI()) : null;
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        RedisRateLimiter.Decision decision = rateLimiter.tryAcquire(rule, request.getRemoteAddr());
+        sample.stop(timer(rule.name(), decision.outcome()));
+
+        if (decision.outcome().isBlocked()) {
+            response.setStatus(429);
+            response.setHeader(HttpHeaders.RETRY_AFTER,
+                    String.valueOf(Math.max(1, (decision.retryAfterMillis() + 999) / 1000)));
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().write(
+                    "{\"success\":false,\"data\":null,\"message\":\"잠시 후 다시 시도해주세요\"}");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private Timer timer(String ruleName, RedisRateLimiter.Outcome outcome) {
+        return timers.computeIfAbsent(ruleName, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(outcome, o -> Timer.builder("dooring.rate_limit")
+                        .description("rate limit check (local block cache + Redis)")
+                        .tag("rule", ruleName)
+                        .tag("outcome", o.name().toLowerCase(Locale.ROOT))
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+    }
+
+    private RateLimitProperties.Rule findRule(String uri) {
+        for (RateLimitProperties.Rule rule : properties.rules()) {
+            for (String pattern : rule.paths()) {
+                if (PATH_MATCHER.match(pattern, uri)) {
+                    return rule;
+                }
+            }
+        }
+        return null;
+    }
+}
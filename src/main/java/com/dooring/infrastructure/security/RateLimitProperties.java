@@ -0,0 +1,33 @@
+package com.dooring.infrastructure.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 경로별 요청 제한 설정 (dooring.rate-limit)
+ *
+ * @param enabled           false면 모든 규칙 비활성
+ * @param nearCacheMaxSize  로컬 차단 캐시 최대 키 수 (규칙 + IP)
+ * @param rules             위에서부터 처음 일치하는 규칙 1개만 적용
+ */
+@ConfigurationProperties("dooring.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") long nearCacheMaxSize,
+        @DefaultValue List<Rule> rules
+) {
+
+    /**
+     * 토큰 버킷 규칙 — window 동안 capacity회 (버킷이 비면 window / capacity 마다 1회 회복)
+     *
+     * @param name     메트릭 태그·Redis 키에 쓰는 이름
+     * @param paths    Ant 패턴 (예: /r/**)
+     * @param capacity 버킷 크기 (연속 허용 요청 수)
+     * @param window   빈 버킷이 가득 차는 시간
+     */
+    public record Rule(String name, List<String> paths, int capacity, Duration window) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.dooring.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 토큰 버킷 요청 제한기
+ *
+ * - 판정 1회 = Lua 스크립트 1회 (조회·차감·TTL 설정이 원자적, 왕복 1회)
+ * - 시각은 Redis TIME 기준 → 인스턴스 간 시계 차이 영향 없음
+ * - 로컬 차단 캐시: Redis가 거절하면 retryAfter 동안 같은 키는 Redis 없이 바로 거절
+ *   (버킷은 retryAfter 전에 1개도 회복되지 않으므로 판정 결과가 같음)
+ * - Redis 오류 시 통과 (fail open)
+ * - 키: ratelimit:{rule}:{client}
+ */
+@Component
+public class RedisRateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    /**
+     * KEYS[1] = 버킷 키, ARGV[1] = capacity, ARGV[2] = window(ms)
+     * 반환: {허용 여부(1/0), 재시도까지 남은 ms}
+     */
+    private static final RedisScript<List> TOKEN_BUCKET = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1])
+            local ts = tonumber(bucket[2])
+            if tokens == nil or ts == nil then
+                tokens = capacity
+            else
+                tokens = math.min(capacity, tokens + math.max(0, now - ts) * capacity / window)
+            end
+
+            local allowed = 0
+            local retry_after = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            else
+                retry_after = math.ceil((1 - tokens) * window / capacity)
+            end
+
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], window)
+            return {allowed, retry_after}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    /** 버킷 키 → 로컬 차단 해제 시각 (epoch ms) */
+    private final Cache<String, Long> blockedUntil;
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate, RateLimitProperties properties) {
+        this.redisTemplate = redisTemplate;
+        Duration longestWindow = properties.rules().stream()
+                .map(RateLimitProperties.Rule::window)
+                .max(Duration::compareTo)
+                .orElse(Duration.ofMinutes(1));
+        this.blockedUntil = Caffeine.newBuilder()
+                .maximumSize(properties.nearCacheMaxSize())
+                .expireAfterWrite(longestWindow)
+                .build();
+    }
+
+    /**
+     * 요청 1회 허용 여부 판정
+     */
+    public Decision tryAcquire(RateLimitProperties.Rule rule, String client) {
+        String key = KEY_PREFIX + rule.name() + ":" + client;
+        long now = System.currentTimeMillis();
+
+        Long until = blockedUntil.getIfPresent(key);
+        if (until != null && until > now) {
+            return new Decision(Outcome.BLOCKED_LOCAL, until - now);
+        }
+
+        List<?> result;
+        try {
+            result = redisTemplate.execute(TOKEN_BUCKET, List.of(key),
+                    String.valueOf(rule.capacity()), String.valueOf(rule.window().toMillis()));
+        } catch (DataAccessException e) {
+            return new Decision(Outcome.FAIL_OPEN, 0);
+        }
+        if (result == null || result.size() < 2) {
+            return new Decision(Outcome.FAIL_OPEN, 0);
+        }
+
+        if (((Number) result.get(0)).longValue() == 1L) {
+            return new Decision(Outcome.ALLOWED, 0);
+        }
+        long retryAfterMillis = ((Number) result.get(1)).longValue();
+        blockedUntil.put(key, now + retryAfterMillis);
+        return new Decision(Outcome.BLOCKED, retryAfterMillis);
+    }
+
+    public enum Outcome {
+        ALLOWED, BLOCKED, BLOCKED_LOCAL, FAIL_OPEN;
+
+        public boolean isBlocked() {
+            return this == BLOCKED || this == BLOCKED_LOCAL;
+        }
+    }
+
+    public record Decision(Outcome outcome, long retryAfterMillis) {
+    }
+}
@@ -1,15 +1,17 @@
 package com.dooring.infrastructure.security;
 
-import com.dooring.common.exception.BusinessException;
-import com.dooring.common.exception.ErrorCode;
+import com.dooring.common.util.Sha256;
 import com.dooring.domain.identity.entity.UserType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -17,18 +19,45 @@ import java.util.concurrent.TimeUnit;
  * key   : refresh:{userType}:{userId}   (e.g. refresh:seller:42)
  * value : {tokenFamily}:{sha256(refreshToken)}
  * RT Rotation 정책:
- *   - 갱신마다 새 tokenFamily + 새 RT 발급 → save() 재호출
+ *   - 갱신마다 새 tokenFamily + 새 RT 발급 → rotate()로 비교·교체 (Redis 왕복 1회)
  *   - tokenFamily 또는 RT 해시 불일치 → 탈취 간주 → 키 삭제(강제 로그아웃)
+ * 메트릭: dooring.auth.refresh_token (operation = save | rotate | delete, outcome = ok | not_found | stolen)
  */
 @Component
 public class RefreshTokenStore {
 
     private static final String KEY_PREFIX = "refresh:";
 
+    /**
+     * KEYS[1] = RT 키, ARGV[1] = 제시된 값, ARGV[2] = 새 값, ARGV[3] = 만료(ms)
+     * 반환: Rotation ordinal (0 = MISSING, 1 = STOLEN, 2 = ROTATED)
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local stored = redis.call('GET', KEYS[1])
+            if not stored then
+                return 0
+            end
+            if stored ~= ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                return 1
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 2
+            """, Long.class);
+
+    /** rotate 결과 (순서 = 스크립트 반환값) */
+    public enum Rotation {
+        MISSING, STOLEN, ROTATED
+    }
+
     private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    /** "operation:outcome" → 타이머 (조합이 고정 → 처음 나올 때 1회 등록 후 재사용) */
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
 
-    public RefreshTokenStore(StringRedisTemplate redisTemplate) {
+    public RefreshTokenStore(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
         this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
     }
 
     // ----------------------------------------------------------------
@@ -41,58 +70,62 @@ public class RefreshTokenStore {
      */
     public void save(UserType userType, Long userId,
                      String tokenFamily, String refreshToken, long expirationMs) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         String key   = buildKey(userType, userId);
-        String value = tokenFamily + ":" + sha256(refreshToken);
+        String value = tokenFamily + ":" + Sha256.hex(refreshToken);
         redisTemplate.opsForValue().set(key, value, expirationMs, TimeUnit.MILLISECONDS);
+        record(sample, "save", "ok");
     }
 
     /**
-     * RT 검증 — 토큰 갱신 요청 시 호출.
-     * 1) 키 없음          → 만료 또는 로그아웃  → REFRESH_TOKEN_NOT_FOUND
-     * 2) tokenFamily 불일치 → 탈취 감지         → 키 삭제 후 REFRESH_TOKEN_STOLEN
-     * 3) RT 해시 불일치    → 이미 사용된 RT      → 키 삭제 후 REFRESH_TOKEN_STOLEN
+     * RT 비교 후 교체 — 토큰 갱신 요청 시 호출 (Lua 스크립트 1회, 원자적).
+     * 1) 키 없음                     → 만료 또는 로그아웃 → MISSING
+     * 2) tokenFamily 또는 RT 해시 불일치 → 탈취 또는 재사용   → 키 삭제 후 STOLEN
+     * 3) 일치                        → 새 tokenFamily + 새 RT 해시로 교체 → ROTATED
+     * 같은 RT로 동시에 갱신하면 하나만 ROTATED, 나머지는 STOLEN (재사용 감지)
      */
-    public void validate(UserType userType, Long userId,
-                         String tokenFamily, String refreshToken) {
-        String key    = buildKey(userType, userId);
-        String stored = redisTemplate.opsForValue().get(key);
-
-        if (stored == null) {
-            throw new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
-        }
-
-        String[] parts       = stored.split(":", 2);
-        String storedFamily  = parts[0];
-        String storedHash    = parts[1];
-
-        if (!storedFamily.equals(tokenFamily) || !storedHash.equals(sha256(refreshToken))) {
-            redisTemplate.delete(key);   // 강제 로그아웃
-            throw new BusinessException(ErrorCode.REFRESH_TOKEN_STOLEN);
-        }
+    public Rotation rotate(UserType userType, Long userId,
+                           String tokenFamily, String refreshToken,
+                           String newTokenFamily, String newRefreshToken, long expirationMs) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Long code = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(buildKey(userType, userId)),
+                tokenFamily + ":" + Sha256.hex(refreshToken),
+                newTokenFamily + ":" + Sha256.hex(newRefreshToken),
+                String.valueOf(expirationMs));
+
+        Rotation rotation = code == null ? Rotation.MISSING : Rotation.values()[code.intValue()];
+        record(sample, "rotate", switch (rotation) {
+            case ROTATED -> "ok";
+            case STOLEN -> "stolen";
+            case MISSING -> "not_found";
+        });
+        return rotation;
     }
 
     /**
      * RT 삭제 — 로그아웃 시 호출.
      */
     public void delete(UserType userType, Long userId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         redisTemplate.delete(buildKey(userType, userId));
+        record(sample, "delete", "ok");
     }
 
     // ----------------------------------------------------------------
     // 내부 유틸
     // ----------------------------------------------------------------
 
-    private String buildKey(UserType userType, Long userId) {
-        return KEY_PREFIX + userType.name().toLowerCase() + ":" + userId;
+    private void record(Timer.Sample sample, String operation, String outcome) {
+        sample.stop(timers.computeIfAbsent(operation + ":" + outcome, key -> Timer.builder("dooring.auth.refresh_token")
+                .description("refresh token store round trip (Redis)")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)));
     }
 
-    private String sha256(String input) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-            return HexFormat.of().formatHex(hash);
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException("SHA-256 not available", e);
-        }
+    private String buildKey(UserType userType, Long userId) {
+        return KEY_PREFIX + userType.name().toLowerCase() + ":" + userId;
     }
 }
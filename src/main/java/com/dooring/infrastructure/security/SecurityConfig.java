@@ -1,8 +1,13 @@
 package com.dooring.infrastructure.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -13,7 +18,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -22,15 +27,25 @@ import java.util.List;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final StringRedisTemplate stringRedisTemplate;
+    private final RateLimitProperties rateLimitProperties;
+    private final RedisRateLimiter redisRateLimiter;
+    private final MeterRegistry meterRegistry;
 
     @Value("${dooring.cors.allowed-origins}")
     private List<String> allowedOrigins;
 
+    /** 내부망 전용 관리 포트 (management.server.port) — 이 포트로 들어온 Actuator 요청만 허용 */
+    @Value("${management.server.port:${server.port:8080}}")
+    private int managementPort;
+
+    @Value("${server.port:8080}")
+    private int serverPort;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -39,10 +54,16 @@ public class SecurityConfig {
                 .sessionManagement(s ->
                         s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 스트리밍 응답(리포트 내보내기) 완료 후 ASYNC 재디스패치 — 최초 요청에서 이미 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/r/**").permitAll()
-                        .requestMatchers("/api/tracking/pixel").permitAll()
-                        .requestMatchers("/actuator/**").permitAll()
+                        .requestMatchers("/api/tracking/pixel", "/api/tracking/pixel/batch").permitAll()
+                        .requestMatchers("/api/webhooks/**").permitAll()
+                        // Actuator: health는 프로브용으로 공개, 나머지(metrics·prometheus 등)는 분리된 관리 포트로 온 요청만
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .requestMatchers(onManagementPort(EndpointRequest.toAnyEndpoint())).permitAll()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).denyAll()
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling(ex -> ex
@@ -60,7 +81,7 @@ public class SecurityConfig {
                         })
                 )
                 .addFilterBefore(
-                        new LoginRateLimitFilter(stringRedisTemplate),
+                        new RateLimitFilter(rateLimitProperties, redisRateLimiter, meterRegistry),
                         UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(
                         new JwtAuthenticationFilter(jwtTokenProvider),
@@ -69,6 +90,13 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /** 관리 포트가 서비스 포트와 같으면(분리 안 함) 항상 불일치 → 공개 포트에서 메트릭이 노출되지 않음 */
+    private RequestMatcher onManagementPort(RequestMatcher matcher) {
+        return request -> managementPort != serverPort
+                && request.getLocalPort() == managementPort
+                && matcher.matches(request);
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration config = new CorsConfiguration();
@@ -0,0 +1,9 @@
+-- V10: Attribution 키셋 페이지 / 스트리밍 조회용 인덱스 (id 내림차순)
+-- - attributions (campaign_id, id)                : 캠페인별
+-- - commission_ledgers (creator_id, attribution_id) : 크리에이터별
+-- - commission_ledgers (seller_id, attribution_id)  : 셀러별
+-- attributions.id 순서 = 귀속 시각 순서 (attributed_at은 생성 시각) → 정렬 없이 인덱스 범위 스캔
+
+CREATE INDEX attributions_campaign_id_idx ON attributions (campaign_id, id);
+CREATE INDEX commission_ledgers_creator_attribution_idx ON commission_ledgers (creator_id, attribution_id);
+CREATE INDEX commission_ledgers_seller_attribution_idx ON commission_ledgers (seller_id, attribution_id);
@@ -0,0 +1,5 @@
+-- V11: attributions.click_id 인덱스
+-- 클릭 단위 리포트 내보내기(clicks LEFT JOIN attributions)와 findByClickId 조회용
+-- (V1은 FK만 있고 인덱스가 없어 전환 여부 확인마다 attributions 전체를 읽었음)
+
+CREATE INDEX attributions_click_id_idx ON attributions (click_id);
@@ -0,0 +1,5 @@
+-- V12: 내 링크 목록 키셋 페이지용 인덱스
+-- (creator_id, id) : 크리에이터의 링크를 id 순/역순으로 범위 스캔 — OFFSET 없이 어느 페이지든 LIMIT N
+-- 기존 UNIQUE (creator_id, product_id)는 id 정렬에 쓸 수 없음
+
+CREATE INDEX links_creator_id_idx ON links (creator_id, id);
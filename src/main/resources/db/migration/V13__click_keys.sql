@@ -0,0 +1,70 @@
+-- V13: click_keys — 파티션 밖 클릭 키 테이블 (V6에서 잃은 전역 UNIQUE·참조 무결성 복구)
+--
+-- clicks는 월 파티션이라 PK / UNIQUE에 clicked_at이 들어가고, clicks(id)를 FK로 참조할 수 없음
+-- → 픽셀 주문 키(pixel_order_keys)처럼 파티션 밖 키 테이블을 두고 트리거로 clicks와 맞춤
+-- - click_keys.id          : clicks.id 전역 PK — attributions / attribution_sessions FK 대상
+-- - click_keys.click_token : 전역 UNIQUE (월이 달라도 같은 토큰 불가)
+-- - clicks INSERT / DELETE 시 문장 단위 트리거로 함께 반영 (ON CONFLICT로 건너뛴 행은 전이 테이블에 없음)
+-- - 파티션 DROP/DETACH는 트리거가 돌지 않음 → MonthlyPartitionManager가 해당 월 키를 먼저 삭제
+--   (attributions가 참조하면 ON DELETE RESTRICT로 막힘 → 파티션 제거 보류)
+--
+-- FK 동작은 V1과 같음: attribution_sessions CASCADE, attributions RESTRICT
+-- attribution_sessions FK는 DEFERRABLE INITIALLY DEFERRED
+--   (write-behind 배치는 clicks INSERT + 세션 INSERT가 한 문장 → 키는 clicks 문장 트리거에서 생기므로 커밋 시 확인)
+
+CREATE TABLE click_keys (
+    id          BIGINT PRIMARY KEY,
+    click_token TEXT NOT NULL,
+    clicked_at  TIMESTAMPTZ NOT NULL,
+    CONSTRAINT click_keys_token_uniq UNIQUE (click_token)
+);
+
+CREATE INDEX click_keys_clicked_at_idx ON click_keys (clicked_at);
+
+INSERT INTO click_keys (id, click_token, clicked_at)
+SELECT id, click_token, clicked_at
+FROM clicks;
+
+CREATE OR REPLACE FUNCTION click_keys_on_clicks()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO click_keys (id, click_token, clicked_at)
+        SELECT id, click_token, clicked_at
+        FROM new_rows;
+    ELSE
+        DELETE FROM click_keys k
+        USING old_rows o
+        WHERE k.id = o.id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_clicks_keys_insert
+    AFTER INSERT ON clicks
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION click_keys_on_clicks();
+
+CREATE TRIGGER trg_clicks_keys_delete
+    AFTER DELETE ON clicks
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION click_keys_on_clicks();
+
+-- 기존 행 검증은 NOT VALID → VALIDATE로 나눠 쓰기 잠금 시간을 줄임 (고아 행이 있으면 여기서 실패)
+ALTER TABLE attribution_sessions
+    ADD CONSTRAINT attribution_sessions_click_id_fkey
+    FOREIGN KEY (click_id) REFERENCES click_keys (id) ON DELETE CASCADE
+    DEFERRABLE INITIALLY DEFERRED NOT VALID;
+ALTER TABLE attribution_sessions VALIDATE CONSTRAINT attribution_sessions_click_id_fkey;
+
+ALTER TABLE attributions
+    ADD CONSTRAINT attributions_click_id_fkey
+    FOREIGN KEY (click_id) REFERENCES click_keys (id) ON DELETE RESTRICT NOT VALID;
+ALTER TABLE attributions VALIDATE CONSTRAINT attributions_click_id_fkey;
+
+-- click_keys 삭제 시 CASCADE 대상 조회
+CREATE INDEX attribution_sessions_click_id_idx ON attribution_sessions (click_id);
+
+-- 보존 기간이 지난 픽셀 주문 키 정리 (MonthlyPartitionManager, pixel_events 보존 기간과 같은 기준)
+CREATE INDEX pixel_order_keys_created_at_idx ON pixel_order_keys (created_at);
@@ -0,0 +1,26 @@
+-- V15: archived_clicks — 보존 기간이 지난 clicks 파티션에서 아직 참조되는 클릭만 옮겨 두는 테이블
+--
+-- 파티션을 제거하기 전에 MonthlyPartitionManager가 그 달의 클릭 중
+--   - 어트리뷰션이 참조하는 클릭 (attributions.click_id)
+--   - 픽셀이 참조하는 세션의 클릭 (pixel_events.attribution_session_id → attribution_sessions.click_id)
+-- 을 여기로 복사하고, 나머지 클릭의 click_keys만 삭제한 뒤 파티션을 DROP/DETACH
+-- → 참조된 클릭의 click_keys 행과 FK(attributions RESTRICT, attribution_sessions CASCADE)는 그대로 유지,
+--   환불·분쟁 대응에 필요한 원본 클릭(링크·캠페인·커미션 스냅샷·시각)은 이 테이블에서 조회
+--
+-- 전환된 클릭은 전체 클릭의 일부라 파티션 1개보다 훨씬 작음 (파티셔닝 없이 PK 하나로 충분)
+-- 트리거 없음: 롤업(link_daily_stats)과 click_keys는 원래 clicks INSERT 때 이미 반영됨
+
+CREATE TABLE archived_clicks (
+    id                         BIGINT PRIMARY KEY REFERENCES click_keys (id) ON DELETE CASCADE,
+    link_id                    BIGINT NOT NULL REFERENCES links (id) ON DELETE CASCADE,
+    campaign_id                BIGINT REFERENCES campaigns (id),
+    commission_snapshot_amount NUMERIC(18, 2),
+    commission_snapshot_rate   NUMERIC(5, 4),
+    click_token                TEXT NOT NULL,
+    ip_address                 TEXT,
+    user_agent                 TEXT,
+    clicked_at                 TIMESTAMPTZ NOT NULL,
+    archived_at                TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX archived_clicks_link_clicked_at_idx ON archived_clicks (link_id, clicked_at);
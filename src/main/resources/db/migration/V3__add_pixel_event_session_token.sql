@@ -0,0 +1,8 @@
+-- V3: pixel_events.session_token 추가
+-- Redis 세션 저장소는 attribution_sessions 행 없이 토큰만으로 세션을 확인하므로
+-- 픽셀 이벤트에 확인된 세션 토큰(= clicks.click_token)을 함께 남긴다
+
+ALTER TABLE pixel_events ADD COLUMN session_token TEXT;
+
+CREATE INDEX pixel_events_session_token_idx ON pixel_events (session_token)
+    WHERE session_token IS NOT NULL;
@@ -0,0 +1,247 @@
+-- ============================================================
+-- V4: 대시보드 롤업 테이블 (링크 × 캠페인 × 일자)
+-- ============================================================
+-- 크리에이터/셀러 리포트가 clicks × attributions × commission_ledgers 전체를
+-- 매 요청마다 조인·COUNT(DISTINCT) 하지 않도록 일 단위 집계를 미리 유지한다
+--
+-- - clicks               : clicks.campaign_id 기준 (캠페인 없는 클릭은 campaign_id = 0)
+-- - conversions          : attributions.campaign_id 기준, 링크는 클릭에서
+-- - *_commission         : commission_ledgers 상태별 금액, 일자는 어트리뷰션 일자
+-- - stat_date            : Asia/Seoul 기준 일자
+--
+-- 원본 테이블의 statement-level 트리거(transition table)로 증분 갱신
+-- → 멀티로우 INSERT 1회 = 롤업 UPSERT 1회
+
+CREATE TABLE link_daily_stats (
+    link_id              BIGINT NOT NULL REFERENCES links(id) ON DELETE CASCADE,
+    campaign_id          BIGINT NOT NULL DEFAULT 0,
+    stat_date            DATE NOT NULL,
+    clicks               BIGINT NOT NULL DEFAULT 0,
+    conversions          BIGINT NOT NULL DEFAULT 0,
+    pending_commission   NUMERIC(18, 2) NOT NULL DEFAULT 0,
+    confirmed_commission NUMERIC(18, 2) NOT NULL DEFAULT 0,
+    paid_commission      NUMERIC(18, 2) NOT NULL DEFAULT 0,
+    cancelled_commission NUMERIC(18, 2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (link_id, campaign_id, stat_date)
+);
+
+CREATE INDEX link_daily_stats_campaign_date_idx ON link_daily_stats (campaign_id, stat_date);
+
+-- ============================================================
+-- 증분 갱신 트리거
+-- ============================================================
+-- UPSERT는 키 순서(ORDER BY)로 진행 → 동시 배치끼리 교착 방지
+-- DELETE는 UPDATE만 수행 (링크 삭제 CASCADE로 롤업 행이 먼저 지워졌을 수 있음)
+
+CREATE OR REPLACE FUNCTION link_daily_stats_on_clicks()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO link_daily_stats (link_id, campaign_id, stat_date, clicks)
+        SELECT n.link_id,
+               COALESCE(n.campaign_id, 0),
+               (n.clicked_at AT TIME ZONE 'Asia/Seoul')::date,
+               COUNT(*)
+        FROM new_rows n
+        GROUP BY 1, 2, 3
+        ORDER BY 1, 2, 3
+        ON CONFLICT (link_id, campaign_id, stat_date)
+            DO UPDATE SET clicks = link_daily_stats.clicks + EXCLUDED.clicks;
+    ELSE
+        UPDATE link_daily_stats s
+        SET clicks = s.clicks - d.clicks
+        FROM (
+            SELECT o.link_id,
+                   COALESCE(o.campaign_id, 0) AS campaign_id,
+                   (o.clicked_at AT TIME ZONE 'Asia/Seoul')::date AS stat_date,
+                   COUNT(*) AS clicks
+            FROM old_rows o
+            GROUP BY 1, 2, 3
+        ) d
+        WHERE s.link_id = d.link_id
+          AND s.campaign_id = d.campaign_id
+          AND s.stat_date = d.stat_date;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION link_daily_stats_on_attributions()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO link_daily_stats (link_id, campaign_id, stat_date, conversions)
+        SELECT c.link_id,
+               n.campaign_id,
+               (n.attributed_at AT TIME ZONE 'Asia/Seoul')::date,
+               COUNT(*)
+        FROM new_rows n
+        JOIN clicks c ON c.id = n.click_id
+        GROUP BY 1, 2, 3
+        ORDER BY 1, 2, 3
+        ON CONFLICT (link_id, campaign_id, stat_date)
+            DO UPDATE SET conversions = link_daily_stats.conversions + EXCLUDED.conversions;
+    ELSE
+        UPDATE link_daily_stats s
+        SET conversions = s.conversions - d.conversions
+        FROM (
+            SELECT c.link_id,
+                   o.campaign_id,
+                   (o.attributed_at AT TIME ZONE 'Asia/Seoul')::date AS stat_date,
+                   COUNT(*) AS conversions
+            FROM old_rows o
+            JOIN clicks c ON c.id = o.click_id
+            GROUP BY 1, 2, 3
+        ) d
+        WHERE s.link_id = d.link_id
+          AND s.campaign_id = d.campaign_id
+          AND s.stat_date = d.stat_date;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 커미션은 상태 전이(PENDING → CONFIRMED → PAID / CANCELLED)마다 금액을 버킷 간 이동
+-- (증가분 = 새 상태 +amount, 이전 상태 -amount)
+CREATE OR REPLACE FUNCTION link_daily_stats_add_commission(
+    attribution_ids BIGINT[],
+    campaign_ids    BIGINT[],
+    statuses        commission_status_enum[],
+    amounts         NUMERIC[]
+) RETURNS VOID AS $$
+    INSERT INTO link_daily_stats (link_id, campaign_id, stat_date,
+                                  pending_commission, confirmed_commission, paid_commission, cancelled_commission)
+    SELECT c.link_id,
+           d.campaign_id,
+           (a.attributed_at AT TIME ZONE 'Asia/Seoul')::date,
+           SUM(CASE WHEN d.status = 'PENDING' THEN d.amount ELSE 0 END),
+           SUM(CASE WHEN d.status = 'CONFIRMED' THEN d.amount ELSE 0 END),
+           SUM(CASE WHEN d.status = 'PAID' THEN d.amount ELSE 0 END),
+           SUM(CASE WHEN d.status = 'CANCELLED' THEN d.amount ELSE 0 END)
+    FROM unnest(attribution_ids, campaign_ids, statuses, amounts) AS d (attribution_id, campaign_id, status, amount)
+    JOIN attributions a ON a.id = d.attribution_id
+    JOIN clicks c ON c.id = a.click_id
+    GROUP BY 1, 2, 3
+    ORDER BY 1, 2, 3
+    ON CONFLICT (link_id, campaign_id, stat_date)
+        DO UPDATE SET pending_commission   = link_daily_stats.pending_commission + EXCLUDED.pending_commission,
+                      confirmed_commission = link_daily_stats.confirmed_commission + EXCLUDED.confirmed_commission,
+                      paid_commission      = link_daily_stats.paid_commission + EXCLUDED.paid_commission,
+                      cancelled_commission = link_daily_stats.cancelled_commission + EXCLUDED.cancelled_commission;
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION link_daily_stats_on_commission_ledgers()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM link_daily_stats_add_commission(
+            array_agg(n.attribution_id), array_agg(n.campaign_id), array_agg(n.status), array_agg(n.amount))
+        FROM new_rows n;
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM link_daily_stats_add_commission(
+            array_agg(o.attribution_id), array_agg(o.campaign_id), array_agg(o.status), array_agg(-o.amount))
+        FROM old_rows o;
+    ELSE
+        -- 상태/금액이 바뀐 행만 (updated_at 갱신 등은 무시)
+        PERFORM link_daily_stats_add_commission(
+            array_agg(d.attribution_id), array_agg(d.campaign_id), array_agg(d.status), array_agg(d.amount))
+        FROM (
+            SELECT n.attribution_id, n.campaign_id, n.status, n.amount
+            FROM new_rows n
+            JOIN old_rows o ON o.id = n.id
+            WHERE (n.status, n.amount, n.campaign_id) IS DISTINCT FROM (o.status, o.amount, o.campaign_id)
+            UNION ALL
+            SELECT o.attribution_id, o.campaign_id, o.status, -o.amount
+            FROM old_rows o
+            JOIN new_rows n ON n.id = o.id
+            WHERE (n.status, n.amount, n.campaign_id) IS DISTINCT FROM (o.status, o.amount, o.campaign_id)
+        ) d;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- transition table 트리거는 이벤트별로 따로 생성해야 함
+CREATE TRIGGER trg_clicks_stats_insert
+    AFTER INSERT ON clicks
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION link_daily_stats_on_clicks();
+
+CREATE TRIGGER trg_clicks_stats_delete
+    AFTER DELETE ON clicks
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION link_daily_stats_on_clicks();
+
+CREATE TRIGGER trg_attributions_stats_insert
+    AFTER INSERT ON attributions
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION link_daily_stats_on_attributions();
+
+CREATE TRIGGER trg_attributions_stats_delete
+    AFTER DELETE ON attributions
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION link_daily_stats_on_attributions();
+
+CREATE TRIGGER trg_commission_ledgers_stats_insert
+    AFTER INSERT ON commission_ledgers
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION link_daily_stats_on_commission_ledgers();
+
+CREATE TRIGGER trg_commission_ledgers_stats_update
+    AFTER UPDATE ON commission_ledgers
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION link_daily_stats_on_commission_ledgers();
+
+CREATE TRIGGER trg_commission_ledgers_stats_delete
+    AFTER DELETE ON commission_ledgers
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION link_daily_stats_on_commission_ledgers();
+
+-- ============================================================
+-- 기존 데이터 백필
+-- ============================================================
+-- 트리거 생성 ~ 백필 사이 쓰기가 끼어들지 않도록 잠금 (마이그레이션 트랜잭션 종료 시 해제)
+
+LOCK TABLE clicks, attributions, commission_ledgers IN SHARE ROW EXCLUSIVE MODE;
+
+INSERT INTO link_daily_stats (link_id, campaign_id, stat_date, clicks, conversions,
+                              pending_commission, confirmed_commission, paid_commission, cancelled_commission)
+SELECT link_id, campaign_id, stat_date,
+       SUM(clicks), SUM(conversions),
+       SUM(pending_commission), SUM(confirmed_commission), SUM(paid_commission), SUM(cancelled_commission)
+FROM (
+    SELECT c.link_id,
+           COALESCE(c.campaign_id, 0) AS campaign_id,
+           (c.clicked_at AT TIME ZONE 'Asia/Seoul')::date AS stat_date,
+           COUNT(*) AS clicks, 0 AS conversions,
+           0 AS pending_commission, 0 AS confirmed_commission, 0 AS paid_commission, 0 AS cancelled_commission
+    FROM clicks c
+    GROUP BY 1, 2, 3
+
+    UNION ALL
+
+    SELECT c.link_id,
+           a.campaign_id,
+           (a.attributed_at AT TIME ZONE 'Asia/Seoul')::date,
+           0, COUNT(*),
+           0, 0, 0, 0
+    FROM attributions a
+    JOIN clicks c ON c.id = a.click_id
+    GROUP BY 1, 2, 3
+
+    UNION ALL
+
+    SELECT c.link_id,
+           cl.campaign_id,
+           (a.attributed_at AT TIME ZONE 'Asia/Seoul')::date,
+           0, 0,
+           SUM(CASE WHEN cl.status = 'PENDING' THEN cl.amount ELSE 0 END),
+           SUM(CASE WHEN cl.status = 'CONFIRMED' THEN cl.amount ELSE 0 END),
+           SUM(CASE WHEN cl.status = 'PAID' THEN cl.amount ELSE 0 END),
+           SUM(CASE WHEN cl.status = 'CANCELLED' THEN cl.amount ELSE 0 END)
+    FROM commission_ledgers cl
+    JOIN attributions a ON a.id = cl.attribution_id
+    JOIN clicks c ON c.id = a.click_id
+    GROUP BY 1, 2, 3
+) t
+GROUP BY link_id, campaign_id, stat_date;
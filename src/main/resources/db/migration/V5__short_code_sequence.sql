@@ -0,0 +1,11 @@
+-- V5: shortCode 발급용 시퀀스
+-- 인스턴스가 nextval 1회로 1000개 번호 블록을 예약 → 블록 안에서는 DB 왕복 없이 발급
+-- 번호는 ShortCodeGenerator가 7자리 base62로 뒤섞어 인코딩 (순번 노출 방지, 충돌 없음)
+-- 기존 랜덤 8자리 코드와는 길이가 달라 겹치지 않음
+--
+-- INCREMENT BY 는 ShortCodeSequence.BLOCK_SIZE 와 같아야 함
+
+CREATE SEQUENCE short_code_seq
+    START WITH 1
+    INCREMENT BY 1000
+    NO CYCLE;
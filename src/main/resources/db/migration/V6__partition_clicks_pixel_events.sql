@@ -0,0 +1,148 @@
+-- V6: clicks / pixel_events 월 단위 파티셔닝 (Asia/Seoul 기준 월 경계)
+--
+-- 두 테이블 모두 append-only + 기간 조회 위주 → 월 파티션으로 나누고,
+-- 보존 기간이 지난 데이터는 행 DELETE 대신 파티션 DROP/DETACH로 제거 (MonthlyPartitionManager)
+--
+-- 파티션 테이블 제약에 따른 스키마 변경:
+-- - PK / UNIQUE 에 파티션 키 포함 → clicks (id, clicked_at), click_token UNIQUE → (click_token, clicked_at)
+-- - clicks(id)를 참조하던 FK 해제 (attribution_sessions.click_id, attributions.click_id)
+--   클릭 존재는 애플리케이션이 보장 (클릭 INSERT 후에만 세션·어트리뷰션 생성)
+-- - 픽셀 주문 중복 방지는 파티션 밖 pixel_order_keys (store_id, external_order_id) 가 담당
+--
+-- 롤업(link_daily_stats)은 파티션 DROP에 DELETE 트리거가 돌지 않으므로 보존 기간 이후에도 클릭 수 유지
+-- 범위를 벗어난 시각(시계 오류 등)은 DEFAULT 파티션으로 → 해당 월 파티션 생성 전 비어 있어야 함
+
+-- ============================================================
+-- 월 파티션 생성 함수 (마이그레이션 + MonthlyPartitionManager 공용)
+-- 이름: {parent}_pYYYY_MM
+-- ============================================================
+
+CREATE OR REPLACE FUNCTION create_monthly_partition(parent TEXT, month_start DATE)
+RETURNS TEXT AS $$
+DECLARE
+    first_day      DATE := make_date(EXTRACT(YEAR FROM month_start)::int, EXTRACT(MONTH FROM month_start)::int, 1);
+    partition_name TEXT := parent || '_p' || to_char(first_day, 'YYYY_MM');
+BEGIN
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+        partition_name,
+        parent,
+        first_day::timestamp AT TIME ZONE 'Asia/Seoul',
+        (first_day + INTERVAL '1 month') AT TIME ZONE 'Asia/Seoul');
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ============================================================
+-- clicks(id) 참조 FK 해제
+-- ============================================================
+
+ALTER TABLE attribution_sessions DROP CONSTRAINT attribution_sessions_click_id_fkey;
+ALTER TABLE attributions DROP CONSTRAINT attributions_click_id_fkey;
+
+-- ============================================================
+-- clicks
+-- ============================================================
+
+LOCK TABLE clicks, pixel_events IN ACCESS EXCLUSIVE MODE;
+
+ALTER TABLE clicks RENAME TO clicks_legacy;
+ALTER SEQUENCE clicks_id_seq OWNED BY NONE;
+
+CREATE TABLE clicks (
+    id                         BIGINT NOT NULL DEFAULT nextval('clicks_id_seq'),
+    link_id                    BIGINT NOT NULL REFERENCES links(id) ON DELETE CASCADE,
+    campaign_id                BIGINT REFERENCES campaigns(id),
+    commission_snapshot_amount NUMERIC(18, 2),
+    commission_snapshot_rate   NUMERIC(5, 4),
+    click_token                TEXT NOT NULL,
+    ip_address                 TEXT,
+    user_agent                 TEXT,
+    clicked_at                 TIMESTAMPTZ NOT NULL DEFAULT now()
+) PARTITION BY RANGE (clicked_at);
+
+CREATE TABLE clicks_default PARTITION OF clicks DEFAULT;
+
+SELECT create_monthly_partition('clicks', m::date)
+FROM generate_series(
+         date_trunc('month', COALESCE((SELECT MIN(clicked_at) FROM clicks_legacy), now()) AT TIME ZONE 'Asia/Seoul'),
+         date_trunc('month', now() AT TIME ZONE 'Asia/Seoul') + INTERVAL '3 months',
+         INTERVAL '1 month') AS m;
+
+INSERT INTO clicks (id, link_id, campaign_id, commission_snapshot_amount, commission_snapshot_rate,
+                    click_token, ip_address, user_agent, clicked_at)
+SELECT id, link_id, campaign_id, commission_snapshot_amount, commission_snapshot_rate,
+       click_token, ip_address, user_agent, clicked_at
+FROM clicks_legacy;
+
+-- 레거시 테이블과 함께 V4 롤업 트리거도 삭제됨 → 복사 후 새 테이블에 다시 생성 (복사분 이중 집계 방지)
+DROP TABLE clicks_legacy;
+ALTER SEQUENCE clicks_id_seq OWNED BY clicks.id;
+
+ALTER TABLE clicks ADD CONSTRAINT clicks_pkey PRIMARY KEY (id, clicked_at);
+ALTER TABLE clicks ADD CONSTRAINT clicks_token_clicked_at_uniq UNIQUE (click_token, clicked_at);
+CREATE INDEX clicks_link_clicked_at_idx ON clicks (link_id, clicked_at);
+
+CREATE TRIGGER trg_clicks_stats_insert
+    AFTER INSERT ON clicks
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION link_daily_stats_on_clicks();
+
+CREATE TRIGGER trg_clicks_stats_delete
+    AFTER DELETE ON clicks
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION link_daily_stats_on_clicks();
+
+-- ============================================================
+-- pixel_order_keys — 주문 단위 멱등 키 (파티션과 무관하게 전역 UNIQUE)
+-- ============================================================
+
+CREATE TABLE pixel_order_keys (
+    store_id          BIGINT NOT NULL REFERENCES stores(id) ON DELETE RESTRICT,
+    external_order_id TEXT NOT NULL,
+    created_at        TIMESTAMPTZ NOT NULL DEFAULT now(),
+    CONSTRAINT pixel_order_keys_pkey PRIMARY KEY (store_id, external_order_id)
+);
+
+INSERT INTO pixel_order_keys (store_id, external_order_id, created_at)
+SELECT store_id, external_order_id, created_at
+FROM pixel_events;
+
+-- ============================================================
+-- pixel_events
+-- ============================================================
+
+ALTER TABLE pixel_events RENAME TO pixel_events_legacy;
+ALTER SEQUENCE pixel_events_id_seq OWNED BY NONE;
+
+CREATE TABLE pixel_events (
+    id                     BIGINT NOT NULL DEFAULT nextval('pixel_events_id_seq'),
+    store_id               BIGINT NOT NULL REFERENCES stores(id) ON DELETE RESTRICT,
+    external_order_id      TEXT NOT NULL,
+    attribution_session_id BIGINT REFERENCES attribution_sessions(id),
+    session_token          TEXT,
+    event_time             TIMESTAMPTZ NOT NULL DEFAULT now(),
+    created_at             TIMESTAMPTZ NOT NULL DEFAULT now()
+) PARTITION BY RANGE (event_time);
+
+CREATE TABLE pixel_events_default PARTITION OF pixel_events DEFAULT;
+
+SELECT create_monthly_partition('pixel_events', m::date)
+FROM generate_series(
+         date_trunc('month', COALESCE((SELECT MIN(event_time) FROM pixel_events_legacy), now()) AT TIME ZONE 'Asia/Seoul'),
+         date_trunc('month', now() AT TIME ZONE 'Asia/Seoul') + INTERVAL '3 months',
+         INTERVAL '1 month') AS m;
+
+INSERT INTO pixel_events (id, store_id, external_order_id, attribution_session_id, session_token,
+                          event_time, created_at)
+SELECT id, store_id, external_order_id, attribution_session_id, session_token,
+       event_time, created_at
+FROM pixel_events_legacy;
+
+DROP TABLE pixel_events_legacy;
+ALTER SEQUENCE pixel_events_id_seq OWNED BY pixel_events.id;
+
+ALTER TABLE pixel_events ADD CONSTRAINT pixel_events_pkey PRIMARY KEY (id, event_time);
+CREATE INDEX pixel_events_store_order_idx ON pixel_events (store_id, external_order_id);
+CREATE INDEX pixel_events_session_token_idx ON pixel_events (session_token)
+    WHERE session_token IS NOT NULL;
@@ -0,0 +1,9 @@
+-- V7: 만료 세션 정리(AttributionSessionReaper)용 인덱스
+-- - (expires_at, id) : 키셋 청크 순회 — 마지막 (expires_at, id) 다음부터 LIMIT N
+-- - pixel_events.attribution_session_id : 픽셀이 참조하는 세션은 삭제 제외 (NOT EXISTS 확인)
+
+DROP INDEX attribution_sessions_expires_idx;
+CREATE INDEX attribution_sessions_expires_id_idx ON attribution_sessions (expires_at, id);
+
+CREATE INDEX pixel_events_attribution_session_idx ON pixel_events (attribution_session_id)
+    WHERE attribution_session_id IS NOT NULL;
@@ -0,0 +1,10 @@
+-- V8: 상품 카탈로그 증분 동기화 (CatalogSyncService)
+--
+-- products.content_hash   : 플랫폼 상품 필드(이름·이미지·URL·가격·판매 여부) SHA-256 → 같으면 UPDATE 생략
+-- products.last_synced_at : 변경이 반영된 동기화 실행 시각 (바뀌지 않은 상품은 그대로)
+-- stores.last_synced_at   : 끝까지 성공한 마지막 동기화 시작 시각 → 다음 증분 조회 기준
+--                           (중간에 실패한 실행은 기준을 옮기지 않음 → 다음 실행이 같은 구간을 다시 조회)
+
+ALTER TABLE products ADD COLUMN content_hash TEXT;
+
+ALTER TABLE stores ADD COLUMN last_synced_at TIMESTAMPTZ;
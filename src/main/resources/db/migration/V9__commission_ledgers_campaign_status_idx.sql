@@ -0,0 +1,5 @@
+-- V9: 커미션 일괄 전이용 인덱스
+-- - (campaign_id, status) : 캠페인 단위 일괄 확정 — 캠페인의 PENDING 원장만 찾아 UPDATE
+--   (크리에이터·셀러 단위는 V1의 (creator_id, status) / (seller_id, status) 인덱스 사용)
+
+CREATE INDEX commission_ledgers_campaign_status_idx ON commission_ledgers (campaign_id, status);
@@ -270,6 +270,20 @@ class DooringBffApplicationTests {
         assertThat(click.getIpAddress()).isEqualTo("10.0.0.1");
     }
 
+    @Test
+    @DisplayName("연타 클릭: 두 번째 클릭은 저장하지 않지만 같은 세션 토큰으로 리다이렉트")
+    void duplicateClick_keepsSessionToken() {
+        LinkResponse linkResp = linkService.issueLink(creatorId, productId);
+
+        ClickRecordResult first = clickTrackingService.recordClick(linkResp.getShortCode(), "10.0.0.2", "Mozilla/5.0");
+        ClickRecordResult repeat = clickTrackingService.recordClick(linkResp.getShortCode(), "10.0.0.2", "Mozilla/5.0");
+
+        assertThat(repeat.sessionToken()).isEqualTo(first.sessionToken());
+        assertThat(repeat.redirectUrl()).contains("dooring_session=" + first.sessionToken());
+        assertThat(clickRepository.findAll()).hasSize(1);
+        assertThat(attributionSessionRepository.findAll()).hasSize(1);
+    }
+
     @Test
     @DisplayName("토큰 갱신: refresh 후 새 AT/RT 발급, Redis 업데이트 확인")
     void tokenRefresh_issuesNewTokens() {
@@ -0,0 +1,87 @@
+package com.dooring.domain.dashboard.service;
+
+import com.dooring.common.exception.BusinessException;
+import com.dooring.common.exception.ErrorCode;
+import com.dooring.domain.dashboard.dto.CsvExport;
+import com.dooring.domain.dashboard.port.ReportExportQueryPort;
+import com.dooring.domain.dashboard.querymodel.ReportExportType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 리포트 내보내기 동시 실행 제한 단위 테스트 (DB 불필요)
+ */
+class ReportExportServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 1, 31);
+
+    private final ReportExportQueryPort port = new ReportExportQueryPort() {
+        @Override
+        public long exportCreatorRows(Long creatorId, ReportExportType type,
+                                      LocalDateTime startDate, LocalDateTime endDate, RowHandler handler) {
+            handler.handle(new Object[type.columns().size()]);
+            return 1;
+        }
+
+        @Override
+        public long exportSellerRows(Long sellerId, ReportExportType type,
+                                     LocalDateTime startDate, LocalDateTime endDate, RowHandler handler) {
+            handler.handle(new Object[type.columns().size()]);
+            return 1;
+        }
+    };
+
+    private final ReportExportService service = new ReportExportService(port, new SimpleMeterRegistry(), 366, 1);
+
+    @Test
+    @DisplayName("동시 실행 한도를 넘으면 429, 본문을 다 쓰면 자리 반환")
+    void exceedsMaxConcurrent_rejectedUntilBodyWritten() throws IOException {
+        CsvExport first = service.exportCreatorReport(1L, ReportExportType.CLICKS, FROM, TO);
+
+        assertThatThrownBy(() -> service.exportSellerReport(1L, ReportExportType.CLICKS, FROM, TO))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.REPORT_EXPORT_BUSY);
+
+        first.body().writeTo(new ByteArrayOutputStream());
+
+        assertThat(service.exportSellerReport(1L, ReportExportType.CLICKS, FROM, TO)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("클라이언트 연결이 끊겨도 자리 반환")
+    void clientDisconnect_releasesPermit() {
+        CsvExport export = service.exportCreatorReport(1L, ReportExportType.CONVERSIONS, FROM, TO);
+        OutputStream closed = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        assertThatThrownBy(() -> export.body().writeTo(closed)).isInstanceOf(IOException.class);
+        assertThat(service.exportCreatorReport(1L, ReportExportType.CONVERSIONS, FROM, TO)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("기간 검증 실패는 자리를 잡지 않음")
+    void invalidPeriod_doesNotTakePermit() {
+        assertThatThrownBy(() -> service.exportCreatorReport(1L, ReportExportType.CLICKS, TO, FROM))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+
+        assertThat(service.exportCreatorReport(1L, ReportExportType.CLICKS, FROM, TO)).isNotNull();
+    }
+}
@@ -0,0 +1,53 @@
+package com.dooring.domain.order.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.dooring.domain.order.entity.OrderStatus.CANCELLED;
+import static com.dooring.domain.order.entity.OrderStatus.CONFIRMED;
+import static com.dooring.domain.order.entity.OrderStatus.CREATED;
+import static com.dooring.domain.order.entity.OrderStatus.DELIVERED;
+import static com.dooring.domain.order.entity.OrderStatus.PAID;
+import static com.dooring.domain.order.entity.OrderStatus.REFUNDED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 상태 전이 규칙 단위 테스트 (DB 불필요)
+ */
+class OrderStatusTest {
+
+    @Test
+    @DisplayName("앞 단계 건너뛰기 허용: 웹훅이 누락돼도 뒤 상태로 이동")
+    void forwardSkips_allowed() {
+        assertThat(CREATED.canTransitionTo(DELIVERED)).isTrue();
+        assertThat(CREATED.canTransitionTo(CANCELLED)).isTrue();
+        assertThat(PAID.canTransitionTo(CONFIRMED)).isTrue();
+        assertThat(DELIVERED.canTransitionTo(REFUNDED)).isTrue();
+    }
+
+    @Test
+    @DisplayName("역행 금지: 늦게 도착한 앞 단계 웹훅은 무시")
+    void backwards_rejected() {
+        assertThat(PAID.canTransitionTo(CREATED)).isFalse();
+        assertThat(DELIVERED.canTransitionTo(PAID)).isFalse();
+        assertThat(CONFIRMED.canTransitionTo(DELIVERED)).isFalse();
+        assertThat(CREATED.canTransitionTo(CREATED)).isFalse();
+    }
+
+    @Test
+    @DisplayName("배송 이후 취소 금지: 배송·구매확정 뒤에는 반품(REFUNDED)만 가능")
+    void cancelAfterDelivery_rejected() {
+        assertThat(DELIVERED.canTransitionTo(CANCELLED)).isFalse();
+        assertThat(CONFIRMED.canTransitionTo(CANCELLED)).isFalse();
+        assertThat(CONFIRMED.canTransitionTo(REFUNDED)).isTrue();
+    }
+
+    @Test
+    @DisplayName("종료 상태: CANCELLED, REFUNDED 이후 전이 없음")
+    void terminal_states() {
+        for (OrderStatus next : OrderStatus.values()) {
+            assertThat(CANCELLED.canTransitionTo(next)).isFalse();
+            assertThat(REFUNDED.canTransitionTo(next)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.dooring.domain.order.service;
+
+import com.dooring.domain.order.dto.OrderWebhookEvent;
+import com.dooring.domain.order.entity.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 웹훅 배치 반영 통합 테스트
+ *   - 순서가 뒤바뀐 웹훅: 역행 전이는 무시하고 최종 상태 유지
+ *   - 매핑되지 않는 상태(null, 예: 취소 신청): 상태는 그대로, 금액·상품만 반영
+ *   - 같은 웹훅 재전송: 결과 동일 (상품 UPSERT)
+ * 전제 조건:
+ *   - Docker PostgreSQL (localhost:5432/dooring) 실행 중
+ * 테스트 격리:
+ *   - @Transactional → 테스트 후 DB 자동 롤백
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+@Transactional
+class OrderIngestionServiceTest {
+
+    private static final String PLATFORM = "WEBHOOK-TEST";
+    private static final String STORE = "webhook-store";
+
+    @Autowired private OrderIngestionService orderIngestionService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Long storeId;
+
+    // ── Setup ──────────────────────────────────────────────────────────────────
+
+    @BeforeEach
+    void seed() {
+        Long sellerId = insert("INSERT INTO sellers (email, name) VALUES ('webhook-seller@dooring-test.io', '웹훅셀러') RETURNING id");
+        Long platformId = insert("INSERT INTO platforms (code, name) VALUES (?, '웹훅 테스트몰') RETURNING id", PLATFORM);
+        storeId = insert("INSERT INTO stores (seller_id, platform_id, external_store_id) VALUES (?, ?, ?) RETURNING id",
+                sellerId, platformId, STORE);
+    }
+
+    // ── Tests ──────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("순서가 뒤바뀐 배치: 구매확정 뒤에 온 결제·배송 웹훅은 무시")
+    void outOfOrderEvents_withinBatch_keepLatestState() {
+        orderIngestionService.apply(List.of(
+                event("ORD-1", OrderStatus.CREATED),
+                event("ORD-1", OrderStatus.CONFIRMED),
+                event("ORD-1", OrderStatus.PAID),
+                event("ORD-1", OrderStatus.DELIVERED)));
+
+        assertThat(status("ORD-1")).isEqualTo("CONFIRMED");
+    }
+
+    @Test
+    @DisplayName("순서가 뒤바뀐 배치 간: 앞 배치의 상태에서 역행하지 않음")
+    void outOfOrderEvents_acrossBatches_keepLatestState() {
+        orderIngestionService.apply(List.of(event("ORD-2", OrderStatus.DELIVERED)));
+        orderIngestionService.apply(List.of(event("ORD-2", OrderStatus.PAID)));
+        orderIngestionService.apply(List.of(event("ORD-2", OrderStatus.CANCELLED)));
+
+        assertThat(status("ORD-2")).isEqualTo("DELIVERED");
+
+        orderIngestionService.apply(List.of(event("ORD-2", OrderStatus.REFUNDED)));
+        orderIngestionService.apply(List.of(event("ORD-2", OrderStatus.CONFIRMED)));
+
+        assertThat(status("ORD-2")).isEqualTo("REFUNDED");
+    }
+
+    @Test
+    @DisplayName("매핑되지 않는 상태(취소 신청 등): 상태는 유지, 이후 정상 전이 가능")
+    void unmappedStatus_keepsState() {
+        orderIngestionService.apply(List.of(event("ORD-3", OrderStatus.PAID)));
+        orderIngestionService.apply(List.of(event("ORD-3", null)));
+
+        assertThat(status("ORD-3")).isEqualTo("PAID");
+
+        orderIngestionService.apply(List.of(event("ORD-3", OrderStatus.DELIVERED)));
+        assertThat(status("ORD-3")).isEqualTo("DELIVERED");
+    }
+
+    @Test
+    @DisplayName("같은 웹훅 재전송: 주문·상품 행 수와 상태 동일")
+    void redelivery_isIdempotent() {
+        List<OrderWebhookEvent> batch = List.of(
+                event("ORD-4", OrderStatus.PAID),
+                event("ORD-4", OrderStatus.DELIVERED));
+
+        orderIngestionService.apply(batch);
+        orderIngestionService.apply(batch);
+
+        assertThat(status("ORD-4")).isEqualTo("DELIVERED");
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM order_items oi JOIN orders o ON o.id = oi.order_id
+                WHERE o.store_id = ? AND o.external_order_id = 'ORD-4'
+                """, Long.class, storeId)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM orders WHERE store_id = ? AND external_order_id = 'ORD-4'",
+                Long.class, storeId)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 스토어의 웹훅은 버림")
+    void unknownStore_skipped() {
+        orderIngestionService.apply(List.of(new OrderWebhookEvent(PLATFORM, "no-such-store", "ORD-5",
+                OrderStatus.PAID, null, null, List.of())));
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM orders WHERE external_order_id = 'ORD-5'", Long.class)).isZero();
+    }
+
+    // ── Helpers ────────────────────────────────────────────────────────────────
+
+    private OrderWebhookEvent event(String orderId, OrderStatus status) {
+        return new OrderWebhookEvent(PLATFORM, STORE, orderId, status,
+                new BigDecimal("29900"), LocalDateTime.now().minusHours(1),
+                List.of(new OrderWebhookEvent.Item("webhook-prod-1", "상품", 1, new BigDecimal("29900"))));
+    }
+
+    private String status(String orderId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT status::text FROM orders WHERE store_id = ? AND external_order_id = ?",
+                String.class, storeId, orderId);
+    }
+
+    private Long insert(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
@@ -0,0 +1,52 @@
+package com.dooring.domain.tracking.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 연타 클릭 필터 단위 테스트 (DB 불필요)
+ */
+class DuplicateClickFilterTest {
+
+    private static final String UA = "Mozilla/5.0";
+
+    @Test
+    @DisplayName("창 안의 같은 키: 먼저 기록된 클릭의 세션 토큰 반환")
+    void repeatWithinWindow_returnsRecordedToken() {
+        DuplicateClickFilter filter = new DuplicateClickFilter(true, Duration.ofSeconds(30), 1_000);
+
+        assertThat(filter.findRecentToken(1L, "10.0.0.1", UA)).isNull();
+        filter.remember(1L, "10.0.0.1", UA, "token-1");
+
+        assertThat(filter.findRecentToken(1L, "10.0.0.1", UA)).isEqualTo("token-1");
+        assertThat(filter.findRecentToken(2L, "10.0.0.1", UA)).isNull();
+        assertThat(filter.findRecentToken(1L, "10.0.0.2", UA)).isNull();
+    }
+
+    @Test
+    @DisplayName("창은 첫 클릭 기록 시점부터: 중복 조회가 창을 연장하지 않음")
+    void window_startsAtRecordedClick() throws InterruptedException {
+        DuplicateClickFilter filter = new DuplicateClickFilter(true, Duration.ofMillis(200), 1_000);
+
+        filter.remember(1L, "10.0.0.1", UA, "token-1");
+        Thread.sleep(50);
+        assertThat(filter.findRecentToken(1L, "10.0.0.1", UA)).isEqualTo("token-1");
+
+        Thread.sleep(250);
+        assertThat(filter.findRecentToken(1L, "10.0.0.1", UA)).isNull();
+    }
+
+    @Test
+    @DisplayName("비활성화: 항상 null")
+    void disabled_neverDuplicate() {
+        DuplicateClickFilter filter = new DuplicateClickFilter(false, Duration.ofSeconds(30), 1_000);
+
+        filter.remember(1L, "10.0.0.1", UA, "token-1");
+
+        assertThat(filter.findRecentToken(1L, "10.0.0.1", UA)).isNull();
+    }
+}
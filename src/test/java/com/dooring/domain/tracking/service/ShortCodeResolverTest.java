@@ -0,0 +1,105 @@
+package com.dooring.domain.tracking.service;
+
+import com.dooring.domain.catalog.entity.Product;
+import com.dooring.domain.catalog.event.ProductChangedEvent;
+import com.dooring.domain.catalog.event.ProductsSyncedEvent;
+import com.dooring.domain.catalog.service.CampaignService;
+import com.dooring.domain.catalog.service.ProductService;
+import com.dooring.domain.tracking.entity.Link;
+import com.dooring.domain.tracking.event.LinkChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * shortCode 캐시 무효화 단위 테스트 (DB 불필요)
+ * 상품·링크 변경 시 해당 shortCode만 다시 적재되는지 확인
+ */
+class ShortCodeResolverTest {
+
+    private final LinkService linkService = mock(LinkService.class);
+    private final ProductService productService = mock(ProductService.class);
+    private final CampaignService campaignService = mock(CampaignService.class);
+
+    private ShortCodeResolver resolver;
+
+    // ── Setup ──────────────────────────────────────────────────────────────────
+
+    @BeforeEach
+    void setUp() {
+        stubLink(1L, 10L, "codeA1");
+        stubLink(2L, 10L, "codeA2");
+        stubLink(3L, 20L, "codeB1");
+        stubProduct(10L);
+        stubProduct(20L);
+        when(campaignService.findEnabledByProductOptional(10L)).thenReturn(Optional.empty());
+        when(campaignService.findEnabledByProductOptional(20L)).thenReturn(Optional.empty());
+
+        resolver = new ShortCodeResolver(linkService, productService, campaignService,
+                new SimpleMeterRegistry(), 1_000, Duration.ofMinutes(5));
+        resolveAll();
+    }
+
+    @Test
+    @DisplayName("상품 변경: 그 상품의 shortCode만 다시 적재")
+    void productChanged_reloadsOnlyThatProduct() {
+        resolver.onProductChanged(new ProductChangedEvent(10L));
+        resolveAll();
+
+        verify(linkService, times(2)).findEntityByShortCode("codeA1");
+        verify(linkService, times(2)).findEntityByShortCode("codeA2");
+        verify(linkService, times(1)).findEntityByShortCode("codeB1");
+    }
+
+    @Test
+    @DisplayName("카탈로그 동기화: 바뀐 상품 전부 무효화, 다시 적재한 뒤 다음 변경도 반영")
+    void productsSynced_reloadsChangedProducts() {
+        resolver.onProductsSynced(new ProductsSyncedEvent(Set.of(10L, 20L)));
+        resolveAll();
+        resolver.onProductChanged(new ProductChangedEvent(20L));
+        resolveAll();
+
+        verify(linkService, times(2)).findEntityByShortCode("codeA1");
+        verify(linkService, times(3)).findEntityByShortCode("codeB1");
+    }
+
+    @Test
+    @DisplayName("링크 변경: 그 shortCode만 다시 적재")
+    void linkChanged_reloadsOnlyThatCode() {
+        resolver.onLinkChanged(new LinkChangedEvent("codeA1"));
+        resolveAll();
+
+        verify(linkService, times(2)).findEntityByShortCode("codeA1");
+        verify(linkService, times(1)).findEntityByShortCode("codeA2");
+    }
+
+    private void resolveAll() {
+        resolver.resolve("codeA1");
+        resolver.resolve("codeA2");
+        resolver.resolve("codeB1");
+    }
+
+    private void stubLink(Long linkId, Long productId, String shortCode) {
+        Link link = mock(Link.class);
+        when(link.getId()).thenReturn(linkId);
+        when(link.getProductId()).thenReturn(productId);
+        when(linkService.findEntityByShortCode(shortCode)).thenReturn(link);
+    }
+
+    private void stubProduct(Long productId) {
+        Product product = mock(Product.class);
+        when(product.getId()).thenReturn(productId);
+        when(product.getProductUrl()).thenReturn("https://example.com/product/" + productId);
+        when(productService.findEntityById(productId)).thenReturn(product);
+    }
+}
@@ -0,0 +1,72 @@
+package com.dooring.infrastructure.external.platform;
+
+import com.dooring.common.exception.BusinessException;
+import com.dooring.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 주문 웹훅 서명 검증 단위 테스트 (DB 불필요)
+ */
+class OrderWebhookSignatureVerifierTest {
+
+    private static final String HEADER = "X-Cafe24-Hmac-SHA256";
+    private static final byte[] BODY = "{\"resource\":{\"mall_id\":\"m\",\"order_id\":\"1\"}}".getBytes(StandardCharsets.UTF_8);
+
+    private final OrderWebhookSignatureVerifier verifier = new OrderWebhookSignatureVerifier(
+            new WebhookSignatureProperties(Map.of(
+                    "cafe24", new WebhookSignatureProperties.Platform(HEADER, "app-secret"),
+                    "imweb", new WebhookSignatureProperties.Platform("X-Imweb-Signature", ""))));
+
+    @Test
+    @DisplayName("올바른 서명은 통과 (헤더 이름 대소문자 무관)")
+    void validSignature_passes() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HEADER.toLowerCase(), sign("app-secret", BODY));
+
+        assertThatCode(() -> verifier.verify("cafe24", headers, BODY)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("서명 없음·다른 시크릿·변조된 본문은 401")
+    void missingOrWrongSignature_rejected() {
+        assertRejected("cafe24", new HttpHeaders(), BODY, ErrorCode.INVALID_WEBHOOK_SIGNATURE);
+
+        HttpHeaders wrongSecret = new HttpHeaders();
+        wrongSecret.add(HEADER, sign("other-secret", BODY));
+        assertRejected("cafe24", wrongSecret, BODY, ErrorCode.INVALID_WEBHOOK_SIGNATURE);
+
+        HttpHeaders tampered = new HttpHeaders();
+        tampered.add(HEADER, sign("app-secret", BODY));
+        byte[] forged = "{\"resource\":{\"mall_id\":\"m\",\"order_id\":\"2\"}}".getBytes(StandardCharsets.UTF_8);
+        assertRejected("cafe24", tampered, forged, ErrorCode.INVALID_WEBHOOK_SIGNATURE);
+    }
+
+    @Test
+    @DisplayName("시크릿이 설정되지 않은 플랫폼은 모두 401, 설정이 없는 플랫폼은 404")
+    void unconfiguredPlatform_rejected() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-Imweb-Signature", sign("any-secret", BODY));
+        assertRejected("imweb", headers, BODY, ErrorCode.INVALID_WEBHOOK_SIGNATURE);
+        assertRejected("unknown", new HttpHeaders(), BODY, ErrorCode.UNSUPPORTED_PLATFORM);
+    }
+
+    private void assertRejected(String platform, HttpHeaders headers, byte[] body, ErrorCode errorCode) {
+        assertThatThrownBy(() -> verifier.verify(platform, headers, body))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(errorCode);
+    }
+
+    private static String sign(String secret, byte[] body) {
+        return Base64.getEncoder().encodeToString(OrderWebhookSignatureVerifier.sign(secret, body));
+    }
+}
@@ -0,0 +1,79 @@
+package com.dooring.infrastructure.external.platform.cafe24;
+
+import com.dooring.domain.order.dto.OrderWebhookEvent;
+import com.dooring.domain.order.entity.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Cafe24 주문 웹훅 본문 변환 단위 테스트 (DB 불필요)
+ */
+class Cafe24OrderWebhookParserTest {
+
+    private final Cafe24OrderWebhookParser parser = new Cafe24OrderWebhookParser(new ObjectMapper());
+
+    @Test
+    @DisplayName("본문 변환: 스토어·주문 ID, 상태, 금액, 상품")
+    void parse_mapsFields() {
+        List<OrderWebhookEvent> events = parser.parse("""
+                {"resource": {
+                  "mall_id": "test-mall", "order_id": "20250115-0000001", "order_status": "N10",
+                  "payment_amount": "29900.00", "order_date": "2025-01-15T10:30:00+09:00",
+                  "items": [{"product_no": 11, "product_name": "상품A", "quantity": 2, "payment_amount": "19900.00"},
+                            {"product_no": 12, "product_name": "상품B", "payment_amount": "10000"}]
+                }}
+                """);
+
+        assertThat(events).hasSize(1);
+        OrderWebhookEvent event = events.getFirst();
+        assertThat(event.platformCode()).isEqualTo("cafe24");
+        assertThat(event.externalStoreId()).isEqualTo("test-mall");
+        assertThat(event.externalOrderId()).isEqualTo("20250115-0000001");
+        assertThat(event.status()).isEqualTo(OrderStatus.PAID);
+        assertThat(event.totalAmount()).isEqualByComparingTo("29900");
+        assertThat(event.orderedAt()).isNotNull();
+        assertThat(event.items()).hasSize(2);
+        assertThat(event.items().get(0).externalProductId()).isEqualTo("11");
+        assertThat(event.items().get(0).quantity()).isEqualTo(2);
+        assertThat(event.items().get(1).quantity()).isNull();
+    }
+
+    @Test
+    @DisplayName("mall_id / order_id 없거나 JSON이 아니면 IllegalArgumentException")
+    void parse_rejectsInvalidBody() {
+        assertThatThrownBy(() -> parser.parse("{\"resource\": {\"mall_id\": \"test-mall\"}}"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("not-json"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("상태 코드: 정상 흐름")
+    void toStatus_normalFlow() {
+        assertThat(Cafe24OrderWebhookParser.toStatus("N00")).isEqualTo(OrderStatus.CREATED);
+        assertThat(Cafe24OrderWebhookParser.toStatus("N20")).isEqualTo(OrderStatus.PAID);
+        assertThat(Cafe24OrderWebhookParser.toStatus("N40")).isEqualTo(OrderStatus.DELIVERED);
+        assertThat(Cafe24OrderWebhookParser.toStatus("N50")).isEqualTo(OrderStatus.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("상태 코드: 완료된 취소·반품만 종료 상태, 신청·처리 중 단계는 null (상태 유지)")
+    void toStatus_onlyCompletedCancelAndReturnAreTerminal() {
+        assertThat(Cafe24OrderWebhookParser.toStatus("C40")).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(Cafe24OrderWebhookParser.toStatus("C48")).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(Cafe24OrderWebhookParser.toStatus("R40")).isEqualTo(OrderStatus.REFUNDED);
+
+        assertThat(Cafe24OrderWebhookParser.toStatus("C00")).isNull();
+        assertThat(Cafe24OrderWebhookParser.toStatus("C10")).isNull();
+        assertThat(Cafe24OrderWebhookParser.toStatus("R00")).isNull();
+        assertThat(Cafe24OrderWebhookParser.toStatus("R30")).isNull();
+        assertThat(Cafe24OrderWebhookParser.toStatus("E00")).isNull();
+        assertThat(Cafe24OrderWebhookParser.toStatus("")).isNull();
+    }
+}
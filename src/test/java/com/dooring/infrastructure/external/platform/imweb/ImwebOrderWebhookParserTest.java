@@ -0,0 +1,65 @@
+package com.dooring.infrastructure.external.platform.imweb;
+
+import com.dooring.domain.order.dto.OrderWebhookEvent;
+import com.dooring.domain.order.entity.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 아임웹 주문 웹훅 본문 변환 단위 테스트 (DB 불필요)
+ */
+class ImwebOrderWebhookParserTest {
+
+    private final ImwebOrderWebhookParser parser = new ImwebOrderWebhookParser(new ObjectMapper());
+
+    @Test
+    @DisplayName("본문 변환: 사이트·주문 번호, 상태, 금액, 상품")
+    void parse_mapsFields() {
+        List<OrderWebhookEvent> events = parser.parse("""
+                {"site_code": "S-test", "data": {
+                  "order_no": "202501150001", "status": "DELIVERING", "total_price": 15000,
+                  "order_time": 1736904600,
+                  "items": [{"prod_no": 301, "prod_name": "상품A", "count": 3, "price": 5000}]
+                }}
+                """);
+
+        assertThat(events).hasSize(1);
+        OrderWebhookEvent event = events.getFirst();
+        assertThat(event.platformCode()).isEqualTo("imweb");
+        assertThat(event.externalStoreId()).isEqualTo("S-test");
+        assertThat(event.externalOrderId()).isEqualTo("202501150001");
+        assertThat(event.status()).isEqualTo(OrderStatus.PAID);
+        assertThat(event.totalAmount()).isEqualByComparingTo("15000");
+        assertThat(event.orderedAt()).isNotNull();
+        assertThat(event.items()).hasSize(1);
+        assertThat(event.items().getFirst().externalProductId()).isEqualTo("301");
+        assertThat(event.items().getFirst().quantity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("site_code / order_no 없으면 IllegalArgumentException")
+    void parse_rejectsInvalidBody() {
+        assertThatThrownBy(() -> parser.parse("{\"data\": {\"order_no\": \"1\"}}"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("상태: 완료된 취소·반품만 종료 상태, 신청 단계는 null (상태 유지)")
+    void toStatus_onlyCompletedCancelAndReturnAreTerminal() {
+        assertThat(ImwebOrderWebhookParser.toStatus("PAY_WAIT")).isEqualTo(OrderStatus.CREATED);
+        assertThat(ImwebOrderWebhookParser.toStatus("COMPLETE")).isEqualTo(OrderStatus.DELIVERED);
+        assertThat(ImwebOrderWebhookParser.toStatus("PURCHASE_CONFIRMATION")).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(ImwebOrderWebhookParser.toStatus("CANCEL_COMPLETE")).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(ImwebOrderWebhookParser.toStatus("RETURN_COMPLETE")).isEqualTo(OrderStatus.REFUNDED);
+
+        assertThat(ImwebOrderWebhookParser.toStatus("CANCEL_REQUEST")).isNull();
+        assertThat(ImwebOrderWebhookParser.toStatus("RETURN_REQUEST")).isNull();
+        assertThat(ImwebOrderWebhookParser.toStatus("EXCHANGE_REQUEST")).isNull();
+    }
+}
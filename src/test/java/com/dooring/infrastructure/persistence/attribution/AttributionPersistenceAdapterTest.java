@@ -0,0 +1,200 @@
+package com.dooring.infrastructure.persistence.attribution;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커미션 일괄 전이(조건부 UPDATE) 테스트
+ *   - 전이할 수 없는 상태(PAID, CANCELLED 등)의 원장은 건드리지 않음
+ *   - 같은 요청을 다시 실행해도 0건 (웹훅 재전송·배치 재실행)
+ *   - 전이 후 link_daily_stats 상태별 커미션이 commission_ledgers 집계와 같음 (statement 트리거)
+ * 전제 조건:
+ *   - Docker PostgreSQL (localhost:5432/dooring) 실행 중
+ * 테스트 격리:
+ *   - @Transactional → 테스트 후 DB 자동 롤백
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+@Transactional
+class AttributionPersistenceAdapterTest {
+
+    private static final List<String> STATUSES = List.of("PENDING", "CONFIRMED", "PAID", "CANCELLED");
+
+    @Autowired private AttributionPersistenceAdapter adapter;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Long sellerId;
+    private Long creatorId;
+    private Long campaignId;
+    private Long linkId;
+    private List<Long> orderIds;
+
+    // ── Setup ──────────────────────────────────────────────────────────────────
+
+    @BeforeEach
+    void seed() {
+        sellerId = insert("INSERT INTO sellers (email, name) VALUES ('transition-seller@dooring-test.io', '전이셀러') RETURNING id");
+        creatorId = insert("INSERT INTO creators (email, nickname) VALUES ('transition-creator@dooring-test.io', 'transition-creator') RETURNING id");
+        Long platformId = insert("INSERT INTO platforms (code, name) VALUES ('TRANSITION-TEST', '전이 테스트몰') RETURNING id");
+        Long storeId = insert("INSERT INTO stores (seller_id, platform_id, external_store_id) VALUES (?, ?, 'transition-store') RETURNING id",
+                sellerId, platformId);
+        Long productId = insert("INSERT INTO products (store_id, external_product_id, name) VALUES (?, 'transition-prod', '전이상품') RETURNING id",
+                storeId);
+
+        LocalDateTime now = LocalDateTime.now();
+        campaignId = insert("""
+                INSERT INTO campaigns (product_id, seller_id, commission_amount, starts_at, ends_at, is_active)
+                VALUES (?, ?, 3000, ?, ?, true) RETURNING id
+                """, productId, sellerId, now.minusDays(10), now.plusDays(81));
+        linkId = insert("INSERT INTO links (creator_id, product_id, short_code) VALUES (?, ?, 'trans1') RETURNING id",
+                creatorId, productId);
+
+        // 상태마다 전환 1건 (금액을 다르게 해 버킷 간 이동을 구분)
+        orderIds = STATUSES.stream()
+                .map(status -> insertConversion(storeId, status, new BigDecimal(1000 * (STATUSES.indexOf(status) + 1)),
+                        now.minusDays(STATUSES.indexOf(status))))
+                .toList();
+    }
+
+    // ── Tests ──────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("취소: PENDING·CONFIRMED만 취소, PAID·CANCELLED는 그대로, 재실행은 0건")
+    void cancel_skipsPaidAndCancelled() {
+        assertThat(adapter.cancelCommissionsByOrderIds(orderIds)).isEqualTo(2);
+
+        assertThat(statusesByOrder()).containsExactly("CANCELLED", "CANCELLED", "PAID", "CANCELLED");
+        assertStatsMatchLedgers();
+
+        assertThat(adapter.cancelCommissionsByOrderIds(orderIds)).isZero();
+        assertThat(statusesByOrder()).containsExactly("CANCELLED", "CANCELLED", "PAID", "CANCELLED");
+        assertStatsMatchLedgers();
+    }
+
+    @Test
+    @DisplayName("확정: PENDING만 확정하고 confirmed_at 기록, 재실행은 0건")
+    void confirm_onlyPending() {
+        assertThat(adapter.confirmCommissionsByOrderIds(orderIds)).isEqualTo(1);
+
+        assertThat(statusesByOrder()).containsExactly("CONFIRMED", "CONFIRMED", "PAID", "CANCELLED");
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT cl.confirmed_at IS NOT NULL FROM commission_ledgers cl
+                JOIN attributions a ON a.id = cl.attribution_id
+                WHERE a.order_id = ?
+                """, Boolean.class, orderIds.get(0))).isTrue();
+        assertStatsMatchLedgers();
+
+        assertThat(adapter.confirmCommissionsByCampaignIds(List.of(campaignId))).isZero();
+        assertThat(adapter.confirmCommissionsByOrderIds(orderIds)).isZero();
+        assertStatsMatchLedgers();
+    }
+
+    @Test
+    @DisplayName("지급: CONFIRMED만 지급 처리하고 paid_at 기록, 재실행은 0건")
+    void markAsPaid_onlyConfirmed() {
+        assertThat(adapter.markCommissionsAsPaidByCreatorId(creatorId)).isEqualTo(1);
+
+        assertThat(statusesByOrder()).containsExactly("PENDING", "PAID", "PAID", "CANCELLED");
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM commission_ledgers
+                WHERE creator_id = ? AND status = 'PAID' AND paid_at IS NOT NULL
+                """, Long.class, creatorId)).isEqualTo(1);
+        assertStatsMatchLedgers();
+
+        assertThat(adapter.markCommissionsAsPaidByCreatorId(creatorId)).isZero();
+        assertStatsMatchLedgers();
+    }
+
+    @Test
+    @DisplayName("연속 전이: 확정 → 지급 → 취소 후에도 link_daily_stats가 원장 집계와 같음")
+    void transitionSequence_keepsStatsConsistent() {
+        adapter.confirmCommissionsByCampaignIds(List.of(campaignId));
+        adapter.markCommissionsAsPaidByCreatorId(creatorId);
+        assertThat(adapter.cancelCommissionsByOrderIds(orderIds)).isZero();
+
+        assertThat(statusesByOrder()).containsExactly("PAID", "PAID", "PAID", "CANCELLED");
+        assertStatsMatchLedgers();
+    }
+
+    @Test
+    @DisplayName("빈 ID 목록은 UPDATE 없이 0건")
+    void emptyIds_noop() {
+        assertThat(adapter.cancelCommissionsByOrderIds(List.of())).isZero();
+        assertThat(adapter.confirmCommissionsByOrderIds(List.of())).isZero();
+
+        assertThat(statusesByOrder()).containsExactlyElementsOf(STATUSES);
+    }
+
+    // ── Helpers ────────────────────────────────────────────────────────────────
+
+    /** 시드 순서(orderIds)대로 원장 상태 */
+    private List<String> statusesByOrder() {
+        return orderIds.stream()
+                .map(orderId -> jdbcTemplate.queryForObject("""
+                        SELECT cl.status::text FROM commission_ledgers cl
+                        JOIN attributions a ON a.id = cl.attribution_id
+                        WHERE a.order_id = ?
+                        """, String.class, orderId))
+                .toList();
+    }
+
+    private void assertStatsMatchLedgers() {
+        Map<String, Object> stats = jdbcTemplate.queryForMap("""
+                SELECT COALESCE(SUM(pending_commission), 0)   AS pending,
+                       COALESCE(SUM(confirmed_commission), 0) AS confirmed,
+                       COALESCE(SUM(paid_commission), 0)      AS paid,
+                       COALESCE(SUM(cancelled_commission), 0) AS cancelled
+                FROM link_daily_stats
+                WHERE link_id = ?
+                """, linkId);
+        Map<String, Object> ledgers = jdbcTemplate.queryForMap("""
+                SELECT COALESCE(SUM(CASE WHEN status = 'PENDING' THEN amount END), 0)   AS pending,
+                       COALESCE(SUM(CASE WHEN status = 'CONFIRMED' THEN amount END), 0) AS confirmed,
+                       COALESCE(SUM(CASE WHEN status = 'PAID' THEN amount END), 0)      AS paid,
+                       COALESCE(SUM(CASE WHEN status = 'CANCELLED' THEN amount END), 0) AS cancelled
+                FROM commission_ledgers
+                WHERE creator_id = ?
+                """, creatorId);
+
+        for (String bucket : List.of("pending", "confirmed", "paid", "cancelled")) {
+            assertThat((BigDecimal) stats.get(bucket))
+                    .as(bucket)
+                    .isEqualByComparingTo((BigDecimal) ledgers.get(bucket));
+        }
+    }
+
+    private Long insert(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    private Long insertConversion(Long storeId, String status, BigDecimal amount, LocalDateTime at) {
+        Long clickId = insert("""
+                INSERT INTO clicks (link_id, campaign_id, click_token, clicked_at)
+                VALUES (?, ?, ?, ?) RETURNING id
+                """, linkId, campaignId, "transition-token-" + status, at);
+        Long orderId = insert("INSERT INTO orders (store_id, external_order_id) VALUES (?, ?) RETURNING id",
+                storeId, "TRANSITION-ORDER-" + status);
+        Long attributionId = insert("""
+                INSERT INTO attributions (order_id, click_id, campaign_id, attributed_at)
+                VALUES (?, ?, ?, ?) RETURNING id
+                """, orderId, clickId, campaignId, at);
+        jdbcTemplate.update("""
+                INSERT INTO commission_ledgers (attribution_id, campaign_id, creator_id, seller_id, amount, status)
+                VALUES (?, ?, ?, ?, ?, CAST(? AS commission_status_enum))
+                """, attributionId, campaignId, creatorId, sellerId, amount, status);
+        return orderId;
+    }
+}
@@ -0,0 +1,108 @@
+package com.dooring.infrastructure.persistence.dashboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 클릭 delta 롤업 테스트 (V14)
+ *   - 클릭 INSERT는 link_daily_stats가 아닌 delta 테이블에만 쌓임 (리다이렉트끼리 롤업 행 잠금 경합 없음)
+ *   - 합산 전후 link_daily_stats_live 합계가 같고, 합산 후 delta가 비워짐
+ *   - 클릭 DELETE는 음수 delta로 반영
+ * 전제 조건:
+ *   - Docker PostgreSQL (localhost:5432/dooring) 실행 중
+ * 테스트 격리:
+ *   - @Transactional → 테스트 후 DB 자동 롤백
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+@Transactional
+class LinkDailyStatsRollupTest {
+
+    @Autowired private LinkDailyStatsRollup rollup;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Long linkId;
+
+    // ── Setup ──────────────────────────────────────────────────────────────────
+
+    @BeforeEach
+    void seed() {
+        Long sellerId = insert("INSERT INTO sellers (email, name) VALUES ('rollup-seller@dooring-test.io', '롤업셀러') RETURNING id");
+        Long creatorId = insert("INSERT INTO creators (email, nickname) VALUES ('rollup-creator@dooring-test.io', 'rollup-creator') RETURNING id");
+        Long platformId = insert("INSERT INTO platforms (code, name) VALUES ('ROLLUP-TEST', '롤업 테스트몰') RETURNING id");
+        Long storeId = insert("INSERT INTO stores (seller_id, platform_id, external_store_id) VALUES (?, ?, 'rollup-store') RETURNING id",
+                sellerId, platformId);
+        Long productId = insert("INSERT INTO products (store_id, external_product_id, name) VALUES (?, 'rollup-prod', '롤업상품') RETURNING id",
+                storeId);
+        linkId = insert("INSERT INTO links (creator_id, product_id, short_code) VALUES (?, ?, 'rollup1') RETURNING id",
+                creatorId, productId);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            jdbcTemplate.update("INSERT INTO clicks (link_id, click_token, clicked_at) VALUES (?, ?, ?)",
+                    linkId, "rollup-token-" + i, now.minusDays(i % 2));
+        }
+    }
+
+    @Test
+    @DisplayName("클릭은 delta에만 쌓이고 뷰에는 바로 보임")
+    void clicks_appendDeltas() {
+        assertThat(rolledUpClicks()).isZero();
+        assertThat(pendingDeltas()).isEqualTo(5);
+        assertThat(liveClicks()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("합산 후 delta가 비워지고 합계는 그대로")
+    void rollUp_movesDeltasIntoStats() {
+        rollup.rollUp();
+
+        assertThat(pendingDeltas()).isZero();
+        assertThat(rolledUpClicks()).isEqualTo(5);
+        assertThat(liveClicks()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("클릭 삭제는 음수 delta로 합산")
+    void deleteClicks_appendsNegativeDeltas() {
+        rollup.rollUp();
+        jdbcTemplate.update("DELETE FROM clicks WHERE link_id = ? AND click_token IN ('rollup-token-0', 'rollup-token-1')", linkId);
+
+        assertThat(liveClicks()).isEqualTo(3);
+
+        rollup.rollUp();
+
+        assertThat(pendingDeltas()).isZero();
+        assertThat(rolledUpClicks()).isEqualTo(3);
+    }
+
+    private long rolledUpClicks() {
+        return sum("SELECT COALESCE(SUM(clicks), 0) FROM link_daily_stats WHERE link_id = ?");
+    }
+
+    private long pendingDeltas() {
+        return sum("SELECT COALESCE(SUM(clicks), 0) FROM link_daily_stats_click_deltas WHERE link_id = ?");
+    }
+
+    private long liveClicks() {
+        return sum("SELECT COALESCE(SUM(clicks), 0) FROM link_daily_stats_live WHERE link_id = ?");
+    }
+
+    private long sum(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class, linkId);
+    }
+
+    private Long insert(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
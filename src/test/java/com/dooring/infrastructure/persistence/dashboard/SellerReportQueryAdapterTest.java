@@ -0,0 +1,253 @@
+package com.dooring.infrastructure.persistence.dashboard;
+
+import com.dooring.domain.dashboard.querymodel.CampaignPerformance;
+import com.dooring.domain.dashboard.querymodel.SellerReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 셀러 리포트 쿼리 회귀 테스트
+ * 시드 데이터에 대해 어댑터(롤업 + 차원별 CTE) 결과가 원본 테이블에서 직접 센 값과 같은지 확인
+ *   - 캠페인 1개에 링크 여러 개 × 클릭 여러 개 × 전환 여러 개 (fan-out이 생기던 조합)
+ *   - 커미션 상태 전이(PENDING → CONFIRMED) 포함
+ * 전제 조건:
+ *   - Docker PostgreSQL (localhost:5432/dooring) 실행 중
+ * 테스트 격리:
+ *   - @Transactional → 테스트 후 DB 자동 롤백
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+@Transactional
+class SellerReportQueryAdapterTest {
+
+    @Autowired private SellerReportQueryAdapter adapter;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Long sellerId;
+
+    // ── Setup ──────────────────────────────────────────────────────────────────
+
+    @BeforeEach
+    void seed() {
+        sellerId = insert("INSERT INTO sellers (email, name) VALUES ('report-seller@dooring-test.io', '리포트셀러') RETURNING id");
+        Long creatorA = insert("INSERT INTO creators (email, nickname) VALUES ('report-a@dooring-test.io', 'report-a') RETURNING id");
+        Long creatorB = insert("INSERT INTO creators (email, nickname) VALUES ('report-b@dooring-test.io', 'report-b') RETURNING id");
+        Long creatorC = insert("INSERT INTO creators (email, nickname) VALUES ('report-c@dooring-test.io', 'report-c') RETURNING id");
+
+        Long platformId = insert("INSERT INTO platforms (code, name) VALUES ('REPORT-TEST', '리포트 테스트몰') RETURNING id");
+        Long storeId = insert("INSERT INTO stores (seller_id, platform_id, external_store_id) VALUES (?, ?, 'report-store') RETURNING id",
+                sellerId, platformId);
+
+        Long productA = insert("INSERT INTO products (store_id, external_product_id, name) VALUES (?, 'report-prod-a', '상품A') RETURNING id", storeId);
+        Long productB = insert("INSERT INTO products (store_id, external_product_id, name) VALUES (?, 'report-prod-b', '상품B') RETURNING id", storeId);
+
+        LocalDateTime now = LocalDateTime.now();
+        Long campaignA = insertCampaign(productA, now.minusDays(10), true);
+        Long campaignOld = insertCampaign(productA, now.minusDays(200), false);
+        Long campaignB = insertCampaign(productB, now.minusDays(5), true);
+
+        // 상품A 링크 3개, 상품B 링크 1개
+        List<Long> linksA = List.of(
+                insertLink(creatorA, productA, "rptA1"),
+                insertLink(creatorB, productA, "rptA2"),
+                insertLink(creatorC, productA, "rptA3"));
+        Long linkB = insertLink(creatorA, productB, "rptB1");
+
+        // 클릭: 링크마다 여러 개, 이전 캠페인·캠페인 없음 클릭도 섞음
+        int token = 0;
+        for (Long linkId : linksA) {
+            for (int i = 0; i < 7; i++) {
+                Long campaignId = i < 5 ? campaignA : (i == 5 ? campaignOld : null);
+                insertClick(linkId, campaignId, "rpt-token-" + token++, now.minusDays(i));
+            }
+        }
+        for (int i = 0; i < 4; i++) {
+            insertClick(linkB, campaignB, "rpt-token-" + token++, now.minusDays(i));
+        }
+
+        // 전환 + 커미션: 캠페인A 4건, 이전 캠페인 1건, 캠페인B 2건
+        List<Long> clicksA = jdbcTemplate.queryForList(
+                "SELECT id FROM clicks WHERE campaign_id = ? ORDER BY id", Long.class, campaignA);
+        List<Long> clicksOld = jdbcTemplate.queryForList(
+                "SELECT id FROM clicks WHERE campaign_id = ? ORDER BY id", Long.class, campaignOld);
+        List<Long> clicksB = jdbcTemplate.queryForList(
+                "SELECT id FROM clicks WHERE campaign_id = ? ORDER BY id", Long.class, campaignB);
+
+        String[] statuses = {"PENDING", "CONFIRMED", "PAID", "CANCELLED"};
+        int order = 0;
+        for (int i = 0; i < 4; i++) {
+            insertConversion(storeId, "RPT-ORDER-" + order++, clicksA.get(i * 3), campaignA, creatorA,
+                    new BigDecimal("3000"), statuses[i], now.minusDays(i));
+        }
+        insertConversion(storeId, "RPT-ORDER-" + order++, clicksOld.get(0), campaignOld, creatorB,
+                new BigDecimal("1500"), "PAID", now.minusDays(6));
+        for (int i = 0; i < 2; i++) {
+            insertConversion(storeId, "RPT-ORDER-" + order++, clicksB.get(i), campaignB, creatorA,
+                    new BigDecimal("4500"), "PENDING", now.minusDays(i));
+        }
+
+        // 상태 전이 (UPDATE 트리거 경로)
+        jdbcTemplate.update("""
+                UPDATE commission_ledgers SET status = 'CONFIRMED', confirmed_at = now()
+                WHERE campaign_id = ? AND status = 'PENDING'
+                """, campaignB);
+    }
+
+    // ── Tests ──────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("캠페인별 성과: 원본 테이블 집계와 동일")
+    void campaignPerformances_matchRawTables() {
+        List<CampaignPerformance> actual = adapter.findCampaignPerformancesBySeller(sellerId);
+
+        List<Map<String, Object>> expected = jdbcTemplate.queryForList("""
+                SELECT
+                    cam.id AS campaign_id,
+                    (SELECT COUNT(*) FROM links l WHERE l.product_id = cam.product_id) AS total_links,
+                    (SELECT COUNT(*) FROM clicks c JOIN links l ON l.id = c.link_id
+                     WHERE c.campaign_id = cam.id AND l.product_id = cam.product_id) AS total_clicks,
+                    (SELECT COUNT(*) FROM attributions a WHERE a.campaign_id = cam.id) AS total_conversions,
+                    (SELECT COALESCE(SUM(cl.amount), 0) FROM commission_ledgers cl
+                     JOIN attributions a ON a.id = cl.attribution_id
+                     WHERE a.campaign_id = cam.id) AS total_commission
+                FROM campaigns cam
+                WHERE cam.seller_id = ?
+                ORDER BY cam.id
+                """, sellerId);
+
+        assertThat(expected).hasSize(3);
+        assertCampaignPerformances(actual, expected);
+    }
+
+    @Test
+    @DisplayName("캠페인별 성과 (기간): 기간 내 일자만 원본 테이블 집계와 동일")
+    void campaignPerformancesByPeriod_matchRawTables() {
+        LocalDateTime start = LocalDateTime.now().minusDays(2);
+        LocalDateTime end = LocalDateTime.now();
+
+        List<CampaignPerformance> actual =
+                adapter.findCampaignPerformancesBySellerAndPeriod(sellerId, start, end);
+
+        List<Map<String, Object>> expected = jdbcTemplate.queryForList("""
+                SELECT
+                    cam.id AS campaign_id,
+                    (SELECT COUNT(*) FROM links l WHERE l.product_id = cam.product_id) AS total_links,
+                    (SELECT COUNT(*) FROM clicks c JOIN links l ON l.id = c.link_id
+                     WHERE c.campaign_id = cam.id AND l.product_id = cam.product_id
+                       AND (c.clicked_at AT TIME ZONE 'Asia/Seoul')::date BETWEEN ? AND ?) AS total_clicks,
+                    (SELECT COUNT(*) FROM attributions a
+                     WHERE a.campaign_id = cam.id
+                       AND (a.attributed_at AT TIME ZONE 'Asia/Seoul')::date BETWEEN ? AND ?) AS total_conversions,
+                    (SELECT COALESCE(SUM(cl.amount), 0) FROM commission_ledgers cl
+                     JOIN attributions a ON a.id = cl.attribution_id
+                     WHERE a.campaign_id = cam.id
+                       AND (a.attributed_at AT TIME ZONE 'Asia/Seoul')::date BETWEEN ? AND ?) AS total_commission
+                FROM campaigns cam
+                WHERE cam.seller_id = ?
+                ORDER BY cam.id
+                """,
+                start.toLocalDate(), end.toLocalDate(),
+                start.toLocalDate(), end.toLocalDate(),
+                start.toLocalDate(), end.toLocalDate(),
+                sellerId);
+
+        assertCampaignPerformances(actual, expected);
+    }
+
+    @Test
+    @DisplayName("셀러 리포트: 캠페인 수·전환 수·상태별 커미션이 원본 테이블 집계와 동일")
+    void sellerReport_matchesRawTables() {
+        SellerReport report = adapter.findSellerReport(sellerId).orElseThrow();
+
+        Map<String, Object> expected = jdbcTemplate.queryForMap("""
+                SELECT
+                    (SELECT COUNT(*) FROM campaigns cam WHERE cam.seller_id = ?) AS total_campaigns,
+                    (SELECT COUNT(*) FROM attributions a
+                     JOIN campaigns cam ON cam.id = a.campaign_id
+                     WHERE cam.seller_id = ?) AS total_conversions,
+                    COALESCE(SUM(CASE WHEN cl.status = 'PENDING' THEN cl.amount END), 0) AS pending_commission,
+                    COALESCE(SUM(CASE WHEN cl.status = 'CONFIRMED' THEN cl.amount END), 0) AS confirmed_commission,
+                    COALESCE(SUM(CASE WHEN cl.status = 'PAID' THEN cl.amount END), 0) AS paid_commission
+                FROM commission_ledgers cl
+                JOIN attributions a ON a.id = cl.attribution_id
+                JOIN campaigns cam ON cam.id = a.campaign_id
+                WHERE cam.seller_id = ?
+                """, sellerId, sellerId, sellerId);
+
+        assertThat(report.getTotalCampaigns()).isEqualTo(((Number) expected.get("total_campaigns")).longValue());
+        assertThat(report.getTotalConversions()).isEqualTo(((Number) expected.get("total_conversions")).longValue());
+        assertThat(report.getPendingCommission()).isEqualByComparingTo((BigDecimal) expected.get("pending_commission"));
+        assertThat(report.getConfirmedCommission()).isEqualByComparingTo((BigDecimal) expected.get("confirmed_commission"));
+        assertThat(report.getPaidCommission()).isEqualByComparingTo((BigDecimal) expected.get("paid_commission"));
+        assertThat(report.getCampaignPerformances()).hasSize(3);
+    }
+
+    // ── Helpers ────────────────────────────────────────────────────────────────
+
+    private void assertCampaignPerformances(List<CampaignPerformance> actual, List<Map<String, Object>> expected) {
+        List<CampaignPerformance> sorted = actual.stream()
+                .sorted(Comparator.comparing(CampaignPerformance::getCampaignId))
+                .toList();
+
+        assertThat(sorted).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            CampaignPerformance perf = sorted.get(i);
+            Map<String, Object> row = expected.get(i);
+
+            assertThat(perf.getCampaignId()).isEqualTo(((Number) row.get("campaign_id")).longValue());
+            assertThat(perf.getTotalLinks()).isEqualTo(((Number) row.get("total_links")).longValue());
+            assertThat(perf.getTotalClicks()).isEqualTo(((Number) row.get("total_clicks")).longValue());
+            assertThat(perf.getTotalConversions()).isEqualTo(((Number) row.get("total_conversions")).longValue());
+            assertThat(perf.getTotalCommission()).isEqualByComparingTo((BigDecimal) row.get("total_commission"));
+        }
+    }
+
+    private Long insert(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    private Long insertCampaign(Long productId, LocalDateTime startsAt, boolean active) {
+        return insert("""
+                INSERT INTO campaigns (product_id, seller_id, commission_amount, starts_at, ends_at, is_active)
+                VALUES (?, ?, 3000, ?, ?, ?) RETURNING id
+                """, productId, sellerId, startsAt, startsAt.plusDays(91), active);
+    }
+
+    private Long insertLink(Long creatorId, Long productId, String shortCode) {
+        return insert("INSERT INTO links (creator_id, product_id, short_code) VALUES (?, ?, ?) RETURNING id",
+                creatorId, productId, shortCode);
+    }
+
+    private void insertClick(Long linkId, Long campaignId, String clickToken, LocalDateTime clickedAt) {
+        jdbcTemplate.update("INSERT INTO clicks (link_id, campaign_id, click_token, clicked_at) VALUES (?, ?, ?, ?)",
+                linkId, campaignId, clickToken, clickedAt);
+    }
+
+    private void insertConversion(Long storeId, String externalOrderId, Long clickId, Long campaignId, Long creatorId,
+                                  BigDecimal amount, String status, LocalDateTime attributedAt) {
+        Long orderId = insert("INSERT INTO orders (store_id, external_order_id) VALUES (?, ?) RETURNING id",
+                storeId, externalOrderId);
+        Long attributionId = insert("""
+                INSERT INTO attributions (order_id, click_id, campaign_id, attributed_at)
+                VALUES (?, ?, ?, ?) RETURNING id
+                """, orderId, clickId, campaignId, attributedAt);
+        jdbcTemplate.update("""
+                INSERT INTO commission_ledgers (attribution_id, campaign_id, creator_id, seller_id, amount, status)
+                VALUES (?, ?, ?, ?, ?, CAST(? AS commission_status_enum))
+                """, attributionId, campaignId, creatorId, sellerId, amount, status);
+    }
+}
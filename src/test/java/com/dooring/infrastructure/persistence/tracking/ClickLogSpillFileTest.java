@@ -0,0 +1,130 @@
+package com.dooring.infrastructure.persistence.tracking;
+
+import com.dooring.domain.tracking.dto.ClickLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 클릭 로그 스필 파일 단위 테스트 (DB 불필요)
+ *   - replay는 배치 단위로 전달하고 끝나면 파일 삭제
+ *   - 도중 실패 시 .replaying 파일이 남아 다음 replay(재기동 포함)에서 이어서 처리
+ */
+class ClickLogSpillFileTest {
+
+    private static final LocalDateTime CLICKED_AT = LocalDateTime.of(2026, 1, 15, 12, 30, 0, 123_000_000);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir Path dir;
+
+    private Path path;
+    private Path replayingPath;
+    private ClickLogSpillFile spillFile;
+
+    // ── Setup ──────────────────────────────────────────────────────────────────
+
+    @BeforeEach
+    void setUp() {
+        path = dir.resolve("click-spill.jsonl");
+        replayingPath = dir.resolve("click-spill.jsonl.replaying");
+        spillFile = new ClickLogSpillFile(path, objectMapper);
+    }
+
+    // ── Tests ──────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("replay: 기록한 로그를 배치 단위로 그대로 전달하고 파일 삭제")
+    void replay_deliversInBatchesAndDeletes() throws IOException {
+        spillFile.append(clickLogs(0, 3));
+        spillFile.append(clickLogs(3, 5));
+
+        List<List<ClickLog>> batches = new ArrayList<>();
+        int replayed = spillFile.replay(2, batch -> batches.add(List.copyOf(batch)));
+
+        assertThat(replayed).isEqualTo(5);
+        assertThat(batches).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(batches.stream().flatMap(List::stream).toList()).isEqualTo(clickLogs(0, 5));
+        assertThat(path).doesNotExist();
+        assertThat(replayingPath).doesNotExist();
+        assertThat(spillFile.replay(2, batch -> { })).isZero();
+    }
+
+    @Test
+    @DisplayName("replay 실패: .replaying이 남고, 그 사이 스필은 새 파일로 → 다음 replay에서 순서대로 처리")
+    void replayFailure_keepsReplayingFile() throws IOException {
+        spillFile.append(clickLogs(0, 3));
+
+        assertThatThrownBy(() -> spillFile.replay(2, batch -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(replayingPath).exists();
+        assertThat(path).doesNotExist();
+
+        spillFile.append(clickLogs(3, 4));
+
+        List<ClickLog> delivered = new ArrayList<>();
+        assertThat(spillFile.replay(2, delivered::addAll)).isEqualTo(3);
+        assertThat(delivered).isEqualTo(clickLogs(0, 3));
+        assertThat(replayingPath).doesNotExist();
+        assertThat(path).exists();
+
+        delivered.clear();
+        assertThat(spillFile.replay(2, delivered::addAll)).isEqualTo(1);
+        assertThat(delivered).isEqualTo(clickLogs(3, 4));
+    }
+
+    @Test
+    @DisplayName("재기동: 이전 프로세스가 남긴 .replaying 파일부터 처리")
+    void restart_resumesLeftoverReplayingFile() throws IOException {
+        spillFile.append(clickLogs(0, 2));
+        assertThatThrownBy(() -> spillFile.replay(10, batch -> {
+            throw new IllegalStateException("killed");
+        })).isInstanceOf(IllegalStateException.class);
+        spillFile.close();
+
+        ClickLogSpillFile restarted = new ClickLogSpillFile(path, objectMapper);
+        List<ClickLog> delivered = new ArrayList<>();
+
+        assertThat(restarted.replay(10, delivered::addAll)).isEqualTo(2);
+        assertThat(delivered).isEqualTo(clickLogs(0, 2));
+        assertThat(replayingPath).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("기록 도중 잘린 마지막 줄은 건너뜀")
+    void truncatedLine_skipped() throws IOException {
+        spillFile.append(clickLogs(0, 2));
+        spillFile.close();
+        Files.writeString(path, "{\"linkId\":1,\"clickTo", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        List<ClickLog> delivered = new ArrayList<>();
+
+        assertThat(spillFile.replay(10, delivered::addAll)).isEqualTo(2);
+        assertThat(delivered).isEqualTo(clickLogs(0, 2));
+    }
+
+    private static List<ClickLog> clickLogs(int from, int to) {
+        return IntStream.range(from, to)
+                .mapToObj(i -> new ClickLog(1L, 2L, new BigDecimal("3000"), null, "spill-token-" + i,
+                        "10.0.0.1", "Mozilla/5.0", CLICKED_AT, CLICKED_AT.plusHours(24)))
+                .toList();
+    }
+}
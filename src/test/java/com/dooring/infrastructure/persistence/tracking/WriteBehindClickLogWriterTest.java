@@ -0,0 +1,216 @@
+package com.dooring.infrastructure.persistence.tracking;
+
+import com.dooring.domain.tracking.dto.ClickLog;
+import com.dooring.domain.tracking.port.AttributionSessionStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 클릭 로그 write-behind 단위 테스트 (DB 불필요, ClickLogJdbcWriter는 mock)
+ *   - 큐 포화 → 스필 파일
+ *   - DB 반영 실패 → 스필 파일 → replay로 재반영
+ *   - 종료 시 큐에 남은 로그 반영, shutdown-timeout 초과분은 스필 파일로
+ */
+class WriteBehindClickLogWriterTest {
+
+    private static final LocalDateTime CLICKED_AT = LocalDateTime.of(2026, 1, 15, 12, 30);
+    private static final Duration LONG = Duration.ofHours(1);
+
+    private final ClickLogJdbcWriter jdbcWriter = mock(ClickLogJdbcWriter.class);
+    private final AttributionSessionStore sessionStore = mock(AttributionSessionStore.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /** insertAll에 전달된 클릭 토큰 (flusher는 배치 리스트를 재사용하므로 호출 시점에 복사) */
+    private final List<String> inserted = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @TempDir Path dir;
+
+    private WriteBehindClickLogWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (writer != null && writer.isRunning()) {
+            writer.stop();
+        }
+    }
+
+    // ── Tests ──────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("큐 포화: offer-timeout 안에 자리가 없으면 스필 파일에 기록하고 반환")
+    void queueFull_spills() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        stubInsert(() -> {
+            entered.countDown();
+            release.await();
+        });
+        writer = newWriter(1, LONG, LONG);
+        writer.start();
+
+        writer.append(clickLog(0));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        writer.append(clickLog(1));   // 큐 (용량 1)
+        writer.append(clickLog(2));   // 포화 → 스필
+
+        assertThat(spillLines()).hasSize(1);
+        assertThat(spillLines().get(0)).contains("wb-token-2");
+        assertThat(spilledCount()).isEqualTo(1);
+
+        release.countDown();
+        writer.stop();
+
+        assertThat(inserted).startsWith("wb-token-0", "wb-token-1");
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패: 배치를 스필 파일로 넘기고 replay-interval 뒤 재반영")
+    void dbFailure_spillsAndReplays() {
+        AtomicInteger calls = new AtomicInteger();
+        stubInsert(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("db down");
+            }
+        });
+        writer = newWriter(100, Duration.ofMillis(50), LONG);
+        writer.start();
+
+        writer.append(clickLog(0));
+
+        verify(jdbcWriter, timeout(5_000).times(2)).insertAll(anyList(), anyBoolean());
+        writer.stop();
+
+        assertThat(spilledCount()).isEqualTo(1);
+        assertThat(inserted).containsExactly("wb-token-0");
+        assertThat(dir.resolve("click-spill.jsonl")).doesNotExist();
+        assertThat(dir.resolve("click-spill.jsonl.replaying")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("기동 시 이전 프로세스가 남긴 .replaying 파일을 먼저 반영")
+    void start_replaysLeftoverReplayingFile() throws IOException {
+        ClickLogSpillFile previous = new ClickLogSpillFile(dir.resolve("click-spill.jsonl"), new ObjectMapper().findAndRegisterModules());
+        previous.append(List.of(clickLog(0), clickLog(1)));
+        try {
+            previous.replay(10, batch -> {
+                throw new IllegalStateException("killed");
+            });
+        } catch (IllegalStateException expected) {
+            // 재처리 도중 종료된 상태 재현
+        }
+        previous.close();
+        assertThat(dir.resolve("click-spill.jsonl.replaying")).exists();
+
+        stubInsert(() -> { });
+        writer = newWriter(100, LONG, LONG);
+        writer.start();
+
+        verify(jdbcWriter, timeout(5_000).times(1)).insertAll(anyList(), anyBoolean());
+        writer.stop();
+
+        assertThat(inserted).containsExactly("wb-token-0", "wb-token-1");
+        assertThat(dir.resolve("click-spill.jsonl.replaying")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("종료: 큐에 남은 로그를 모두 반영한 뒤 내려감")
+    void stop_drainsQueue() throws IOException {
+        stubInsert(() -> Thread.sleep(20));
+        writer = newWriter(100, LONG, LONG);
+        writer.start();
+
+        IntStream.range(0, 10).forEach(i -> writer.append(clickLog(i)));
+        writer.stop();
+
+        assertThat(inserted).containsExactlyElementsOf(
+                IntStream.range(0, 10).mapToObj(i -> "wb-token-" + i).toList());
+        assertThat(spilledCount()).isZero();
+        assertThat(spillLines()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("종료: shutdown-timeout 안에 못 끝낸 로그는 스필 파일로")
+    void stop_timeoutSpillsRemaining() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        stubInsert(() -> {
+            entered.countDown();
+            release.await();
+        });
+        writer = newWriter(100, LONG, Duration.ofMillis(100));
+        writer.start();
+
+        writer.append(clickLog(0));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        writer.append(clickLog(1));
+        writer.append(clickLog(2));
+        writer.stop();
+
+        assertThat(spillLines()).hasSize(2);
+        assertThat(spilledCount()).isEqualTo(2);
+    }
+
+    // ── Helpers ────────────────────────────────────────────────────────────────
+
+    @FunctionalInterface
+    private interface InsertBehavior {
+        void run() throws Exception;
+    }
+
+    private void stubInsert(InsertBehavior behavior) {
+        doAnswer(invocation -> {
+            List<ClickLog> batch = invocation.getArgument(0);
+            List<String> tokens = batch.stream().map(ClickLog::clickToken).toList();
+            behavior.run();
+            inserted.addAll(tokens);
+            return tokens.size();
+        }).when(jdbcWriter).insertAll(anyList(), anyBoolean());
+    }
+
+    private WriteBehindClickLogWriter newWriter(int queueCapacity, Duration replayInterval, Duration shutdownTimeout) {
+        return new WriteBehindClickLogWriter(jdbcWriter, sessionStore, new ObjectMapper().findAndRegisterModules(),
+                meterRegistry, queueCapacity, 2, Duration.ofMillis(10), Duration.ofMillis(5),
+                dir.resolve("click-spill.jsonl"), replayInterval, shutdownTimeout, false);
+    }
+
+    private List<String> spillLines() throws IOException {
+        Path path = dir.resolve("click-spill.jsonl");
+        return Files.exists(path) ? Files.readAllLines(path) : List.of();
+    }
+
+    private double spilledCount() {
+        return meterRegistry.counter("dooring.click.write_behind.spilled").count();
+    }
+
+    private static ClickLog clickLog(int i) {
+        return new ClickLog(1L, 2L, new BigDecimal("3000"), null, "wb-token-" + i,
+                "10.0.0.1", "Mozilla/5.0", CLICKED_AT, CLICKED_AT.plusHours(24));
+    }
+}
@@ -0,0 +1,43 @@
+-- ============================================================
+-- 클릭 토큰 방식별 INSERT 속도 / 인덱스 크기 비교 (UUIDv4 vs UUIDv7)
+-- 실행: psql -h localhost -U postgres -d dooring -f src/test/load/click-token-index.sql
+--
+-- clicks.click_token과 같은 TEXT UNIQUE 컬럼에 클릭 ROWS건을 1ms 간격 시각으로 적재
+-- bench_clicks_* 테이블을 만들고 마지막에 삭제 — 실제 clicks 테이블은 건드리지 않음
+-- (WAL·shared_buffers 영향까지 보도록 임시 테이블이 아닌 일반 테이블 사용)
+-- ============================================================
+\set rows 2000000
+\timing on
+
+-- TimeOrderedClickTokenGenerator와 같은 레이아웃: 상위 48비트 Unix ms + ver 7 + 난수
+CREATE FUNCTION pg_temp.uuid_v7(ts timestamptz) RETURNS uuid AS $$
+    SELECT encode(
+        set_bit(set_bit(
+            overlay(uuid_send(gen_random_uuid())
+                    PLACING substring(int8send((extract(epoch FROM ts) * 1000)::bigint) FROM 3)
+                    FROM 1 FOR 6),
+            52, 1), 53, 1),
+        'hex')::uuid
+$$ LANGUAGE sql VOLATILE;
+
+CREATE TABLE bench_clicks_v4 (id BIGSERIAL PRIMARY KEY, click_token TEXT NOT NULL UNIQUE, clicked_at TIMESTAMPTZ NOT NULL);
+CREATE TABLE bench_clicks_v7 (id BIGSERIAL PRIMARY KEY, click_token TEXT NOT NULL UNIQUE, clicked_at TIMESTAMPTZ NOT NULL);
+
+-- 1. UUIDv4 (random)
+INSERT INTO bench_clicks_v4 (click_token, clicked_at)
+SELECT gen_random_uuid()::text, now() + g * interval '1 millisecond'
+FROM generate_series(1, :rows) g;
+
+-- 2. UUIDv7 (uuid-v7)
+INSERT INTO bench_clicks_v7 (click_token, clicked_at)
+SELECT pg_temp.uuid_v7(now() + g * interval '1 millisecond')::text, now() + g * interval '1 millisecond'
+FROM generate_series(1, :rows) g;
+
+-- 3. 인덱스 크기 (v4는 페이지 분할로 빈 공간이 많아 더 큼)
+SELECT c.relname AS index_name,
+       pg_size_pretty(pg_relation_size(c.oid)) AS index_size
+FROM pg_class c
+WHERE c.relname IN ('bench_clicks_v4_click_token_key', 'bench_clicks_v7_click_token_key')
+ORDER BY c.relname;
+
+DROP TABLE bench_clicks_v4, bench_clicks_v7;
@@ -0,0 +1,70 @@
+#!/usr/bin/env bash
+# ============================================================
+# 플랫폼 스레드 vs 가상 스레드 리다이렉트 비교 (동시 연결 10k)
+#
+# 전제: Docker PostgreSQL + Redis 실행 중, ./gradlew bootJar 완료, k6 설치
+#       SHORT_CODE는 dev.http 3-1로 미리 발급
+# 사용: SHORT_CODE=abc1234 src/test/load/compare-thread-modes.sh
+#
+# 모드별로 앱을 새로 띄우고(JIT·캐시 조건 동일) k6 결과와 메모리 샘플을 build/load/ 에 저장
+# - 부하기 1대(IP·UA 동일)라 요청 제한·연타 클릭 필터는 끔 (켜두면 429 / 저장 생략으로 측정이 왜곡됨)
+# - <mode>-k6.json      : k6 요약 (http_reqs rate = 처리량, http_req_duration 분위수)
+# - <mode>-memory.csv   : 1초 간격 RSS(KB) / 힙 사용량 / live 스레드 수
+# ============================================================
+set -euo pipefail
+
+: "${SHORT_CODE:?SHORT_CODE 환경변수가 필요합니다}"
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+MANAGEMENT_URL="${MANAGEMENT_URL:-http://localhost:8081}"
+JAR="${JAR:-$(ls build/libs/*.jar | grep -v plain | head -n 1)}"
+OUT_DIR="build/load"
+JAVA_OPTS="${JAVA_OPTS:--Xms1g -Xmx1g}"
+mkdir -p "$OUT_DIR"
+
+metric() {
+  curl -s "$MANAGEMENT_URL/actuator/metrics/$1" | sed -E 's/.*"value":([0-9.E+-]+).*/\1/'
+}
+
+run_mode() {
+  local mode="$1" virtual="$2"
+  echo "=== $mode (VIRTUAL_THREADS_ENABLED=$virtual) ==="
+
+  VIRTUAL_THREADS_ENABLED="$virtual" \
+  TOMCAT_MAX_CONNECTIONS=12000 \
+  RATE_LIMIT_ENABLED=false \
+  DUPLICATE_CLICK_FILTER_ENABLED=false \
+  CLICK_WRITE_MODE="${CLICK_WRITE_MODE:-write-behind}" \
+    java $JAVA_OPTS -jar "$JAR" > "$OUT_DIR/$mode-app.log" 2>&1 &
+  local app_pid=$!
+  trap 'kill $app_pid 2>/dev/null || true' EXIT
+
+  until curl -sf "$MANAGEMENT_URL/actuator/health" > /dev/null; do sleep 1; done
+
+  echo "epoch,rss_kb,heap_used_bytes,threads_live" > "$OUT_DIR/$mode-memory.csv"
+  (
+    while kill -0 "$app_pid" 2>/dev/null; do
+      echo "$(date +%s),$(ps -o rss= -p "$app_pid" | tr -d ' '),$(metric 'jvm.memory.used?tag=area:heap'),$(metric jvm.threads.live)" \
+        >> "$OUT_DIR/$mode-memory.csv"
+      sleep 1
+    done
+  ) &
+  local sampler_pid=$!
+
+  k6 run --quiet \
+    -e BASE_URL="$BASE_URL" -e SHORT_CODE="$SHORT_CODE" \
+    --summary-export "$OUT_DIR/$mode-k6.json" \
+    src/test/load/redirect-10k.js || true
+
+  kill "$app_pid" 2>/dev/null || true
+  wait "$app_pid" 2>/dev/null || true
+  kill "$sampler_pid" 2>/dev/null || true
+  trap - EXIT
+
+  echo "$mode: http_reqs/s=$(jq '.metrics.http_reqs.rate' "$OUT_DIR/$mode-k6.json")" \
+       "p99(ms)=$(jq '.metrics.http_req_duration["p(99)"]' "$OUT_DIR/$mode-k6.json")" \
+       "peak_rss_kb=$(tail -n +2 "$OUT_DIR/$mode-memory.csv" | cut -d, -f2 | sort -n | tail -n 1)" \
+       "peak_threads=$(tail -n +2 "$OUT_DIR/$mode-memory.csv" | cut -d, -f4 | sort -n | tail -n 1)"
+}
+
+run_mode platform false
+run_mode virtual true
@@ -0,0 +1,149 @@
+// ============================================================
+// 카탈로그 동기화용 목 플랫폼 서버 (Cafe24 / 아임웹 상품 목록 API 흉내, 외부 의존성 없음)
+// 실행: java src/test/load/mock-platform/MockPlatformServer.java
+//       PORT=18080 PRODUCTS=100000 CHANGE_PERIOD_MINUTES=60 LATENCY_MS=20
+//
+// - 스토어마다 PRODUCTS개 상품을 결정적으로 생성 (메모리에 들고 있지 않음)
+// - 상품 i는 CHANGE_PERIOD_MINUTES 분마다 한 번 가격이 바뀜 (상품별로 시각을 엇갈려 분당 약 PRODUCTS / 주기 개 변경)
+//   → 증분 동기화가 받는 양·반영하는 양을 재현
+// - LATENCY_MS: 응답마다 넣는 지연 (실제 API 왕복 흉내)
+//
+// platforms.base_api_url 설정:
+//   cafe24: http://localhost:18080/cafe24/{mallId}
+//   imweb : http://localhost:18080/imweb
+// ============================================================
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+public class MockPlatformServer {
+
+    private static final int PRODUCTS = Integer.parseInt(env("PRODUCTS", "100000"));
+    private static final long CHANGE_PERIOD_MINUTES = Long.parseLong(env("CHANGE_PERIOD_MINUTES", "60"));
+    private static final long LATENCY_MS = Long.parseLong(env("LATENCY_MS", "20"));
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    public static void main(String[] args) throws IOException {
+        int port = Integer.parseInt(env("PORT", "18080"));
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.createContext("/cafe24/", MockPlatformServer::cafe24Products);
+        server.createContext("/imweb/v2/shop/products", MockPlatformServer::imwebProducts);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        System.out.printf("mock platform on :%d — %d products/store, change period %d min%n",
+                port, PRODUCTS, CHANGE_PERIOD_MINUTES);
+    }
+
+    /** GET /cafe24/{mallId}/api/v2/admin/products?limit=&since_product_no=&updated_start_date= */
+    private static void cafe24Products(HttpExchange exchange) throws IOException {
+        Map<String, String> query = query(exchange);
+        int limit = Integer.parseInt(query.getOrDefault("limit", "100"));
+        int sinceProductNo = Integer.parseInt(query.getOrDefault("since_product_no", "0"));
+        long updatedSince = query.containsKey("updated_start_date")
+                ? OffsetDateTime.parse(query.get("updated_start_date")).toEpochSecond()
+                : Long.MIN_VALUE;
+
+        StringBuilder json = new StringBuilder("{\"products\":[");
+        int count = 0;
+        for (int no = sinceProductNo + 1; no <= PRODUCTS && count < limit; no++) {
+            long updatedAt = updatedAt(no);
+            if (updatedAt < updatedSince) {
+                continue;
+            }
+            if (count++ > 0) {
+                json.append(',');
+            }
+            json.append("{\"product_no\":").append(no)
+                    .append(",\"product_name\":\"목 상품 ").append(no).append('"')
+                    .append(",\"price\":\"").append(price(no)).append(".00\"")
+                    .append(",\"display\":\"T\",\"selling\":\"").append(no % 50 == 0 ? 'F' : 'T').append('"')
+                    .append(",\"detail_image\":\"https://img.example.com/").append(no).append(".jpg\"")
+                    .append(",\"updated_date\":\"")
+                    .append(OffsetDateTime.ofInstant(Instant.ofEpochSecond(updatedAt), SEOUL)).append("\"}");
+        }
+        respond(exchange, json.append("]}").toString());
+    }
+
+    /** GET /imweb/v2/shop/products?offset=&limit= */
+    private static void imwebProducts(HttpExchange exchange) throws IOException {
+        Map<String, String> query = query(exchange);
+        int offset = Integer.parseInt(query.getOrDefault("offset", "0"));
+        int limit = Integer.parseInt(query.getOrDefault("limit", "100"));
+
+        StringBuilder json = new StringBuilder("{\"code\":200,\"data\":{\"list\":[");
+        for (int no = offset + 1; no <= Math.min(PRODUCTS, offset + limit); no++) {
+            if (no > offset + 1) {
+                json.append(',');
+            }
+            json.append("{\"no\":").append(no)
+                    .append(",\"name\":\"목 상품 ").append(no).append('"')
+                    .append(",\"price\":").append(price(no))
+                    .append(",\"prod_status\":\"").append(no % 50 == 0 ? "soldout" : "sale").append('"')
+                    .append(",\"image_url\":\"https://img.example.com/").append(no).append(".jpg\"")
+                    .append(",\"edit_time\":").append(updatedAt(no)).append('}');
+        }
+        json.append("],\"pagenation\":{\"data_count\":").append(PRODUCTS).append("}}}");
+        respond(exchange, json.toString());
+    }
+
+    // ----------------------------------------------------------------
+
+    /** 상품 no의 마지막 변경 시각 (epoch 초) — 주기마다 한 번, 상품별로 엇갈림 */
+    private static long updatedAt(int no) {
+        long minute = System.currentTimeMillis() / 60_000;
+        return (minute - (minute + no) % CHANGE_PERIOD_MINUTES) * 60;
+    }
+
+    /** 변경될 때마다 바뀌는 가격 */
+    private static long price(int no) {
+        long version = (System.currentTimeMillis() / 60_000 + no) / CHANGE_PERIOD_MINUTES;
+        return 1000 + (no % 500) * 100 + (version % 10) * 10;
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static void respond(HttpExchange exchange, String json) throws IOException {
+        try {
+            Thread.sleep(LATENCY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isBlank() ? value : defaultValue;
+    }
+}
@@ -0,0 +1,45 @@
+// ============================================================
+// 리다이렉트 부하 테스트 — 동시 연결 10k
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e SHORT_CODE=<발급받은 shortCode> src/test/load/redirect-10k.js
+// 플랫폼/가상 스레드 비교는 compare-thread-modes.sh 사용
+// ============================================================
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const SHORT_CODE = __ENV.SHORT_CODE;
+const VUS = parseInt(__ENV.VUS || '10000');
+const DURATION = __ENV.DURATION || '2m';
+
+if (!SHORT_CODE) {
+  throw new Error('SHORT_CODE 환경변수가 필요합니다 (dev.http 3-1 링크 발급 결과)');
+}
+
+export const options = {
+  scenarios: {
+    redirect: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: VUS },   // 연결 10k까지 증가
+        { duration: DURATION, target: VUS }, // 유지 구간 (측정 대상)
+        { duration: '10s', target: 0 },
+      ],
+      gracefulRampDown: '10s',
+    },
+  },
+  // VU마다 keep-alive 연결 1개 → 동시 연결 수 = VU 수
+  noConnectionReuse: false,
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  thresholds: {
+    'checks': ['rate>0.99'],
+  },
+};
+
+export default function () {
+  const res = http.get(`${BASE_URL}/r/${SHORT_CODE}`, {
+    redirects: 0,
+    tags: { name: 'redirect' },
+  });
+  check(res, { 'status is 302': (r) => r.status === 302 });
+}
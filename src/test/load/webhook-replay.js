@@ -0,0 +1,64 @@
+// ============================================================
+// 주문 웹훅 재생 — 로컬 스텁 플랫폼 (오프라인 처리량 측정)
+// 실행: psql "$DATABASE_URL" -f src/test/load/webhooks/seed.sql
+//       ORDER_WEBHOOK_ENABLED=true CAFE24_WEBHOOK_SECRET=loadtest IMWEB_WEBHOOK_SECRET=loadtest ./gradlew bootRun
+//       k6 run -e BASE_URL=http://localhost:8080 -e WEBHOOK_SECRET=loadtest src/test/load/webhook-replay.js
+//
+// webhooks/recorded-orders.json 의 주문 수명주기(생성 → 결제 → 배송 → ...)를
+// 반복마다 새 주문 ID로 바꿔 순서대로 전송 → 플랫폼이 한꺼번에 몰아 보내는 상황 재현
+// 반영 결과는 dooring.webhook.* 메트릭과 orders / order_items 행 수로 확인
+// ============================================================
+import http from 'k6/http';
+import { check } from 'k6';
+import crypto from 'k6/crypto';
+import { SharedArray } from 'k6/data';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = parseInt(__ENV.RATE || '500');       // 초당 주문 수명주기 수
+const DURATION = __ENV.DURATION || '1m';
+const RUN_ID = __ENV.RUN_ID || `${Date.now()}`;   // 실행마다 주문 ID가 겹치지 않게
+const SECRET = __ENV.WEBHOOK_SECRET || 'loadtest';  // 서버의 CAFE24_/IMWEB_WEBHOOK_SECRET 과 같아야 함
+const SIGNATURE_HEADERS = { cafe24: 'X-Cafe24-Hmac-SHA256', imweb: 'X-Imweb-Signature' };
+
+const recorded = new SharedArray('recorded-orders', () => JSON.parse(open('./webhooks/recorded-orders.json')));
+
+export const options = {
+  scenarios: {
+    burst: {
+      executor: 'constant-arrival-rate',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  thresholds: {
+    'checks': ['rate>0.99'],
+  },
+};
+
+export default function () {
+  const lifecycle = recorded[__ITER % recorded.length];
+  const suffix = `-${RUN_ID}-${__VU}-${__ITER}`;
+
+  for (const event of lifecycle.events) {
+    const body = JSON.parse(JSON.stringify(event));
+    if (lifecycle.platform === 'cafe24') {
+      body.resource.order_id += suffix;
+    } else {
+      body.data.order_no += suffix;
+    }
+
+    const payload = JSON.stringify(body);
+    const res = http.post(`${BASE_URL}/api/webhooks/${lifecycle.platform}/orders`, payload, {
+      headers: {
+        'Content-Type': 'application/json',
+        [SIGNATURE_HEADERS[lifecycle.platform]]: crypto.hmac('sha256', SECRET, payload, 'base64'),
+      },
+      tags: { name: `webhook-${lifecycle.platform}` },
+    });
+    check(res, { 'status is 202': (r) => r.status === 202 });
+  }
+}
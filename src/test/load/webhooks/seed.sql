@@ -0,0 +1,18 @@
+-- ============================================================
+-- 웹훅 재생 부하 테스트용 플랫폼·스토어 (recorded-orders.json 의 mall_id / site_code)
+-- 실행: psql "$DATABASE_URL" -f src/test/load/webhooks/seed.sql
+-- ============================================================
+
+INSERT INTO platforms (code, name) VALUES ('cafe24', 'Cafe24'), ('imweb', '아임웹')
+ON CONFLICT (code) DO NOTHING;
+
+INSERT INTO sellers (email, name) VALUES ('webhook-load@dooring.test', '웹훅 부하 테스트')
+ON CONFLICT (email) DO NOTHING;
+
+INSERT INTO stores (seller_id, platform_id, external_store_id, name)
+SELECT s.id, p.id, v.external_store_id, v.name
+FROM (VALUES ('cafe24', 'loadtest-mall', '부하 테스트 Cafe24 몰'),
+             ('imweb', 'S-loadtest', '부하 테스트 아임웹 사이트')) AS v (platform_code, external_store_id, name)
+JOIN platforms p ON p.code = v.platform_code
+JOIN sellers s ON s.email = 'webhook-load@dooring.test'
+ON CONFLICT (platform_id, external_store_id) DO NOTHING;